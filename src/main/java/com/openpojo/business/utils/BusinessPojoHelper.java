@@ -55,7 +55,7 @@ public class BusinessPojoHelper {
 
     PojoClass pojoClass = PojoClassFactory.getPojoClass(clazz);
     while (pojoClass != null) {
-      for (PojoField pojoField : pojoClass.getPojoFieldsAnnotatedWith(BusinessKey.class)) {
+      for (PojoField pojoField : pojoClass.getAnnotatedPojoFields(BusinessKey.class)) {
         businessKeyFields.add(new DefaultBusinessKeyField(pojoField));
       }
       pojoClass = pojoClass.getSuperClass();
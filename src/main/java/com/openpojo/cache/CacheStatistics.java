@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.cache;
+
+/**
+ * This Interface exposes the usage counters of a cache.
+ *
+ * @author oshoukry
+ */
+public interface CacheStatistics {
+
+  /**
+   * @return the number of lookups that found a cached value.
+   */
+  long getHitCount();
+
+  /**
+   * @return the number of lookups that didn't find a cached value.
+   */
+  long getMissCount();
+
+  /**
+   * @return the number of entries dropped because their key or value got garbage collected.
+   */
+  long getEvictionCount();
+}
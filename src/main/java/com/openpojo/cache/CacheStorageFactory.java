@@ -18,6 +18,7 @@
 
 package com.openpojo.cache;
 
+import com.openpojo.cache.impl.ConcurrentClassCacheStorage;
 import com.openpojo.cache.impl.StrongRefHashMapCacheStorage;
 import com.openpojo.cache.impl.WeakHashMapCacheStorage;
 
@@ -50,6 +51,30 @@ public class CacheStorageFactory {
     return new StrongRefHashMapCacheStorage<T>();
   }
 
+  /**
+   * Returns an instance of ClassCacheStorage that holds its values softly, so they are garbage collected under memory
+   * pressure or when their Class is unloaded.
+   *
+   * @param <T>
+   *     The value type used for caching.
+   * @return returns an instance of ClassCacheStorage.
+   */
+  public static <T> ClassCacheStorage<T> getTemporalClassCacheStorage() {
+    return new ConcurrentClassCacheStorage<T>(true);
+  }
+
+  /**
+   * Returns an instance of ClassCacheStorage that holds its values strongly, values are only removed when their Class is
+   * unloaded.
+   *
+   * @param <T>
+   *     The value type used for caching.
+   * @return returns an instance of ClassCacheStorage.
+   */
+  public static <T> ClassCacheStorage<T> getPersistentClassCacheStorage() {
+    return new ConcurrentClassCacheStorage<T>(false);
+  }
+
   private CacheStorageFactory() {
     throw new UnsupportedOperationException(CacheStorageFactory.class.getName() + " should not be constructed!");
   }
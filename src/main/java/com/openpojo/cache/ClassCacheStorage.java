@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.cache;
+
+/**
+ * This Interface defines the CacheStorage contract for values cached per Class.
+ * Classes are compared by identity, so classes with the same name from different class loaders don't collide.
+ *
+ * @author oshoukry
+ */
+public interface ClassCacheStorage<T> {
+
+  /**
+   * Add an item to the cache.
+   *
+   * @param clazz
+   *     The lookup key.
+   * @param value
+   *     The value to be cached, null removes the value cached for the class.
+   */
+  void add(Class<?> clazz, T value);
+
+  /**
+   * Add an item to the cache, unless a value is already cached for the class.
+   *
+   * @param clazz
+   *     The lookup key.
+   * @param value
+   *     The value to be cached, null values are not cached.
+   * @return the value held by the cache once this call returns, either the one already cached or value.
+   */
+  T addIfAbsent(Class<?> clazz, T value);
+
+  /**
+   * Get an item from the cache.
+   *
+   * @param clazz
+   *     The lookup key.
+   * @return returns the cached value, or null if not found.
+   */
+  T get(Class<?> clazz);
+
+  /**
+   * The method clears the cache.
+   */
+  void clear();
+
+  /**
+   * @return the usage statistics of this cache.
+   */
+  CacheStatistics getStatistics();
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.openpojo.log.LoggerFactory;
+
+/**
+ * This class persists keyed records in a gzipped binary file, that is loaded when opened and written back when saved
+ * or when the JVM exits.
+ * <br>
+ * The file starts with a magic number and a format version, files of another format or that can't be read are treated
+ * as empty. Records are written sorted by key to a temporary file next to the file, which is then moved in place so
+ * readers never see a partial file.
+ * Concurrent JVMs sharing one file each write it whole, the last one to exit wins.
+ * <br>
+ * Implementations only define how one record is written and read.
+ *
+ * @author oshoukry
+ */
+public abstract class RecordFile<T> {
+  private final String name;
+  private final int magic;
+  private final int version;
+  private final ConcurrentMap<String, T> records = new ConcurrentHashMap<String, T>();
+  private volatile File file;
+  private volatile boolean dirty;
+  private boolean shutdownHookRegistered;
+
+  /**
+   * @param name
+   *     What the file holds, used in log messages and to name the shutdown hook.
+   * @param magic
+   *     The magic number the file starts with.
+   * @param version
+   *     The version of the record format, files of any other version are ignored.
+   */
+  protected RecordFile(final String name, final int magic, final int version) {
+    this.name = name;
+    this.magic = magic;
+    this.version = version;
+  }
+
+  /**
+   * Write one record.
+   *
+   * @param out
+   *     The stream to write to, the key was already written.
+   * @param record
+   *     The record to write.
+   * @throws IOException
+   *     If the record can't be written.
+   */
+  protected abstract void writeRecord(DataOutputStream out, T record) throws IOException;
+
+  /**
+   * Read back one record written by {@link #writeRecord(DataOutputStream, Object)}.
+   *
+   * @param in
+   *     The stream to read from, the key was already read.
+   * @return the record.
+   * @throws IOException
+   *     If the record can't be read.
+   */
+  protected abstract T readRecord(DataInputStream in) throws IOException;
+
+  /**
+   * @return true if the record should be dropped rather than written back, i.e. it describes something that is gone.
+   */
+  protected boolean isObsolete(final String key, final T record) {
+    return false;
+  }
+
+  /**
+   * Open a file, loading the records it holds and writing them back along with any new records on JVM exit.
+   * A missing or unreadable file is treated as empty.
+   *
+   * @param file
+   *     The file.
+   */
+  public synchronized void open(final File file) {
+    records.clear();
+    dirty = false;
+    this.file = file;
+    load(file);
+
+    if (!shutdownHookRegistered) {
+      Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+        public void run() {
+          save();
+        }
+      }, name));
+      shutdownHookRegistered = true;
+    }
+  }
+
+  /**
+   * @return true if a file is open.
+   */
+  public boolean isOpen() {
+    return file != null;
+  }
+
+  /**
+   * Write the records back to the file if any record was added, replaced or became obsolete since it was opened or
+   * last saved.
+   */
+  public synchronized void save() {
+    final File file = this.file;
+    if (file == null)
+      return;
+    final boolean removed = removeObsolete();
+    if (!dirty && !removed)
+      return;
+
+    try {
+      write(file);
+      dirty = false;
+    } catch (IOException e) {
+      LoggerFactory.getLogger(RecordFile.class).warn("Failed to write {0} [{1}], exception [{2}]", name, file, e);
+    }
+  }
+
+  /**
+   * Stop using the file without saving it.
+   */
+  public synchronized void close() {
+    file = null;
+    dirty = false;
+    records.clear();
+  }
+
+  /**
+   * @return the record for the key, or null if no file is open or it holds no record for the key.
+   */
+  public T get(final String key) {
+    if (file == null)
+      return null;
+    return records.get(key);
+  }
+
+  /**
+   * Add or replace the record for a key, ignored when no file is open.
+   */
+  public void put(final String key, final T record) {
+    if (file == null)
+      return;
+
+    records.put(key, record);
+    dirty = true;
+  }
+
+  /**
+   * @return true if any record was removed.
+   */
+  private boolean removeObsolete() {
+    boolean removed = false;
+    for (final Map.Entry<String, T> entry : records.entrySet()) {
+      if (isObsolete(entry.getKey(), entry.getValue()) && records.remove(entry.getKey(), entry.getValue()))
+        removed = true;
+    }
+    return removed;
+  }
+
+  private void load(final File file) {
+    if (!file.isFile())
+      return;
+
+    DataInputStream in = null;
+    try {
+      in = new DataInputStream(new GZIPInputStream(new BufferedInputStream(new FileInputStream(file))));
+      if (in.readInt() != magic || in.readInt() != version) {
+        LoggerFactory.getLogger(RecordFile.class).warn("Ignoring {0} [{1}] of unknown format", name, file);
+        return;
+      }
+      final int size = in.readInt();
+      for (int index = 0; index < size; index++) {
+        final String key = in.readUTF();
+        records.put(key, readRecord(in));
+      }
+      LoggerFactory.getLogger(RecordFile.class).info("Loaded [{0}] records from {1} [{2}]", size, name, file);
+    } catch (IOException e) {
+      records.clear();
+      LoggerFactory.getLogger(RecordFile.class).warn("Ignoring unreadable {0} [{1}], exception [{2}]", name, file, e);
+    } finally {
+      closeQuietly(in);
+    }
+  }
+
+  private void write(final File file) throws IOException {
+    final File directory = file.getAbsoluteFile().getParentFile();
+    if (directory != null && !directory.isDirectory() && !directory.mkdirs())
+      throw new IOException("Unable to create directory " + directory);
+
+    final Map<String, T> snapshot = new TreeMap<String, T>(records);
+    final File temporary = File.createTempFile(file.getName(), ".tmp", directory);
+    DataOutputStream out = null;
+    try {
+      out = new DataOutputStream(new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(temporary))));
+      out.writeInt(magic);
+      out.writeInt(version);
+      out.writeInt(snapshot.size());
+      for (final Map.Entry<String, T> entry : snapshot.entrySet()) {
+        out.writeUTF(entry.getKey());
+        writeRecord(out, entry.getValue());
+      }
+      out.close();
+      out = null;
+
+      if (!temporary.renameTo(file) && !(file.delete() && temporary.renameTo(file)))
+        throw new IOException("Unable to replace " + file);
+    } finally {
+      closeQuietly(out);
+      if (temporary.exists() && !temporary.delete())
+        temporary.deleteOnExit();
+    }
+  }
+
+  private static void closeQuietly(final Closeable closeable) {
+    if (closeable == null)
+      return;
+    try {
+      closeable.close();
+    } catch (IOException ignored) { /* ignored */ }
+  }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.cache.impl;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.openpojo.cache.CacheStatistics;
+import com.openpojo.cache.ClassCacheStorage;
+
+/**
+ * This implementation of ClassCacheStorage is safe for concurrent use, it holds the Class keys weakly and the values
+ * either softly or strongly.
+ * <p>
+ * Note: A strongly held value that references its own Class (i.e. a PojoClass) will keep that Class from being
+ * garbage collected, use soft values when class loaders are expected to be discarded.
+ *
+ * @author oshoukry
+ */
+public class ConcurrentClassCacheStorage<T> implements ClassCacheStorage<T> {
+  private final ConcurrentMap<Object, ValueReference<T>> repository = new ConcurrentHashMap<Object,
+      ValueReference<T>>();
+  private final ThreadLocal<LookupKey> lookupKeys = new ThreadLocal<LookupKey>() {
+    @Override
+    protected LookupKey initialValue() {
+      return new LookupKey();
+    }
+  };
+  private final ReferenceQueue<Object> staleReferences = new ReferenceQueue<Object>();
+  private final boolean softValues;
+  private final Statistics statistics = new Statistics();
+
+  /**
+   * @param softValues
+   *     true to hold values through soft references, false to hold them strongly.
+   */
+  public ConcurrentClassCacheStorage(final boolean softValues) {
+    this.softValues = softValues;
+  }
+
+  public void add(final Class<?> clazz, final T value) {
+    expungeStaleEntries();
+    if (value == null) {
+      final LookupKey lookupKey = lookupKeys.get().of(clazz);
+      try {
+        repository.remove(lookupKey);
+      } finally {
+        lookupKey.clear();
+      }
+      return;
+    }
+
+    final ClassKey key = new ClassKey(clazz, staleReferences);
+    repository.put(key, newValueReference(key, value));
+  }
+
+  public T addIfAbsent(final Class<?> clazz, final T value) {
+    expungeStaleEntries();
+    if (value == null)
+      return null;
+
+    final ClassKey key = new ClassKey(clazz, staleReferences);
+    final ValueReference<T> valueReference = newValueReference(key, value);
+    while (true) {
+      final ValueReference<T> existingReference = repository.putIfAbsent(key, valueReference);
+      if (existingReference == null)
+        return value;
+
+      final T existing = existingReference.get();
+      if (existing != null)
+        return existing;
+
+      // the cached value was reclaimed, take its place.
+      if (repository.replace(key, existingReference, valueReference)) {
+        statistics.evictions.incrementAndGet();
+        return value;
+      }
+    }
+  }
+
+  private ValueReference<T> newValueReference(final ClassKey key, final T value) {
+    if (softValues)
+      return new SoftValue<T>(key, value, staleReferences);
+    return new StrongValue<T>(value);
+  }
+
+  public T get(final Class<?> clazz) {
+    expungeStaleEntries();
+    // lookups are frequent, probe with this thread's reusable key rather than allocating a reference per call.
+    final LookupKey lookupKey = lookupKeys.get().of(clazz);
+    T value = null;
+    try {
+      final ValueReference<T> valueReference = repository.get(lookupKey);
+      if (valueReference != null) {
+        value = valueReference.get();
+        if (value == null && repository.remove(lookupKey, valueReference))
+          statistics.evictions.incrementAndGet();
+      }
+    } finally {
+      lookupKey.clear();
+    }
+
+    if (value == null)
+      statistics.misses.incrementAndGet();
+    else
+      statistics.hits.incrementAndGet();
+    return value;
+  }
+
+  public void clear() {
+    repository.clear();
+  }
+
+  public CacheStatistics getStatistics() {
+    return statistics;
+  }
+
+  @SuppressWarnings("unchecked")
+  private void expungeStaleEntries() {
+    Reference<?> stale;
+    while ((stale = staleReferences.poll()) != null) {
+      final boolean removed;
+      if (stale instanceof SoftValue)
+        removed = repository.remove(((SoftValue<T>) stale).key, stale);
+      else
+        removed = repository.remove(stale) != null;
+
+      if (removed)
+        statistics.evictions.incrementAndGet();
+    }
+  }
+
+  /**
+   * Class keys compare by identity, and only match while their Class hasn't been garbage collected.
+   */
+  private static class ClassKey extends WeakReference<Class<?>> {
+    private final int hashCode;
+
+    private ClassKey(final Class<?> clazz, final ReferenceQueue<Object> queue) {
+      super(clazz, queue);
+      hashCode = System.identityHashCode(clazz);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      if (this == other)
+        return true;
+      final Class<?> clazz = get();
+      if (other instanceof LookupKey)
+        return clazz != null && clazz == ((LookupKey) other).clazz;
+      if (!(other instanceof ClassKey))
+        return false;
+      return clazz != null && clazz == ((ClassKey) other).get();
+    }
+  }
+
+  /**
+   * Matches the ClassKey of its Class, only lives for the duration of a lookup so it can hold the Class strongly.
+   */
+  private static class LookupKey {
+    private Class<?> clazz;
+    private int hashCode;
+
+    private LookupKey of(final Class<?> clazz) {
+      this.clazz = clazz;
+      hashCode = System.identityHashCode(clazz);
+      return this;
+    }
+
+    private void clear() {
+      clazz = null;
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      return other instanceof ClassKey && clazz != null && clazz == ((ClassKey) other).get();
+    }
+  }
+
+  private interface ValueReference<T> {
+    T get();
+  }
+
+  private static class StrongValue<T> implements ValueReference<T> {
+    private final T value;
+
+    private StrongValue(final T value) {
+      this.value = value;
+    }
+
+    public T get() {
+      return value;
+    }
+  }
+
+  private static class SoftValue<T> extends SoftReference<T> implements ValueReference<T> {
+    private final ClassKey key;
+
+    private SoftValue(final ClassKey key, final T value, final ReferenceQueue<Object> queue) {
+      super(value, queue);
+      this.key = key;
+    }
+  }
+
+  private static class Statistics implements CacheStatistics {
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public long getHitCount() {
+      return hits.get();
+    }
+
+    public long getMissCount() {
+      return misses.get();
+    }
+
+    public long getEvictionCount() {
+      return evictions.get();
+    }
+
+    @Override
+    public String toString() {
+      return String.format("CacheStatistics [hits=%s, misses=%s, evictions=%s]", hits, misses, evictions);
+    }
+  }
+}
@@ -20,6 +20,8 @@ package com.openpojo.random.service.impl;
 
 import java.util.*;
 
+import com.openpojo.cache.CacheStorageFactory;
+import com.openpojo.cache.ClassCacheStorage;
 import com.openpojo.random.ParameterizableRandomGenerator;
 import com.openpojo.random.RandomGenerator;
 import com.openpojo.random.service.RandomGeneratorService;
@@ -32,6 +34,11 @@ public class DefaultRandomGeneratorService implements RandomGeneratorService {
   private final Map<Class<?>, RandomGenerator> concreteRandomGenerator = new HashMap<Class<?>, RandomGenerator>();
   private final Map<Class<?>, ParameterizableRandomGenerator> concreteParameterizableRandomGenerators = new HashMap<Class<?>,
       ParameterizableRandomGenerator>();
+  // resolved per requested type, every registered type it is assignable from, already adapted.
+  private final ClassCacheStorage<RandomGenerator[]> adaptedRandomGenerators = CacheStorageFactory
+      .getTemporalClassCacheStorage();
+  private final ClassCacheStorage<RandomGenerator[]> adaptedParameterizableRandomGenerators = CacheStorageFactory
+      .getTemporalClassCacheStorage();
   private RandomGenerator defaultRandomGenerator;
   private static final Random RANDOM = new Random(new Date().getTime());
 
@@ -45,6 +52,8 @@ public class DefaultRandomGeneratorService implements RandomGeneratorService {
       if (randomGenerator instanceof ParameterizableRandomGenerator)
         concreteParameterizableRandomGenerators.put(type, (ParameterizableRandomGenerator) randomGenerator);
     }
+    adaptedRandomGenerators.clear();
+    adaptedParameterizableRandomGenerators.clear();
   }
 
   public void setDefaultRandomGenerator(final RandomGenerator randomGenerator) {
@@ -56,32 +65,45 @@ public class DefaultRandomGeneratorService implements RandomGeneratorService {
   }
 
   public RandomGenerator getRandomGeneratorByType(final Class<?> type) {
-    return getAppropriateRandomGenerator(type, concreteRandomGenerator);
+    return getAppropriateRandomGenerator(type, concreteRandomGenerator, adaptedRandomGenerators);
   }
 
   public RandomGenerator getRandomGeneratorByParameterizable(Parameterizable type) {
     if (!type.isParameterized())
-      return getAppropriateRandomGenerator(type.getType(), concreteRandomGenerator);
+      return getAppropriateRandomGenerator(type.getType(), concreteRandomGenerator, adaptedRandomGenerators);
 
-    return getAppropriateRandomGenerator(type.getType(), concreteParameterizableRandomGenerators);
+    return getAppropriateRandomGenerator(type.getType(), concreteParameterizableRandomGenerators,
+        adaptedParameterizableRandomGenerators);
   }
 
-  @SuppressWarnings("unchecked")
-  private RandomGenerator getAppropriateRandomGenerator(Class<?> type, Map randomGenerators) {
+  private RandomGenerator getAppropriateRandomGenerator(Class<?> type, Map randomGenerators,
+                                                        ClassCacheStorage<RandomGenerator[]> adapted) {
     RandomGenerator appropriateRandomGenerator = (RandomGenerator) randomGenerators.get(type);
     if (appropriateRandomGenerator == null) {
-      final List assignableTypes = getAssignableTypesForType(type, randomGenerators.keySet());
-      if (assignableTypes.size() == 0) {
+      RandomGenerator[] candidates = adapted.get(type);
+      if (candidates == null)
+        candidates = adapted.addIfAbsent(type, getAdaptedRandomGenerators(type, randomGenerators));
+
+      if (candidates.length == 0) {
         appropriateRandomGenerator = getDefaultRandomGenerator();
       } else {
-        final Class<?> adaptToType = (Class<?>) assignableTypes.get(RANDOM.nextInt(assignableTypes.size()));
-        appropriateRandomGenerator = new RandomGeneratorAdapter(type, adaptToType, (RandomGenerator) randomGenerators.get
-            (adaptToType));
+        appropriateRandomGenerator = candidates[RANDOM.nextInt(candidates.length)];
       }
     }
     return appropriateRandomGenerator;
   }
 
+  @SuppressWarnings("unchecked")
+  private RandomGenerator[] getAdaptedRandomGenerators(Class<?> type, Map randomGenerators) {
+    final List<Class<?>> assignableTypes = getAssignableTypesForType(type, randomGenerators.keySet());
+    final RandomGenerator[] candidates = new RandomGenerator[assignableTypes.size()];
+    int index = 0;
+    for (final Class<?> adaptToType : assignableTypes)
+      candidates[index++] = new RandomGeneratorAdapter(type, adaptToType,
+          (RandomGenerator) randomGenerators.get(adaptToType));
+    return candidates;
+  }
+
   public Collection<Class<?>> getRegisteredTypes() {
     return Collections.unmodifiableSet(concreteRandomGenerator.keySet());
   }
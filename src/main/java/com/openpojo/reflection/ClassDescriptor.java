@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection;
+
+import java.util.List;
+
+/**
+ * This interface describes a class as read from its class file, without loading it into the JVM.
+ * Names are given in Java form (i.e. "java.lang.Object"), same as {@link Class#getName()}.
+ *
+ * @author oshoukry
+ */
+public interface ClassDescriptor {
+
+  /**
+   * @return the fully qualified name of the class.
+   */
+  String getName();
+
+  /**
+   * Get the modifiers of the class, for nested classes these are the modifiers declared on the nested class, same as
+   * {@link Class#getModifiers()}.
+   *
+   * @return the class modifiers as defined in {@link java.lang.reflect.Modifier}.
+   */
+  int getModifiers();
+
+  /**
+   * @return the name of the super class, or null for java.lang.Object and interfaces, same as
+   * {@link Class#getSuperclass()}.
+   */
+  String getSuperClassName();
+
+  /**
+   * @return the names of the interfaces the class directly implements.
+   */
+  List<String> getInterfaceNames();
+
+  /**
+   * @return the names of the annotation types present on the class (visible at runtime or not).
+   */
+  List<String> getAnnotationNames();
+
+  /**
+   * @return the declared fields, each as "name:descriptor" (i.e. "count:I").
+   */
+  List<String> getFieldSignatures();
+
+  /**
+   * @return the declared methods and constructors, each as "name descriptor" (i.e. "setCount(I)V").
+   */
+  List<String> getMethodSignatures();
+
+  boolean isInterface();
+
+  boolean isAbstract();
+
+  boolean isEnum();
+
+  boolean isSynthetic();
+
+  /**
+   * @return true if this is a member, local or anonymous class.
+   */
+  boolean isNestedClass();
+}
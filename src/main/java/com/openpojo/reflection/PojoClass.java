@@ -83,6 +83,33 @@ public interface PojoClass extends PojoElement, Accessible {
    */
   List<PojoField> getPojoFields();
 
+  /**
+   * Get all PojoFields defined in the class and its super classes.
+   *
+   * @return an unmodifiable list of the fields of this class in declaration order, followed by the fields of each super
+   * class, nearest first.
+   */
+  List<PojoField> getAllPojoFields();
+
+  /**
+   * Get all PojoFields with a given name defined in the class and its super classes.
+   *
+   * @param name
+   *     the field name to use for lookup.
+   * @return an unmodifiable list of the fields with the given name, nearest class first; more than one entry means the
+   * first shadows the rest.
+   */
+  List<PojoField> getAllPojoFieldsByName(String name);
+
+  /**
+   * Check if a field is shadowed by a field with the same name declared in this class or a super class nearer to it.
+   *
+   * @param pojoField
+   *     a field from {@link #getAllPojoFields()}.
+   * @return true if the field is shadowed, false otherwise.
+   */
+  boolean isShadowed(PojoField pojoField);
+
   /**
    * Get all PojoFields annotated with given annotation.
    *
@@ -92,6 +119,15 @@ public interface PojoClass extends PojoElement, Accessible {
    */
   List<PojoField> getPojoFieldsAnnotatedWith(Class<? extends Annotation> annotation);
 
+  /**
+   * Get all PojoFields annotated with given annotation, without copying.
+   *
+   * @param annotation
+   *     the annotation to use for lookup.
+   * @return an unmodifiable list, shared across calls, of fields that are annotated with given annotation.
+   */
+  List<PojoField> getAnnotatedPojoFields(Class<? extends Annotation> annotation);
+
   /**
    * Get all PojoMethods defined in the class;
    *
@@ -109,6 +145,15 @@ public interface PojoClass extends PojoElement, Accessible {
    */
   List<PojoMethod> getPojoMethodsAnnotatedWith(Class<? extends Annotation> annotation);
 
+  /**
+   * Get all PojoMethods annotated with given annotation, without copying.
+   *
+   * @param annotation
+   *     the annotation to use for lookup.
+   * @return an unmodifiable list, shared across calls, of methods that are annotated with given annotation.
+   */
+  List<PojoMethod> getAnnotatedPojoMethods(Class<? extends Annotation> annotation);
+
   /**
    * Get all Constructors defined in the class.
    *
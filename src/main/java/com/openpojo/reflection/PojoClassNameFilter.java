@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection;
+
+/**
+ * This interface lets a filter decide on a class from its fully qualified name alone, before its class file is read or
+ * the class is loaded.
+ * Classes excluded here are never loaded, so a filter must only exclude classes that its
+ * {@link PojoClassFilter#include(PojoClass)} would exclude as well, when unsure it should return true.
+ *
+ * @author oshoukry
+ */
+public interface PojoClassNameFilter {
+
+  /**
+   * This Method determines whether a class may be included, based on its name alone.
+   *
+   * @param className
+   *     The fully qualified name of the class in question (i.e. "com.openpojo.SomeClass$Nested").
+   * @return False if the class is certain to be excluded, true otherwise.
+   */
+  boolean include(final String className);
+}
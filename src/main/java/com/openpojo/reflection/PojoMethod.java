@@ -60,11 +60,19 @@ public interface PojoMethod extends PojoElement, Accessible {
   /**
    * Get method parameters as PojoParameters.
    * If method doesn't have any parameters an empty list is returned.
+   * The returned list is built once per method and can not be modified.
    *
    * @return a List of PojoParameters.
    */
   List<PojoParameter> getPojoParameters();
 
+  /**
+   * Get the number of parameters this method takes, without building its PojoParameters.
+   *
+   * @return the number of parameters.
+   */
+  int getParameterCount();
+
   /**
    * Get the method parameters.
    *
@@ -18,39 +18,114 @@
 
 package com.openpojo.reflection.cache;
 
-import com.openpojo.cache.CacheStorage;
+import com.openpojo.cache.CacheStatistics;
 import com.openpojo.cache.CacheStorageFactory;
+import com.openpojo.cache.ClassCacheStorage;
 import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.java.load.ClassUtil;
 
 /**
  * This is the Cache to hold references for PojoClasses, to prevent looking them up over and over.
+ * PojoClasses are cached per Class, and by default held softly, see {@link #setPersistent(boolean)}.
  *
  * @author oshoukry
  */
 public class PojoCache {
-  private static CacheStorage<PojoClass> pojoClassCache = CacheStorageFactory.getTemporalCacheStorage();
+  private static volatile ClassCacheStorage<PojoClass> pojoClassCache = CacheStorageFactory
+      .getTemporalClassCacheStorage();
+  private static volatile boolean persistent = false;
 
   /**
    * Retrieve an implementation from Cache.
    *
-   * @param name
-   *     Fully Qualified Class Name.
+   * @param clazz
+   *     The class to lookup.
    * @return Cached PojoReference, or null if none found.
    */
+  public static PojoClass getPojoClass(final Class<?> clazz) {
+    return pojoClassCache.get(clazz);
+  }
+
+  /**
+   * Retrieve an implementation from Cache.
+   *
+   * @param name
+   *     Fully Qualified Class Name, resolved (without initializing) through the thread context class loader.
+   * @return Cached PojoReference, or null if none found or the class can't be resolved.
+   * @deprecated PojoClasses are cached per Class, use {@link #getPojoClass(Class)}.
+   */
+  @Deprecated
   public static PojoClass getPojoClass(final String name) {
-    return pojoClassCache.get(name);
+    final Class<?> clazz = name == null ? null : ClassUtil.loadClass(name, false);
+    if (clazz == null)
+      return null;
+    return getPojoClass(clazz);
+  }
+
+  /**
+   * Add a PojoClass definition to the Cache.
+   *
+   * @param clazz
+   *     The class the PojoClass represents.
+   * @param pojoClass
+   *     The entry to add to the cache.
+   */
+  public static void addPojoClass(final Class<?> clazz, final PojoClass pojoClass) {
+    pojoClassCache.add(clazz, pojoClass);
   }
 
   /**
    * Add a PojoClass definition to the Cache.
    *
    * @param name
-   *     Fully Qualified Class Name.
+   *     Fully Qualified Class Name, unused since the entry is cached under the class the PojoClass represents.
    * @param pojoClass
    *     The entry to add to the cache.
+   * @deprecated PojoClasses are cached per Class, use {@link #addPojoClass(Class, PojoClass)}.
    */
+  @Deprecated
   public static void addPojoClass(final String name, final PojoClass pojoClass) {
-    pojoClassCache.add(name, pojoClass);
+    if (pojoClass != null)
+      addPojoClass(pojoClass.getClazz(), pojoClass);
+  }
+
+  /**
+   * Add a PojoClass definition to the Cache, unless one was already added for the class (i.e. by another thread).
+   *
+   * @param clazz
+   *     The class the PojoClass represents.
+   * @param pojoClass
+   *     The entry to add to the cache.
+   * @return The PojoClass now cached for the class, callers should use this one.
+   */
+  public static PojoClass addPojoClassIfAbsent(final Class<?> clazz, final PojoClass pojoClass) {
+    return pojoClassCache.addIfAbsent(clazz, pojoClass);
+  }
+
+  /**
+   * Choose how cached PojoClasses are held, this replaces the cache and resets its statistics.
+   *
+   * @param persistent
+   *     true to hold PojoClasses strongly, false (default) to hold them softly so they can be reclaimed under memory
+   *     pressure.
+   */
+  public static synchronized void setPersistent(final boolean persistent) {
+    if (persistent)
+      pojoClassCache = CacheStorageFactory.getPersistentClassCacheStorage();
+    else
+      pojoClassCache = CacheStorageFactory.getTemporalClassCacheStorage();
+    PojoCache.persistent = persistent;
+  }
+
+  public static boolean isPersistent() {
+    return persistent;
+  }
+
+  /**
+   * @return the hit / miss / eviction counters of the cache.
+   */
+  public static CacheStatistics getStatistics() {
+    return pojoClassCache.getStatistics();
   }
 
   /**
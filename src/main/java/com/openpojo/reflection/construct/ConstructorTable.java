@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.construct;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.PojoMethod;
+import com.openpojo.reflection.construct.utils.ArrayLengthBasedComparator;
+import com.openpojo.reflection.construct.utils.GreaterThan;
+import com.openpojo.reflection.construct.utils.LessThan;
+import com.openpojo.reflection.java.type.Primitives;
+
+/**
+ * This table holds the constructors of a single class grouped by arity, with their parameter types already upcast
+ * (i.e. int -> Integer).
+ * The most / least complete constructors are chosen once, and the constructor matching a given argument type signature
+ * is remembered after the first lookup.
+ *
+ * @author oshoukry
+ */
+class ConstructorTable {
+  private static final Class<?>[] NO_TYPES = new Class<?>[0];
+
+  private final PojoClass pojoClass;
+  private final Map<Integer, List<Entry>> constructorsByArity = new HashMap<Integer, List<Entry>>();
+  private final ConcurrentMap<Signature, Entry> matches = new ConcurrentHashMap<Signature, Entry>();
+  private final PojoMethod mostComplete;
+  private final PojoMethod leastComplete;
+
+  ConstructorTable(final PojoClass pojoClass) {
+    this.pojoClass = pojoClass;
+    final List<PojoMethod> constructors = pojoClass.getPojoConstructors();
+    for (final PojoMethod constructor : constructors) {
+      final Entry entry = new Entry(constructor);
+      List<Entry> sameArity = constructorsByArity.get(entry.upCastParameterTypes.length);
+      if (sameArity == null) {
+        sameArity = new ArrayList<Entry>(1);
+        constructorsByArity.put(entry.upCastParameterTypes.length, sameArity);
+      }
+      sameArity.add(entry);
+    }
+    mostComplete = getConstructorByCriteria(pojoClass, constructors, new GreaterThan());
+    leastComplete = getConstructorByCriteria(pojoClass, constructors, new LessThan());
+  }
+
+  /**
+   * @return the PojoClass this table was built from.
+   */
+  PojoClass getPojoClass() {
+    return pojoClass;
+  }
+
+  /**
+   * @return the non-synthetic constructor with the most parameters, or null if none.
+   */
+  PojoMethod getMostComplete() {
+    return mostComplete;
+  }
+
+  /**
+   * @return the non-synthetic constructor with the least parameters, or null if none.
+   */
+  PojoMethod getLeastComplete() {
+    return leastComplete;
+  }
+
+  /**
+   * Find the first constructor that can be called with arguments of the given types.
+   *
+   * @param givenTypes
+   *     The argument types, null entries are treated as compatible with any parameter type.
+   * @return the matching constructor, or null if none.
+   */
+  PojoMethod getMatching(final Class<?>[] givenTypes) {
+    final Signature signature = new Signature(givenTypes == null ? NO_TYPES : givenTypes);
+    Entry match = matches.get(signature);
+    if (match == null) {
+      match = Entry.NONE;
+      final List<Entry> sameArity = constructorsByArity.get(signature.types.length);
+      if (sameArity != null) {
+        for (final Entry entry : sameArity) {
+          if (entry.accepts(signature.types)) {
+            match = entry;
+            break;
+          }
+        }
+      }
+      matches.putIfAbsent(signature, match);
+    }
+    return match.constructor;
+  }
+
+  private static PojoMethod getConstructorByCriteria(final PojoClass pojoClass, final List<PojoMethod> constructors,
+                                                     final ArrayLengthBasedComparator comparator) {
+    PojoMethod constructor = null;
+    for (final PojoMethod pojoConstructor : constructors) {
+      if (!pojoConstructor.isSynthetic() && !(pojoClass.isAbstract() && pojoConstructor.isPrivate()))
+        if (constructor == null)
+          constructor = pojoConstructor;
+        else {
+          if (comparator.compare(pojoConstructor.getParameterTypes(), constructor.getParameterTypes()))
+            constructor = pojoConstructor;
+        }
+    }
+    return constructor;
+  }
+
+  private static class Entry {
+    private static final Entry NONE = new Entry();
+
+    private final PojoMethod constructor;
+    private final Class<?>[] upCastParameterTypes;
+
+    private Entry() {
+      constructor = null;
+      upCastParameterTypes = NO_TYPES;
+    }
+
+    private Entry(final PojoMethod constructor) {
+      this.constructor = constructor;
+      final Class<?>[] parameterTypes = constructor.getParameterTypes();
+      upCastParameterTypes = new Class<?>[parameterTypes.length];
+      for (int idx = 0; idx < parameterTypes.length; idx++)
+        upCastParameterTypes[idx] = Primitives.getInstance().autoBox(parameterTypes[idx]);
+    }
+
+    private boolean accepts(final Class<?>[] givenTypes) {
+      for (int idx = 0; idx < upCastParameterTypes.length; idx++) {
+        if (givenTypes[idx] != null && !upCastParameterTypes[idx].isAssignableFrom(givenTypes[idx]))
+          return false;
+      }
+      return true;
+    }
+  }
+
+  private static class Signature {
+    private final Class<?>[] types;
+    private final int hashCode;
+
+    private Signature(final Class<?>[] types) {
+      this.types = types;
+      this.hashCode = Arrays.hashCode(types);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+      return other instanceof Signature && Arrays.equals(types, ((Signature) other).types);
+    }
+  }
+}
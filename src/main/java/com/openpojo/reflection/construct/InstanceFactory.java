@@ -22,18 +22,16 @@ import java.util.Arrays;
 import java.util.List;
 
 import com.openpojo.business.annotation.BusinessKey;
+import com.openpojo.cache.CacheStorageFactory;
+import com.openpojo.cache.ClassCacheStorage;
 import com.openpojo.random.RandomFactory;
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoField;
 import com.openpojo.reflection.PojoMethod;
 import com.openpojo.reflection.PojoParameter;
-import com.openpojo.reflection.construct.utils.ArrayLengthBasedComparator;
-import com.openpojo.reflection.construct.utils.GreaterThan;
-import com.openpojo.reflection.construct.utils.LessThan;
 import com.openpojo.reflection.exception.ReflectionException;
 import com.openpojo.reflection.impl.PojoClassFactory;
 import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
-import com.openpojo.reflection.java.type.Primitives;
 
 /**
  * This Factory has the ability to create an instance of any PojoClass.
@@ -43,6 +41,8 @@ import com.openpojo.reflection.java.type.Primitives;
  * @author oshoukry
  */
 public class InstanceFactory {
+  private static final ClassCacheStorage<ConstructorTable> CONSTRUCTOR_TABLES = CacheStorageFactory
+      .getTemporalClassCacheStorage();
 
   /**
    * This method returns a new instance created using default constructor.
@@ -84,7 +84,7 @@ public class InstanceFactory {
    * @return a newly created instance of the class represented in the pojoClass.
    */
   public static Object getMostCompleteInstance(final PojoClass pojoClass) {
-    final PojoMethod constructor = getConstructorByCriteria(pojoClass, new GreaterThan());
+    final PojoMethod constructor = getConstructorTable(pojoClass).getMostComplete();
     Object[] parameters = generateRandomValuesForParameters(pojoClass, constructor);
     return getInstance(pojoClass, parameters);
   }
@@ -98,7 +98,7 @@ public class InstanceFactory {
    * @return a newly created instance of the class represented in the pojoClass.
    */
   public static Object getLeastCompleteInstance(final PojoClass pojoClass) {
-    final PojoMethod constructor = getConstructorByCriteria(pojoClass, new LessThan());
+    final PojoMethod constructor = getConstructorTable(pojoClass).getLeastComplete();
     Object[] parameters = generateRandomValuesForParameters(pojoClass, constructor);
     return getInstance(pojoClass, parameters);
   }
@@ -112,72 +112,35 @@ public class InstanceFactory {
       throw ReflectionException.getInstance(String.format("[%s] is not a concrete class, can't create new instance", pojoClass));
     }
 
-    Object instance;
-    final List<PojoMethod> constructors = pojoClass.getPojoConstructors();
-    for (final PojoMethod constructor : constructors) {
-      if (areEquivalentParameters(upCast(constructor.getParameterTypes()), getTypes(parameters))) {
-        instance = constructor.invoke(null, parameters);
-        initializeBusinessKeys(pojoClass, instance);
-        return instance;
-      }
-    }
-    throw ReflectionException.getInstance(String.format("No matching constructor for [%s] found using parameters[%s]",
-        pojoClass.getClazz(), Arrays.toString(getTypes(parameters))));
-  }
-
-  private static void initializeBusinessKeys(PojoClass pojoClass, Object instance) {
-    for (PojoField field : pojoClass.getPojoFieldsAnnotatedWith(BusinessKey.class)) {
-      if (field.get(instance) == null || field.isPrimitive())
-        field.set(instance, RandomFactory.getRandomValue(field));
-    }
-  }
-
-  /**
-   * This method will upCast Native parameters to their equivalent Class-es.
-   *
-   * @param parameterTypes
-   *     The array of parameters needed to be upCast.
-   * @return An upcasted array of parameters (i.e. short -> Short, int -> Int, String doesn't change).
-   */
-  private static Class<?>[] upCast(final Class<?>[] parameterTypes) {
-    final Class<?>[] upCastedParameters = new Class[parameterTypes.length];
-
-    for (int idx = 0; idx < parameterTypes.length; idx++)
-      upCastedParameters[idx] = Primitives.getInstance().autoBox(parameterTypes[idx]);
+    final Class<?>[] types = getTypes(parameters);
+    final PojoMethod constructor = getConstructorTable(pojoClass).getMatching(types);
+    if (constructor == null)
+      throw ReflectionException.getInstance(String.format("No matching constructor for [%s] found using parameters[%s]",
+          pojoClass.getClazz(), Arrays.toString(types)));
 
-    return upCastedParameters;
+    final Object instance = constructor.invoke(null, parameters);
+    initializeBusinessKeys(pojoClass, instance);
+    return instance;
   }
 
-
   /**
-   * This method evaluates if the parameters are equivalent / compatible.
-   * Null values in the givenTypes are treated as compatible.
-   *
-   * @param expectedTypes
-   *     The expected types.
-   * @param givenTypes
-   *     The given types to compare with.
-   * @return True if the given can be used as argument list for expected.
+   * Constructor tables are built once per PojoClass, and rebuilt if the PojoClass for a class got replaced (i.e. the
+   * PojoCache was cleared).
    */
-  private static boolean areEquivalentParameters(final Class<?>[] expectedTypes, final Class<?>[] givenTypes) {
-    if (expectedTypes.length == 0) {
-      return givenTypes.length == 0;
-    }
-
-    if (givenTypes.length != expectedTypes.length) {
-      return false;
-    }
-
-    for (int idx = 0; idx < expectedTypes.length; idx++) {
-      if (!isAssignableFrom(expectedTypes[idx], givenTypes[idx])) {
-        return false;
-      }
+  private static ConstructorTable getConstructorTable(final PojoClass pojoClass) {
+    ConstructorTable constructorTable = CONSTRUCTOR_TABLES.get(pojoClass.getClazz());
+    if (constructorTable == null || constructorTable.getPojoClass() != pojoClass) {
+      constructorTable = new ConstructorTable(pojoClass);
+      CONSTRUCTOR_TABLES.add(pojoClass.getClazz(), constructorTable);
     }
-    return true;
+    return constructorTable;
   }
 
-  private static boolean isAssignableFrom(final Class<?> expectedType, final Class<?> givenType) {
-    return givenType == null || (expectedType.isAssignableFrom(givenType));
+  private static void initializeBusinessKeys(PojoClass pojoClass, Object instance) {
+    for (PojoField field : pojoClass.getAnnotatedPojoFields(BusinessKey.class)) {
+      if (field.get(instance) == null || field.isPrimitive())
+        field.set(instance, RandomFactory.getRandomValue(field));
+    }
   }
 
   private static Class<?>[] getTypes(final Object... parameters) {
@@ -214,20 +177,6 @@ public class InstanceFactory {
     }
   }
 
-  private static PojoMethod getConstructorByCriteria(final PojoClass pojoClass, final ArrayLengthBasedComparator comparator) {
-    PojoMethod constructor = null;
-    for (final PojoMethod pojoConstructor : pojoClass.getPojoConstructors()) {
-      if (!pojoConstructor.isSynthetic() && !(pojoClass.isAbstract() && pojoConstructor.isPrivate()))
-        if (constructor == null)
-          constructor = pojoConstructor;
-        else {
-          if (comparator.compare(pojoConstructor.getParameterTypes(), constructor.getParameterTypes()))
-            constructor = pojoConstructor;
-        }
-    }
-    return constructor;
-  }
-
   private InstanceFactory() {
     throw new UnsupportedOperationException(InstanceFactory.class.getName() +  " should not be constructed!");
   }
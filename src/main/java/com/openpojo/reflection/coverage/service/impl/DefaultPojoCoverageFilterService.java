@@ -19,13 +19,14 @@
 package com.openpojo.reflection.coverage.service.impl;
 
 import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.PojoClassNameFilter;
 import com.openpojo.reflection.coverage.CoverageDetector;
 import com.openpojo.reflection.coverage.service.PojoCoverageFilterService;
 
 /**
  * @author oshoukry
  */
-public class DefaultPojoCoverageFilterService implements PojoCoverageFilterService {
+public class DefaultPojoCoverageFilterService implements PojoCoverageFilterService, PojoClassNameFilter {
 
   private PojoClassCoverageFilter pojoClassCoverageFilter = new PojoClassCoverageFilter();
   private PojoClassCoverageAdapter pojoClassCoverageAdapter = new PojoClassCoverageAdapter();
@@ -43,4 +44,8 @@ public class DefaultPojoCoverageFilterService implements PojoCoverageFilterServi
     return pojoClassCoverageFilter.include(pojoClass);
   }
 
+  public boolean include(String className) {
+    return pojoClassCoverageFilter.include(className);
+  }
+
 }
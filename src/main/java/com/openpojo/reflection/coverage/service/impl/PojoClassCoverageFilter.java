@@ -23,11 +23,12 @@ import java.util.Set;
 
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.PojoClassNameFilter;
 
 /**
  * @author oshoukry
  */
-public class PojoClassCoverageFilter implements PojoClassFilter {
+public class PojoClassCoverageFilter implements PojoClassFilter, PojoClassNameFilter {
   private Set<PojoClassFilter> filters = new HashSet<PojoClassFilter>();
 
   public void add(PojoClassFilter pojoClassFilter) {
@@ -43,4 +44,12 @@ public class PojoClassCoverageFilter implements PojoClassFilter {
     }
     return true;
   }
+
+  public boolean include(String className) {
+    for (PojoClassFilter filter : filters) {
+      if (filter instanceof PojoClassNameFilter && !((PojoClassNameFilter) filter).include(className))
+        return false;
+    }
+    return true;
+  }
 }
@@ -18,8 +18,15 @@
 
 package com.openpojo.reflection.filters;
 
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Set;
+
+import com.openpojo.reflection.ClassDescriptor;
+import com.openpojo.reflection.ClassDescriptorFilter;
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
 
 /**
  * This filter includes classes that extend/implement a certain type.
@@ -27,7 +34,9 @@ import com.openpojo.reflection.PojoClassFilter;
  *
  * @author oshoukry
  */
-public class FilterBasedOnInheritance implements PojoClassFilter {
+public class FilterBasedOnInheritance implements PojoClassFilter, ClassDescriptorFilter {
+  private static final String OBJECT_CLASS_NAME = Object.class.getName();
+
   private final Class<?> type;
 
   /**
@@ -44,6 +53,41 @@ public class FilterBasedOnInheritance implements PojoClassFilter {
     return !pojoClass.getName().equals(type.getName()) && pojoClass.extendz(type);
   }
 
+  /**
+   * Walk the super classes and interfaces through their class files, a class is only excluded if its whole hierarchy
+   * could be read without running into type.
+   */
+  public boolean include(final ClassDescriptor classDescriptor) {
+    final String typeName = type.getName();
+    if (classDescriptor.getName().equals(typeName))
+      return false;
+    if (typeName.equals(OBJECT_CLASS_NAME))
+      return true;
+
+    final Set<String> visited = new HashSet<String>();
+    final LinkedList<ClassDescriptor> pending = new LinkedList<ClassDescriptor>();
+    pending.add(classDescriptor);
+    while (!pending.isEmpty()) {
+      final ClassDescriptor current = pending.removeFirst();
+      final LinkedList<String> parentNames = new LinkedList<String>(current.getInterfaceNames());
+      if (current.getSuperClassName() != null)
+        parentNames.addFirst(current.getSuperClassName());
+
+      for (final String parentName : parentNames) {
+        if (parentName.equals(typeName))
+          return true;
+        if (parentName.equals(OBJECT_CLASS_NAME) || !visited.add(parentName))
+          continue;
+
+        final ClassDescriptor parent = ByteCodeFactory.getClassDescriptor(parentName);
+        if (parent == null)
+          return true;
+        pending.add(parent);
+      }
+    }
+    return false;
+  }
+
   @Override
   public boolean equals(Object other) {
     if (this == other)
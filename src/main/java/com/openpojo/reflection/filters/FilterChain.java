@@ -23,13 +23,16 @@ import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import com.openpojo.reflection.ClassDescriptor;
+import com.openpojo.reflection.ClassDescriptorFilter;
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.PojoClassNameFilter;
 
 /**
  * @author oshoukry
  */
-public class FilterChain implements PojoClassFilter {
+public class FilterChain implements PojoClassFilter, ClassDescriptorFilter, PojoClassNameFilter {
   private final Set<PojoClassFilter> pojoClassFilters = new LinkedHashSet<PojoClassFilter>();
 
   public FilterChain(final PojoClassFilter... pojoClassFilters) {
@@ -49,6 +52,47 @@ public class FilterChain implements PojoClassFilter {
     return true;
   }
 
+  /**
+   * Only the filters in this chain that are also ClassDescriptorFilters take part, the rest are applied once the class
+   * is loaded.
+   */
+  public boolean include(final ClassDescriptor classDescriptor) {
+    for (PojoClassFilter pojoClassFilter : pojoClassFilters) {
+      if (pojoClassFilter instanceof ClassDescriptorFilter
+          && !((ClassDescriptorFilter) pojoClassFilter).include(classDescriptor))
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * @return true if any filter in this chain, or in a chain nested in it, is a ClassDescriptorFilter, otherwise
+   * {@link #include(ClassDescriptor)} always returns true and reading class descriptors for it is wasted.
+   */
+  public boolean hasClassDescriptorFilters() {
+    for (PojoClassFilter pojoClassFilter : pojoClassFilters) {
+      if (pojoClassFilter instanceof FilterChain) {
+        if (((FilterChain) pojoClassFilter).hasClassDescriptorFilters())
+          return true;
+      } else if (pojoClassFilter instanceof ClassDescriptorFilter) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Only the filters in this chain that are also PojoClassNameFilters take part, the rest are applied later.
+   */
+  public boolean include(final String className) {
+    for (PojoClassFilter pojoClassFilter : pojoClassFilters) {
+      if (pojoClassFilter instanceof PojoClassNameFilter
+          && !((PojoClassNameFilter) pojoClassFilter).include(className))
+        return false;
+    }
+    return true;
+  }
+
   public Collection<PojoClassFilter> getPojoClassFilters() {
     return Collections.unmodifiableSet(pojoClassFilters);
   }
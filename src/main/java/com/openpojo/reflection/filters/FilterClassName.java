@@ -20,8 +20,11 @@ package com.openpojo.reflection.filters;
 
 import java.util.regex.Pattern;
 
+import com.openpojo.reflection.ClassDescriptor;
+import com.openpojo.reflection.ClassDescriptorFilter;
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.PojoClassNameFilter;
 
 /**
  * Filter classes based on class name regular expression
@@ -33,7 +36,7 @@ import com.openpojo.reflection.PojoClassFilter;
  *
  * @author oshoukry
  */
-public class FilterClassName implements PojoClassFilter {
+public class FilterClassName implements PojoClassFilter, ClassDescriptorFilter, PojoClassNameFilter {
   //Since Pattern doesn't implement equals, relying on String for equals & hashCode instead.
   private final String regex;
   private final Pattern pattern;
@@ -47,6 +50,14 @@ public class FilterClassName implements PojoClassFilter {
     return pattern.matcher(pojoClass.getName()).find();
   }
 
+  public boolean include(ClassDescriptor classDescriptor) {
+    return pattern.matcher(classDescriptor.getName()).find();
+  }
+
+  public boolean include(String className) {
+    return pattern.matcher(className).find();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o)
@@ -18,8 +18,11 @@
 
 package com.openpojo.reflection.filters;
 
+import com.openpojo.reflection.ClassDescriptor;
+import com.openpojo.reflection.ClassDescriptorFilter;
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.PojoClassNameFilter;
 
 /**
  * This class will filter out Clover classes.
@@ -27,13 +30,21 @@ import com.openpojo.reflection.PojoClassFilter;
  *
  * @author oshoukry
  */
-public class FilterCloverClasses implements PojoClassFilter {
+public class FilterCloverClasses implements PojoClassFilter, ClassDescriptorFilter, PojoClassNameFilter {
   private static final String DEFAULT_CLOVER_TAG = "$__CLR";
 
   public boolean include(final PojoClass pojoClass) {
     return !pojoClass.getName().contains(DEFAULT_CLOVER_TAG);
   }
 
+  public boolean include(final ClassDescriptor classDescriptor) {
+    return !classDescriptor.getName().contains(DEFAULT_CLOVER_TAG);
+  }
+
+  public boolean include(final String className) {
+    return !className.contains(DEFAULT_CLOVER_TAG);
+  }
+
   @Override
   public boolean equals(Object o) {
     return this == o || !(o == null || getClass() != o.getClass());
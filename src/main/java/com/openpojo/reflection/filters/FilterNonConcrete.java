@@ -18,6 +18,8 @@
 
 package com.openpojo.reflection.filters;
 
+import com.openpojo.reflection.ClassDescriptor;
+import com.openpojo.reflection.ClassDescriptorFilter;
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoClassFilter;
 
@@ -26,12 +28,16 @@ import com.openpojo.reflection.PojoClassFilter;
  *
  * @author oshoukry
  */
-public class FilterNonConcrete implements PojoClassFilter {
+public class FilterNonConcrete implements PojoClassFilter, ClassDescriptorFilter {
 
   public boolean include(final PojoClass pojoClass) {
     return pojoClass.isConcrete();
   }
 
+  public boolean include(final ClassDescriptor classDescriptor) {
+    return !(classDescriptor.isAbstract() || classDescriptor.isInterface() || classDescriptor.isEnum());
+  }
+
   @Override
   public boolean equals(Object o) {
     return this == o || !(o == null || getClass() != o.getClass());
@@ -18,8 +18,11 @@
 
 package com.openpojo.reflection.filters;
 
+import com.openpojo.reflection.ClassDescriptor;
+import com.openpojo.reflection.ClassDescriptorFilter;
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.PojoClassNameFilter;
 import com.openpojo.reflection.java.Java;
 
 /**
@@ -27,12 +30,20 @@ import com.openpojo.reflection.java.Java;
  *
  * @author oshoukry
  */
-public class FilterPackageInfo implements PojoClassFilter {
+public class FilterPackageInfo implements PojoClassFilter, ClassDescriptorFilter, PojoClassNameFilter {
 
   public boolean include(final PojoClass pojoClass) {
     return !pojoClass.getName().endsWith(Java.PACKAGE_DELIMITER + Java.PACKAGE_INFO);
   }
 
+  public boolean include(final ClassDescriptor classDescriptor) {
+    return !classDescriptor.getName().endsWith(Java.PACKAGE_DELIMITER + Java.PACKAGE_INFO);
+  }
+
+  public boolean include(final String className) {
+    return !className.endsWith(Java.PACKAGE_DELIMITER + Java.PACKAGE_INFO);
+  }
+
   @Override
   public boolean equals(Object o) {
     return this == o || !(o == null || getClass() != o.getClass());
@@ -18,18 +18,24 @@
 
 package com.openpojo.reflection.filters;
 
+import com.openpojo.reflection.ClassDescriptor;
+import com.openpojo.reflection.ClassDescriptorFilter;
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoClassFilter;
 
 /**
  * @author oshoukry
  */
-public class FilterSyntheticClasses implements PojoClassFilter {
+public class FilterSyntheticClasses implements PojoClassFilter, ClassDescriptorFilter {
 
   public boolean include(PojoClass pojoClass) {
     return !pojoClass.isSynthetic();
   }
 
+  public boolean include(ClassDescriptor classDescriptor) {
+    return !classDescriptor.isSynthetic();
+  }
+
   @Override
   public boolean equals(Object o) {
     return this == o || !(o == null || getClass() != o.getClass());
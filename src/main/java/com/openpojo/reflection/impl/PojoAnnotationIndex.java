@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.openpojo.reflection.PojoField;
+import com.openpojo.reflection.PojoMethod;
+
+/**
+ * This index holds the fields and methods of a single class keyed by the type of annotations present on them.
+ * It is built once per class, and answers annotation lookups without reading the annotations again.
+ *
+ * @author oshoukry
+ */
+class PojoAnnotationIndex {
+  private final Map<Class<? extends Annotation>, List<PojoField>> fieldsByAnnotation;
+  private final Map<Class<? extends Annotation>, List<PojoMethod>> methodsByAnnotation;
+
+  PojoAnnotationIndex(final List<PojoField> pojoFields, final List<PojoMethod> pojoMethods) {
+    fieldsByAnnotation = new HashMap<Class<? extends Annotation>, List<PojoField>>();
+    for (final PojoField pojoField : pojoFields)
+      index(fieldsByAnnotation, pojoField, pojoField.getAnnotations());
+
+    methodsByAnnotation = new HashMap<Class<? extends Annotation>, List<PojoMethod>>();
+    for (final PojoMethod pojoMethod : pojoMethods)
+      index(methodsByAnnotation, pojoMethod, pojoMethod.getAnnotations());
+
+    seal(fieldsByAnnotation);
+    seal(methodsByAnnotation);
+  }
+
+  /**
+   * @param annotation
+   *     The annotation to lookup.
+   * @return An unmodifiable list of the fields annotated with the given annotation, empty if none.
+   */
+  List<PojoField> getPojoFields(final Class<? extends Annotation> annotation) {
+    return lookup(fieldsByAnnotation, annotation);
+  }
+
+  /**
+   * @param annotation
+   *     The annotation to lookup.
+   * @return An unmodifiable list of the methods annotated with the given annotation, empty if none.
+   */
+  List<PojoMethod> getPojoMethods(final Class<? extends Annotation> annotation) {
+    return lookup(methodsByAnnotation, annotation);
+  }
+
+  private static <T> void index(final Map<Class<? extends Annotation>, List<T>> index, final T member,
+                                final List<? extends Annotation> annotations) {
+    for (final Annotation annotation : annotations) {
+      List<T> members = index.get(annotation.annotationType());
+      if (members == null) {
+        members = new ArrayList<T>(1);
+        index.put(annotation.annotationType(), members);
+      }
+      members.add(member);
+    }
+  }
+
+  private static <T> void seal(final Map<Class<? extends Annotation>, List<T>> index) {
+    for (final Map.Entry<Class<? extends Annotation>, List<T>> entry : index.entrySet())
+      entry.setValue(Collections.unmodifiableList(entry.getValue()));
+  }
+
+  private static <T> List<T> lookup(final Map<Class<? extends Annotation>, List<T>> index,
+                                    final Class<? extends Annotation> annotation) {
+    final List<T> members = index.get(annotation);
+    if (members == null)
+      return Collections.emptyList();
+    return members;
+  }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.io.File;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.PojoClassNameFilter;
+import com.openpojo.reflection.PojoClassVisitor;
+import com.openpojo.reflection.filters.FilterChain;
+import com.openpojo.reflection.java.Java;
+import com.openpojo.reflection.java.packageloader.PackageLoaderCache;
+import com.openpojo.reflection.java.packageloader.impl.URLToFileSystemAdapter;
+import com.openpojo.reflection.java.packageloader.reader.JarFileReader;
+
+/**
+ * This class rescans a package recursively and only returns the classes whose class files were added or changed since
+ * the previous scan, so a long running harness can validate just those, i.e.
+ * <pre>
+ *   validator.validate(pojoClassChangeTracker.getChangedPojoClasses());
+ * </pre>
+ * Every class is tracked by the modification time and size of the file it was found in, the class file itself for
+ * directories, the jar for jars. Unchanged classes are skipped by name, so they are never loaded or introspected again.
+ * <br>
+ * A class loader never loads a class twice, so changed classes are only introspected with their new shape when every
+ * scan goes through a new class loader, see {@link #PojoClassChangeTracker(String, PojoClassFilter,
+ * ClassLoaderSupplier)}. Without one, scans go through the thread context class loader and only detect the changes.
+ *
+ * @author oshoukry
+ */
+public final class PojoClassChangeTracker {
+  private static final ClassLoaderSupplier CONTEXT_CLASS_LOADER = new ClassLoaderSupplier() {
+    public ClassLoader get() {
+      return Thread.currentThread().getContextClassLoader();
+    }
+  };
+
+  private final String packageName;
+  private final PojoClassFilter pojoClassFilter;
+  private final ClassLoaderSupplier classLoaderSupplier;
+  private final ConcurrentMap<String, Fingerprint> fingerprints = new ConcurrentHashMap<String, Fingerprint>();
+  private final Set<String> returnedClassNames = new HashSet<String>();
+  private Set<String> removedClassNames = Collections.emptySet();
+
+  /**
+   * Track changes through the thread context class loader, changed classes are returned as that loader loaded them.
+   *
+   * @param packageName
+   *     The package to scan recursively.
+   * @param pojoClassFilter
+   *     The filter to apply, or null.
+   */
+  public PojoClassChangeTracker(final String packageName, final PojoClassFilter pojoClassFilter) {
+    this(packageName, pojoClassFilter, CONTEXT_CLASS_LOADER);
+  }
+
+  /**
+   * Track changes through a class loader from the supplier for every scan, so changed classes are loaded and
+   * introspected again with their new shape.
+   *
+   * @param packageName
+   *     The package to scan recursively.
+   * @param pojoClassFilter
+   *     The filter to apply, or null.
+   * @param classLoaderSupplier
+   *     Supplies the class loader for each scan, it should return a new class loader that loads the package's classes
+   *     itself rather than delegating them to a parent that already loaded them.
+   */
+  public PojoClassChangeTracker(final String packageName, final PojoClassFilter pojoClassFilter,
+                                final ClassLoaderSupplier classLoaderSupplier) {
+    this.packageName = packageName;
+    this.pojoClassFilter = pojoClassFilter;
+    this.classLoaderSupplier = classLoaderSupplier;
+  }
+
+  /**
+   * Rescan the package, the first scan returns every class.
+   *
+   * @return The classes added or changed since the previous scan.
+   */
+  public synchronized List<PojoClass> getChangedPojoClasses() {
+    // packages and classes are looked up through the context class loader, scan through the supplied one.
+    final Thread thread = Thread.currentThread();
+    final ClassLoader original = thread.getContextClassLoader();
+    final ClassLoader classLoader = classLoaderSupplier.get();
+    thread.setContextClassLoader(classLoader);
+    try {
+      // packages are resolved and listed once per class loader, forget them so added and removed files are seen.
+      PackageLoaderCache.clear(classLoader);
+      return scan();
+    } finally {
+      thread.setContextClassLoader(original);
+    }
+  }
+
+  /**
+   * @return The names of the classes that were returned by an earlier scan, but were no longer found by the last one.
+   */
+  public synchronized Set<String> getRemovedClassNames() {
+    return removedClassNames;
+  }
+
+  private List<PojoClass> scan() {
+    final ChangeFilter changeFilter = new ChangeFilter();
+    final List<PojoClass> changed = new ArrayList<PojoClass>();
+    final Set<String> changedClassNames = new HashSet<String>();
+    PojoClassFactory.forEachPojoClassRecursively(packageName, new FilterChain(changeFilter, pojoClassFilter),
+        new PojoClassVisitor() {
+          public void visit(final PojoClass pojoClass) {
+            changed.add(pojoClass);
+            changedClassNames.add(pojoClass.getName());
+          }
+        });
+
+    // a returned class is gone once its file is, or when it changed and the filter no longer lets it through.
+    final Set<String> removed = new HashSet<String>();
+    for (final String className : returnedClassNames) {
+      if (!changeFilter.seen.containsKey(className)
+          || (changeFilter.include(className) && !changedClassNames.contains(className)))
+        removed.add(className);
+    }
+    returnedClassNames.removeAll(removed);
+    returnedClassNames.addAll(changedClassNames);
+    removedClassNames = Collections.unmodifiableSet(removed);
+
+    // classes the filter rejected are remembered too, they're only looked at again once their files change.
+    fingerprints.clear();
+    fingerprints.putAll(changeFilter.seen);
+    return changed;
+  }
+
+  /**
+   * Supplies the class loader to scan through.
+   */
+  public interface ClassLoaderSupplier {
+    ClassLoader get();
+  }
+
+  /**
+   * Excludes classes whose files didn't change, remembering every class name it was asked about along the way.
+   * Packages may be scanned concurrently, so it has to be thread safe.
+   */
+  private class ChangeFilter implements PojoClassFilter, PojoClassNameFilter {
+    private final ConcurrentMap<String, Fingerprint> seen = new ConcurrentHashMap<String, Fingerprint>();
+
+    public boolean include(final String className) {
+      return !getCurrent(className).equals(fingerprints.get(className));
+    }
+
+    public boolean include(final PojoClass pojoClass) {
+      return include(pojoClass.getName());
+    }
+
+    private Fingerprint getCurrent(final String className) {
+      Fingerprint current = seen.get(className);
+      if (current == null) {
+        current = Fingerprint.of(className, fingerprints.get(className));
+        seen.put(className, current);
+      }
+      return current;
+    }
+  }
+
+  private static class Fingerprint {
+    private final File file;
+    private final long lastModified;
+    private final long length;
+
+    private Fingerprint(final File file) {
+      this.file = file;
+      this.lastModified = file == null ? 0 : file.lastModified();
+      this.length = file == null ? 0 : file.length();
+    }
+
+    /**
+     * Resolving a class to its file goes through the class loader, reuse the file found last time while it exists.
+     */
+    private static Fingerprint of(final String className, final Fingerprint previous) {
+      if (previous != null && previous.file != null && previous.file.exists())
+        return new Fingerprint(previous.file);
+      return new Fingerprint(getFile(className));
+    }
+
+    private static File getFile(final String className) {
+      final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+      final URL resource = classLoader == null ? null : classLoader.getResource(
+          className.replace(Java.PACKAGE_DELIMITER, Java.PATH_DELIMITER) + Java.CLASS_EXTENSION);
+      if (resource == null)
+        return null;
+      if ("file".equalsIgnoreCase(resource.getProtocol()))
+        return new URLToFileSystemAdapter(resource).getAsFile();
+      if ("jar".equalsIgnoreCase(resource.getProtocol()))
+        return new File(JarFileReader.getJarFileNameFromURLPath(resource.getPath()));
+      return null;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o)
+        return true;
+      if (o == null || getClass() != o.getClass())
+        return false;
+
+      final Fingerprint that = (Fingerprint) o;
+      return lastModified == that.lastModified && length == that.length
+          && (file == null ? that.file == null : file.equals(that.file));
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * (31 * (file == null ? 0 : file.hashCode()) + (int) lastModified) + (int) length;
+    }
+  }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.PojoField;
+import com.openpojo.reflection.PojoMethod;
+import com.openpojo.reflection.exception.ReflectionException;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
+import com.openpojo.reflection.java.bytecode.Copier;
+
+/**
+ * This class copies the properties of one instance of a class to another, for every field that has both a getter and a
+ * setter, in field declaration order.
+ * Properties that a generated {@link Copier} can handle are copied through it, the rest through reflection.
+ *
+ * @author oshoukry
+ */
+class PojoClassCopier {
+  private final Class<?> clazz;
+  private final List<PojoField> copyableFields;
+  private final Copier copier;
+  private final boolean[] compiled;
+  private final boolean allCompiled;
+
+  PojoClassCopier(final Class<?> clazz, final List<PojoField> pojoFields) {
+    this.clazz = clazz;
+
+    final List<PojoField> copyable = new ArrayList<PojoField>();
+    for (final PojoField pojoField : pojoFields) {
+      if (pojoField.hasGetter() && pojoField.hasSetter())
+        copyable.add(pojoField);
+    }
+    copyableFields = Collections.unmodifiableList(copyable);
+
+    final Method[] getters = new Method[copyable.size()];
+    final Method[] setters = new Method[copyable.size()];
+    for (int index = 0; index < getters.length; index++) {
+      getters[index] = getDeclaredMethod(copyable.get(index).getGetter());
+      setters[index] = getDeclaredMethod(copyable.get(index).getSetter());
+    }
+    copier = getCopier(clazz, getters, setters);
+
+    compiled = new boolean[getters.length];
+    boolean all = true;
+    for (int index = 0; index < compiled.length; index++) {
+      compiled[index] = copier != null && copier.canCopy(index);
+      all &= compiled[index];
+    }
+    allCompiled = all;
+  }
+
+  private static Copier getCopier(final Class<?> clazz, final Method[] getters, final Method[] setters) {
+    try {
+      return ByteCodeFactory.getCopier(clazz, getters, setters);
+    } catch (ReflectionException e) {
+      LoggerFactory.getLogger(PojoClassCopier.class).debug("Unable to generate copier for [{0}], using reflection [{1}]",
+          clazz, e);
+      return null;
+    }
+  }
+
+  /**
+   * @return true if some of the properties are copied through generated byte code.
+   */
+  boolean isCompiled() {
+    return copier != null;
+  }
+
+  void copy(final Object from, final Object to) {
+    if (copier == null || !clazz.isInstance(from) || !clazz.isInstance(to)) {
+      for (final PojoField pojoField : copyableFields)
+        copy(pojoField, from, to);
+      return;
+    }
+
+    if (allCompiled) {
+      copier.copy(from, to);
+      return;
+    }
+
+    for (int index = 0; index < compiled.length; index++) {
+      if (compiled[index])
+        copier.copy(from, to, index);
+      else
+        copy(copyableFields.get(index), from, to);
+    }
+  }
+
+  private static void copy(final PojoField pojoField, final Object from, final Object to) {
+    final Object value = pojoField.invokeGetter(from);
+    pojoField.invokeSetter(to, value);
+  }
+
+  private Method getDeclaredMethod(final PojoMethod pojoMethod) {
+    try {
+      return clazz.getDeclaredMethod(pojoMethod.getName(), pojoMethod.getParameterTypes());
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+}
@@ -22,6 +22,7 @@ import java.util.List;
 
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.PojoClassVisitor;
 import com.openpojo.registry.ServiceRegistrar;
 
 /**
@@ -81,6 +82,23 @@ public final class PojoClassFactory {
     return ServiceRegistrar.getInstance().getPojoClassLookupService().getPojoClassesRecursively(packageName, pojoClassFilter);
   }
 
+  /**
+   * This method hands every class in a package path to a visitor as soon as its package is scanned, in the same order
+   * {@link #getPojoClassesRecursively(String, PojoClassFilter)} returns them, without collecting them into a list.
+   *
+   * @param packageName
+   *     The package name in question.
+   * @param pojoClassFilter
+   *     The filter to use.
+   * @param pojoClassVisitor
+   *     The visitor to hand each PojoClass to.
+   */
+  public static void forEachPojoClassRecursively(final String packageName, final PojoClassFilter pojoClassFilter,
+                                                 final PojoClassVisitor pojoClassVisitor) {
+    ServiceRegistrar.getInstance().getPojoClassLookupService().forEachPojoClassRecursively(packageName,
+        pojoClassFilter, pojoClassVisitor);
+  }
+
   /**
    * Return a list of classes that implement/extend a given type
    *
@@ -30,13 +30,16 @@ import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoField;
 import com.openpojo.reflection.PojoMethod;
 import com.openpojo.reflection.PojoPackage;
+import com.openpojo.reflection.adapt.PojoClassAdapter;
 import com.openpojo.reflection.exception.ReflectionException;
 import com.openpojo.reflection.java.Java;
 import com.openpojo.reflection.java.packageloader.impl.URLToFileSystemAdapter;
-import com.openpojo.reflection.utils.ToStringHelper;
 
 /**
  * This class is the default implementation for the PojoClass Interface, created through the PojoClassFactory.
+ * <p>
+ * Fields, methods and constructors are either given up front, or introspected once on first access, which keeps
+ * scans that only look at the class itself (name, modifiers, annotations) from paying for member introspection.
  *
  * @author oshoukry
  */
@@ -44,79 +47,164 @@ public class PojoClassImpl implements PojoClass {
 
   private final String name;
   private final Class<?> clazz;
-  private final List<PojoField> pojoFields;
-  private final List<PojoMethod> pojoMethods;
+  private final int modifiers;
+  private final boolean interfaze;
+  private final boolean enumeration;
+  private final boolean array;
+  private final boolean synthetic;
+  private final PojoClassAdapter pojoClassAdapter;
+  private final Object membersLock = new Object();
+  private volatile Members members;
 
   public PojoClassImpl(final Class<?> clazz, final List<PojoField> pojoFields, final List<PojoMethod> pojoMethods) {
     this.clazz = clazz;
     this.name = clazz.getName();
-    this.pojoFields = Collections.unmodifiableList(pojoFields);
-    this.pojoMethods = Collections.unmodifiableList(pojoMethods);
+    this.modifiers = clazz.getModifiers();
+    this.interfaze = clazz.isInterface();
+    this.enumeration = clazz.isEnum();
+    this.array = clazz.isArray();
+    this.synthetic = clazz.isSynthetic();
+    this.pojoClassAdapter = null;
+    this.members = new Members(pojoFields, pojoMethods);
+  }
+
+  /**
+   * Create a PojoClassImpl that introspects its fields and methods on first access.
+   *
+   * @param clazz
+   *     The class to represent.
+   */
+  public PojoClassImpl(final Class<?> clazz) {
+    this(clazz, null);
+  }
+
+  /**
+   * Create a PojoClassImpl that introspects its fields and methods on first access, and passes them through the
+   * given adapter before they are exposed.
+   *
+   * @param clazz
+   *     The class to represent.
+   * @param pojoClassAdapter
+   *     The adapter to apply to the introspected members, or null for none.
+   *     Only the fields and methods of the adapted PojoClass are retained.
+   */
+  public PojoClassImpl(final Class<?> clazz, final PojoClassAdapter pojoClassAdapter) {
+    this.clazz = clazz;
+    this.name = clazz.getName();
+    this.modifiers = clazz.getModifiers();
+    this.interfaze = clazz.isInterface();
+    this.enumeration = clazz.isEnum();
+    this.array = clazz.isArray();
+    this.synthetic = clazz.isSynthetic();
+    this.pojoClassAdapter = pojoClassAdapter;
+  }
+
+  private Members getMembers() {
+    Members loaded = members;
+    if (loaded == null) {
+      synchronized (membersLock) {
+        loaded = members;
+        if (loaded == null) {
+          loaded = loadMembers();
+          members = loaded;
+        }
+      }
+    }
+    return loaded;
+  }
+
+  private Members loadMembers() {
+    final List<PojoMethod> pojoMethods = PojoMethodFactory.getPojoMethods(clazz);
+    PojoClass pojoClass = new PojoClassImpl(clazz, PojoFieldFactory.getPojoFields(clazz, pojoMethods), pojoMethods);
+    if (pojoClassAdapter != null)
+      pojoClass = pojoClassAdapter.adapt(pojoClass);
+    return new Members(pojoClass.getPojoFields(), pojoClass.getPojoMethods());
   }
 
   public boolean isInterface() {
-    return clazz.isInterface();
+    return interfaze;
   }
 
   public boolean isAbstract() {
     // Java returns true on Abstract call for Interfaces.
-    return Modifier.isAbstract(clazz.getModifiers()) && !isInterface();
+    return Modifier.isAbstract(modifiers) && !interfaze;
   }
 
   public boolean isConcrete() {
-    return !(isAbstract() || isInterface() || isEnum());
+    return !(Modifier.isAbstract(modifiers) || interfaze || enumeration);
   }
 
   public boolean isEnum() {
-    return clazz.isEnum();
+    return enumeration;
   }
 
   public boolean isArray() {
-    return clazz.isArray();
+    return array;
   }
 
   public boolean isFinal() {
-    return Modifier.isFinal(clazz.getModifiers());
+    return Modifier.isFinal(modifiers);
   }
 
   public boolean isSynthetic() {
-    return clazz.isSynthetic();
+    return synthetic;
   }
 
   public List<PojoField> getPojoFields() {
-    return pojoFields;
+    return getMembers().pojoFields;
   }
 
-  public List<PojoField> getPojoFieldsAnnotatedWith(Class<? extends Annotation> annotation) {
-    List<PojoField> returnedFields = new LinkedList<PojoField>();
-    for (PojoField pojoField : pojoFields) {
-      if (pojoField.getAnnotation(annotation) != null)
-        returnedFields.add(pojoField);
+  public List<PojoField> getAllPojoFields() {
+    return getFieldHierarchy().getAllPojoFields();
+  }
+
+  public List<PojoField> getAllPojoFieldsByName(String name) {
+    return getFieldHierarchy().getAllPojoFieldsByName(name);
+  }
+
+  public boolean isShadowed(PojoField pojoField) {
+    return getFieldHierarchy().isShadowed(pojoField);
+  }
+
+  private PojoFieldHierarchy getFieldHierarchy() {
+    final Members loaded = getMembers();
+    PojoFieldHierarchy hierarchy = loaded.fieldHierarchy;
+    if (hierarchy == null) {
+      // built on first use only, racing threads build identical hierarchies.
+      final PojoClass superClass = getSuperClass();
+      final List<PojoField> inherited;
+      if (superClass == null)
+        inherited = Collections.emptyList();
+      else
+        inherited = superClass.getAllPojoFields();
+      hierarchy = new PojoFieldHierarchy(loaded.pojoFields, inherited);
+      loaded.fieldHierarchy = hierarchy;
     }
-    return returnedFields;
+    return hierarchy;
+  }
+
+  public List<PojoField> getPojoFieldsAnnotatedWith(Class<? extends Annotation> annotation) {
+    return new LinkedList<PojoField>(getAnnotatedPojoFields(annotation));
+  }
+
+  public List<PojoField> getAnnotatedPojoFields(Class<? extends Annotation> annotation) {
+    return getMembers().getAnnotationIndex().getPojoFields(annotation);
   }
 
   public List<PojoMethod> getPojoMethods() {
-    return pojoMethods;
+    return getMembers().pojoMethods;
   }
 
   public List<PojoMethod> getPojoMethodsAnnotatedWith(Class<? extends Annotation> annotation) {
-    List<PojoMethod> returnedMethods = new LinkedList<PojoMethod>();
-    for (PojoMethod pojoMethod : pojoMethods) {
-      if (pojoMethod.getAnnotation(annotation) != null)
-        returnedMethods.add(pojoMethod);
-    }
-    return returnedMethods;
+    return new LinkedList<PojoMethod>(getAnnotatedPojoMethods(annotation));
+  }
+
+  public List<PojoMethod> getAnnotatedPojoMethods(Class<? extends Annotation> annotation) {
+    return getMembers().getAnnotationIndex().getPojoMethods(annotation);
   }
 
   public List<PojoMethod> getPojoConstructors() {
-    final List<PojoMethod> constructors = new LinkedList<PojoMethod>();
-    for (final PojoMethod pojoMethod : pojoMethods) {
-      if (pojoMethod.isConstructor()) {
-        constructors.add(pojoMethod);
-      }
-    }
-    return constructors;
+    return new LinkedList<PojoMethod>(getMembers().pojoConstructors);
   }
 
   public PojoClass getEnclosingClass() {
@@ -147,16 +235,11 @@ public class PojoClassImpl implements PojoClass {
   }
 
   public boolean isStatic() {
-    return Modifier.isStatic(clazz.getModifiers());
+    return Modifier.isStatic(modifiers);
   }
 
   public void copy(final Object from, final Object to) {
-    for (final PojoField pojoField : pojoFields) {
-      if (pojoField.hasGetter() && pojoField.hasSetter()) {
-        final Object value = pojoField.invokeGetter(from);
-        pojoField.invokeSetter(to, value);
-      }
-    }
+    getMembers().getCopier(clazz).copy(from, to);
   }
 
   public Class<?> getClazz() {
@@ -165,12 +248,12 @@ public class PojoClassImpl implements PojoClass {
 
   @Override
   public String toString() {
-    return String.format(this.getClass().getName() + " [clazz=%s, pojoFields=%s, pojoMethods=%s]", clazz, pojoFields,
-        pojoMethods);
+    return String.format(this.getClass().getName() + " [clazz=%s, pojoFields=%s, pojoMethods=%s]", clazz, getPojoFields(),
+        getPojoMethods());
   }
 
   public String toString(final Object instance) {
-    return ToStringHelper.pojoClassToString(this, instance);
+    return getMembers().getToString(clazz, name).toString(instance);
   }
 
   public PojoClass getSuperClass() {
@@ -218,22 +301,81 @@ public class PojoClassImpl implements PojoClass {
   }
 
   public boolean isPrivate() {
-    return Modifier.isPrivate(clazz.getModifiers());
+    return Modifier.isPrivate(modifiers);
   }
 
   public boolean isPackagePrivate() {
-    int modifiers = clazz.getModifiers();
-
     return (Modifier.PUBLIC & modifiers
         | Modifier.PROTECTED & modifiers
         | Modifier.PRIVATE & modifiers) == 0;
   }
 
   public boolean isProtected() {
-    return Modifier.isProtected(clazz.getModifiers());
+    return Modifier.isProtected(modifiers);
   }
 
   public boolean isPublic() {
-    return Modifier.isPublic(clazz.getModifiers());
+    return Modifier.isPublic(modifiers);
+  }
+
+  private static class Members {
+    private final List<PojoField> pojoFields;
+    private final List<PojoMethod> pojoMethods;
+    private final List<PojoMethod> pojoConstructors;
+    private volatile PojoAnnotationIndex annotationIndex;
+    private volatile PojoFieldHierarchy fieldHierarchy;
+    private volatile PojoClassCopier copier;
+    private volatile PojoClassToString toString;
+
+    private Members(final List<PojoField> pojoFields, final List<PojoMethod> pojoMethods) {
+      this.pojoFields = Collections.unmodifiableList(pojoFields);
+      this.pojoMethods = Collections.unmodifiableList(pojoMethods);
+
+      final List<PojoMethod> constructors = new LinkedList<PojoMethod>();
+      for (final PojoMethod pojoMethod : pojoMethods) {
+        if (pojoMethod.isConstructor()) {
+          constructors.add(pojoMethod);
+        }
+      }
+      this.pojoConstructors = constructors;
+    }
+
+    private PojoClassCopier getCopier(final Class<?> clazz) {
+      PojoClassCopier loaded = copier;
+      if (loaded == null) {
+        synchronized (this) {
+          loaded = copier;
+          if (loaded == null) {
+            loaded = new PojoClassCopier(clazz, pojoFields);
+            copier = loaded;
+          }
+        }
+      }
+      return loaded;
+    }
+
+    private PojoClassToString getToString(final Class<?> clazz, final String name) {
+      PojoClassToString loaded = toString;
+      if (loaded == null) {
+        synchronized (this) {
+          loaded = toString;
+          if (loaded == null) {
+            loaded = new PojoClassToString(clazz, name, pojoFields);
+            toString = loaded;
+          }
+        }
+      }
+      return loaded;
+    }
+
+    private PojoAnnotationIndex getAnnotationIndex() {
+      PojoAnnotationIndex index = annotationIndex;
+      if (index == null) {
+        // built on first use only, racing threads build identical indexes.
+        index = new PojoAnnotationIndex(pojoFields, pojoMethods);
+        annotationIndex = index;
+      }
+      return index;
+    }
   }
 }
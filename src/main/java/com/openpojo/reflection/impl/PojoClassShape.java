@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.List;
+
+import com.openpojo.reflection.PojoField;
+import com.openpojo.reflection.PojoMethod;
+
+/**
+ * This class holds the introspected shape of a single class as recorded in a {@link PojoClassSnapshot}, the declared
+ * fields in order, along with the names of the getter and setter each field was paired with.
+ *
+ * @author oshoukry
+ */
+class PojoClassShape {
+  private final String className;
+  private final String fieldPrefixes;
+  private final long memberHash;
+  private final String[] fieldNames;
+  private final String[] getterNames;
+  private final String[] setterNames;
+
+  private PojoClassShape(final String className, final String fieldPrefixes, final long memberHash,
+                         final String[] fieldNames, final String[] getterNames, final String[] setterNames) {
+    this.className = className;
+    this.fieldPrefixes = fieldPrefixes;
+    this.memberHash = memberHash;
+    this.fieldNames = fieldNames;
+    this.getterNames = getterNames;
+    this.setterNames = setterNames;
+  }
+
+  /**
+   * Record the shape of a class from its introspected fields.
+   *
+   * @param className
+   *     The name of the class.
+   * @param fieldPrefixes
+   *     The field prefixes registered when the getters and setters were paired.
+   * @param memberHash
+   *     The hash of the declared members the fields were introspected from.
+   * @param pojoFields
+   *     The declared fields of the class, in declaration order.
+   * @return the shape of the class.
+   */
+  static PojoClassShape of(final String className, final String fieldPrefixes, final long memberHash,
+                           final List<PojoField> pojoFields) {
+    final int size = pojoFields.size();
+    final String[] fieldNames = new String[size];
+    final String[] getterNames = new String[size];
+    final String[] setterNames = new String[size];
+    int index = 0;
+    for (final PojoField pojoField : pojoFields) {
+      fieldNames[index] = pojoField.getName();
+      getterNames[index] = getName(pojoField.getGetter());
+      setterNames[index] = getName(pojoField.getSetter());
+      index++;
+    }
+    return new PojoClassShape(className, fieldPrefixes, memberHash, fieldNames, getterNames, setterNames);
+  }
+
+  private static String getName(final PojoMethod pojoMethod) {
+    return pojoMethod == null ? null : pojoMethod.getName();
+  }
+
+  String getClassName() {
+    return className;
+  }
+
+  String getFieldPrefixes() {
+    return fieldPrefixes;
+  }
+
+  long getMemberHash() {
+    return memberHash;
+  }
+
+  /**
+   * @return true if this shape was recorded for exactly these fields, and every recorded getter and setter is still
+   * declared.
+   */
+  boolean describes(final Field[] fields, final PojoMethodIndex pojoMethodIndex) {
+    if (fields.length != fieldNames.length)
+      return false;
+    for (int index = 0; index < fields.length; index++) {
+      if (!fields[index].getName().equals(fieldNames[index])
+          || getterNames[index] != null && getGetter(index, pojoMethodIndex) == null
+          || setterNames[index] != null && getSetter(index, fields[index], pojoMethodIndex) == null)
+        return false;
+    }
+    return true;
+  }
+
+  /**
+   * @return the recorded getter of a field, or null if the field had none.
+   */
+  PojoMethod getGetter(final int index, final PojoMethodIndex pojoMethodIndex) {
+    return getterNames[index] == null ? null : pojoMethodIndex.getMethod(getterNames[index]);
+  }
+
+  /**
+   * @return the recorded setter of a field, or null if the field had none.
+   */
+  PojoMethod getSetter(final int index, final Field field, final PojoMethodIndex pojoMethodIndex) {
+    return setterNames[index] == null ? null : pojoMethodIndex.getMethod(setterNames[index], field.getType());
+  }
+
+  void writeTo(final DataOutput out) throws IOException {
+    out.writeUTF(className);
+    out.writeUTF(fieldPrefixes);
+    out.writeLong(memberHash);
+    out.writeInt(fieldNames.length);
+    for (int index = 0; index < fieldNames.length; index++) {
+      out.writeUTF(fieldNames[index]);
+      writeOptionalUTF(out, getterNames[index]);
+      writeOptionalUTF(out, setterNames[index]);
+    }
+  }
+
+  static PojoClassShape readFrom(final DataInput in) throws IOException {
+    final String className = in.readUTF();
+    final String fieldPrefixes = in.readUTF();
+    final long memberHash = in.readLong();
+    final int size = in.readInt();
+    final String[] fieldNames = new String[size];
+    final String[] getterNames = new String[size];
+    final String[] setterNames = new String[size];
+    for (int index = 0; index < size; index++) {
+      fieldNames[index] = in.readUTF();
+      getterNames[index] = readOptionalUTF(in);
+      setterNames[index] = readOptionalUTF(in);
+    }
+    return new PojoClassShape(className, fieldPrefixes, memberHash, fieldNames, getterNames, setterNames);
+  }
+
+  private static void writeOptionalUTF(final DataOutput out, final String value) throws IOException {
+    out.writeBoolean(value != null);
+    if (value != null)
+      out.writeUTF(value);
+  }
+
+  private static String readOptionalUTF(final DataInput in) throws IOException {
+    return in.readBoolean() ? in.readUTF() : null;
+  }
+}
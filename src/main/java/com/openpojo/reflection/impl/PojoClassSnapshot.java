@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.openpojo.cache.RecordFile;
+import com.openpojo.reflection.PojoField;
+import com.openpojo.reflection.PojoMethod;
+import com.openpojo.reflection.utils.AttributeHelper;
+
+/**
+ * This class keeps the introspected shape of classes in a compact binary file, so JVMs that introspect the same classes
+ * over and over can reuse the getter / setter pairing instead of rediscovering it.
+ * <br>
+ * Shapes are keyed by class name and a hash of the declared members they were introspected from, a class whose members
+ * changed, or that was introspected under different field prefixes is introspected again and its shape replaced.
+ * <br>
+ * The snapshot is opened by {@link com.openpojo.reflection.service.impl.DefaultPojoClassLookupService} when the
+ * "{@value #SNAPSHOT_FILE_PROPERTY}" system property is set, and written back when the JVM exits, see
+ * {@link RecordFile}.
+ *
+ * @author oshoukry
+ */
+public final class PojoClassSnapshot {
+  public static final String SNAPSHOT_FILE_PROPERTY = "openpojo.snapshot.file";
+
+  private static final int MAGIC = 0x4F50534E;
+  private static final int VERSION = 2;
+
+  private static final RecordFile<PojoClassShape> SHAPES = new RecordFile<PojoClassShape>("snapshot", MAGIC,
+      VERSION) {
+    @Override
+    protected void writeRecord(final DataOutputStream out, final PojoClassShape shape) throws IOException {
+      shape.writeTo(out);
+    }
+
+    @Override
+    protected PojoClassShape readRecord(final DataInputStream in) throws IOException {
+      return PojoClassShape.readFrom(in);
+    }
+  };
+
+  /**
+   * Open a snapshot file, loading the shapes it holds and writing them back along with any new shapes on JVM exit.
+   * A missing or unreadable file is treated as an empty snapshot.
+   *
+   * @param file
+   *     The snapshot file.
+   */
+  public static void open(final File file) {
+    SHAPES.open(file);
+  }
+
+  /**
+   * @return true if a snapshot file is open.
+   */
+  public static boolean isOpen() {
+    return SHAPES.isOpen();
+  }
+
+  /**
+   * Write the snapshot back to its file if any shape was added or replaced since it was opened or last saved.
+   */
+  public static void save() {
+    SHAPES.save();
+  }
+
+  /**
+   * Stop using the snapshot without saving it.
+   */
+  public static void close() {
+    SHAPES.close();
+  }
+
+  /**
+   * Get the shape recorded for a class, if it still describes the class.
+   *
+   * @param clazz
+   *     The class being introspected.
+   * @param fields
+   *     The declared fields of the class.
+   * @param pojoMethods
+   *     The declared methods and constructors of the class.
+   * @param pojoMethodIndex
+   *     The index over pojoMethods.
+   * @return the recorded shape, or null if the snapshot isn't open or has no valid shape for the class.
+   */
+  static PojoClassShape getShape(final Class<?> clazz, final Field[] fields, final List<PojoMethod> pojoMethods,
+                                 final PojoMethodIndex pojoMethodIndex) {
+    final PojoClassShape shape = SHAPES.get(clazz.getName());
+    if (shape == null
+        || shape.getMemberHash() != getMemberHash(fields, pojoMethods)
+        || !shape.getFieldPrefixes().equals(getFieldPrefixes())
+        || !shape.describes(fields, pojoMethodIndex))
+      return null;
+    return shape;
+  }
+
+  /**
+   * Record the shape of a class that was introspected without a valid shape.
+   *
+   * @param clazz
+   *     The introspected class.
+   * @param fields
+   *     The declared fields of the class.
+   * @param pojoMethods
+   *     The declared methods and constructors of the class.
+   * @param pojoFields
+   *     The PojoFields introspected from fields.
+   */
+  static void record(final Class<?> clazz, final Field[] fields, final List<PojoMethod> pojoMethods,
+                     final List<PojoField> pojoFields) {
+    if (SHAPES.isOpen())
+      SHAPES.put(clazz.getName(), PojoClassShape.of(clazz.getName(), getFieldPrefixes(), getMemberHash(fields,
+          pojoMethods), pojoFields));
+  }
+
+  /**
+   * Hash everything getter / setter pairing depends on, field names and types, as well as method names, parameter and
+   * return types and whether they are abstract.
+   * Unlike hashing the class file, this only uses what the JVM already handed out for introspection.
+   */
+  static long getMemberHash(final Field[] fields, final List<PojoMethod> pojoMethods) {
+    long hash = fields.length;
+    for (final Field field : fields)
+      hash = 31 * (31 * hash + field.getName().hashCode()) + field.getType().getName().hashCode();
+
+    for (final PojoMethod pojoMethod : pojoMethods) {
+      hash = 31 * (31 * hash + pojoMethod.getName().hashCode()) + pojoMethod.getReturnType().getName().hashCode();
+      hash = 31 * hash + (pojoMethod.isAbstract() ? 1 : 0);
+      for (final Class<?> parameterType : pojoMethod.getParameterTypes())
+        hash = 31 * hash + parameterType.getName().hashCode();
+    }
+    return hash;
+  }
+
+  private static String getFieldPrefixes() {
+    final Set<String> fieldPrefixes = AttributeHelper.getFieldPrefixes();
+    if (fieldPrefixes.isEmpty())
+      return "";
+
+    final StringBuilder signature = new StringBuilder();
+    for (final String prefix : new TreeSet<String>(fieldPrefixes))
+      signature.append(prefix).append(',');
+    return signature.toString();
+  }
+
+  private PojoClassSnapshot() {
+    throw new UnsupportedOperationException(PojoClassSnapshot.class.getName() + " should not be constructed!");
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.PojoField;
+import com.openpojo.reflection.exception.ReflectionException;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
+import com.openpojo.reflection.java.bytecode.FieldAppender;
+import com.openpojo.reflection.utils.ObjectToString;
+import com.openpojo.reflection.utils.ToStringHelper;
+
+/**
+ * This class renders instances of a class in the same format as {@link ToStringHelper#pojoClassToString}, through
+ * the same header, field prefixes and footer.
+ * The "name=" prefixes are built once per class, and every rendering appends into a single StringBuilder sized after
+ * the previous rendering. Fields that a generated {@link FieldAppender} can read are appended through it, the rest
+ * through reflection.
+ *
+ * @author oshoukry
+ */
+class PojoClassToString {
+  private final Class<?> clazz;
+  private final String name;
+  private final PojoField[] pojoFields;
+  private final String[] prefixes;
+  private final FieldAppender fieldAppender;
+  private final boolean[] appendable;
+  private volatile int expectedLength;
+
+  PojoClassToString(final Class<?> clazz, final String name, final List<PojoField> pojoFields) {
+    this.clazz = clazz;
+    this.name = name;
+    this.pojoFields = pojoFields.toArray(new PojoField[pojoFields.size()]);
+
+    prefixes = new String[this.pojoFields.length];
+    final Field[] fields = new Field[this.pojoFields.length];
+    for (int index = 0; index < prefixes.length; index++) {
+      final String fieldName = this.pojoFields[index].getName();
+      prefixes[index] = ToStringHelper.getFieldPrefix(index, fieldName);
+      fields[index] = getDeclaredField(fieldName);
+    }
+
+    fieldAppender = getFieldAppender(clazz, fields);
+    appendable = new boolean[fields.length];
+    for (int index = 0; index < appendable.length; index++)
+      appendable[index] = fieldAppender != null && fieldAppender.canAppend(index);
+    expectedLength = name.length() + 16;
+  }
+
+  /**
+   * @return true if some of the fields are rendered through generated byte code.
+   */
+  boolean isCompiled() {
+    return fieldAppender != null;
+  }
+
+  String toString(final Object instance) {
+    final StringBuilder builder = new StringBuilder(expectedLength);
+    ToStringHelper.appendPojoClassHeader(builder, name, instance);
+
+    final boolean direct = fieldAppender != null && clazz.isInstance(instance);
+    for (int index = 0; index < pojoFields.length; index++) {
+      builder.append(prefixes[index]);
+      if (direct && appendable[index])
+        append(instance, index, builder);
+      else
+        builder.append(ObjectToString.toString(pojoFields[index].get(instance)));
+    }
+
+    ToStringHelper.appendPojoClassFooter(builder);
+    expectedLength = builder.length();
+    return builder.toString();
+  }
+
+  private static FieldAppender getFieldAppender(final Class<?> clazz, final Field[] fields) {
+    try {
+      return ByteCodeFactory.getFieldAppender(clazz, fields);
+    } catch (ReflectionException e) {
+      LoggerFactory.getLogger(PojoClassToString.class).debug("Unable to generate field appender for [{0}], using "
+          + "reflection [{1}]", clazz, e);
+      return null;
+    }
+  }
+
+  private void append(final Object instance, final int index, final StringBuilder builder) {
+    try {
+      fieldAppender.append(instance, index, builder);
+    } catch (Throwable throwable) {
+      throw ReflectionException.getInstance(throwable.getMessage(), throwable);
+    }
+  }
+
+  private Field getDeclaredField(final String name) {
+    try {
+      return clazz.getDeclaredField(name);
+    } catch (NoSuchFieldException e) {
+      return null;
+    }
+  }
+}
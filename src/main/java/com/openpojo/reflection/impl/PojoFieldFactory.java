@@ -23,7 +23,12 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
+import com.openpojo.log.LoggerFactory;
 import com.openpojo.reflection.PojoField;
+import com.openpojo.reflection.PojoMethod;
+import com.openpojo.reflection.exception.ReflectionException;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
+import com.openpojo.reflection.java.bytecode.FieldAccessor;
 
 /**
  * This Field Factory returns a list of PojoFields for a given Class.
@@ -39,13 +44,48 @@ public final class PojoFieldFactory {
    * @return List of All Fields as PojoFields in that class.
    */
   public static List<PojoField> getPojoFields(final Class<?> clazz) {
+    return getPojoFields(clazz, PojoMethodFactory.getPojoMethods(clazz));
+  }
+
+  /**
+   * Get all PojoFields in a given Class, resolving getters and setters from the already introspected methods of that
+   * class.
+   *
+   * @param clazz
+   *     The class to Introspect.
+   * @param pojoMethods
+   *     All the methods declared on clazz (see {@link PojoMethodFactory#getPojoMethods(Class)}).
+   * @return List of All Fields as PojoFields in that class.
+   */
+  public static List<PojoField> getPojoFields(final Class<?> clazz, final List<PojoMethod> pojoMethods) {
+    final PojoMethodIndex pojoMethodIndex = new PojoMethodIndex(pojoMethods);
+    final Field[] fields = clazz.getDeclaredFields();
+    final FieldAccessor fieldAccessor = getFieldAccessor(clazz, fields);
+    final PojoClassShape shape = PojoClassSnapshot.getShape(clazz, fields, pojoMethods, pojoMethodIndex);
     final List<PojoField> pojoFields = new LinkedList<PojoField>();
-    for (final Field field : clazz.getDeclaredFields()) {
-      pojoFields.add(new PojoFieldImpl(field));
+    for (int index = 0; index < fields.length; index++) {
+      if (shape == null)
+        pojoFields.add(new PojoFieldImpl(fields[index], pojoMethodIndex, fieldAccessor, index));
+      else
+        pojoFields.add(new PojoFieldImpl(fields[index], shape.getGetter(index, pojoMethodIndex),
+            shape.getSetter(index, fields[index], pojoMethodIndex), fieldAccessor, index));
     }
+
+    if (shape == null)
+      PojoClassSnapshot.record(clazz, fields, pojoMethods, pojoFields);
     return Collections.unmodifiableList(pojoFields);
   }
 
+  private static FieldAccessor getFieldAccessor(final Class<?> clazz, final Field[] fields) {
+    try {
+      return ByteCodeFactory.getFieldAccessor(clazz, fields);
+    } catch (ReflectionException e) {
+      LoggerFactory.getLogger(PojoFieldFactory.class).debug("Unable to generate field accessor for [{0}], using "
+          + "reflection [{1}]", clazz, e);
+      return null;
+    }
+  }
+
   private PojoFieldFactory() {
       throw new UnsupportedOperationException(PojoFieldFactory.class.getName() + " should not be constructed!");
     }
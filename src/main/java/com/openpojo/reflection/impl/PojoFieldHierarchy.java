@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.openpojo.reflection.PojoField;
+
+/**
+ * This class holds the fields of a class along with the fields inherited from its super classes, keyed by name.
+ * It is built once per class on top of the (already built) hierarchy of its super class.
+ *
+ * @author oshoukry
+ */
+class PojoFieldHierarchy {
+  private final List<PojoField> allPojoFields;
+  private final Map<String, List<PojoField>> pojoFieldsByName = new HashMap<String, List<PojoField>>();
+  private final Map<PojoField, Boolean> shadowedPojoFields = new IdentityHashMap<PojoField, Boolean>();
+
+  PojoFieldHierarchy(final List<PojoField> declaredPojoFields, final List<PojoField> inheritedPojoFields) {
+    final List<PojoField> pojoFields = new ArrayList<PojoField>(declaredPojoFields.size() + inheritedPojoFields.size());
+    pojoFields.addAll(declaredPojoFields);
+    pojoFields.addAll(inheritedPojoFields);
+    allPojoFields = Collections.unmodifiableList(pojoFields);
+
+    for (final PojoField pojoField : allPojoFields) {
+      List<PojoField> sameName = pojoFieldsByName.get(pojoField.getName());
+      if (sameName == null) {
+        sameName = new ArrayList<PojoField>(1);
+        pojoFieldsByName.put(pojoField.getName(), sameName);
+      } else {
+        shadowedPojoFields.put(pojoField, Boolean.TRUE);
+      }
+      sameName.add(pojoField);
+    }
+
+    for (final Map.Entry<String, List<PojoField>> entry : pojoFieldsByName.entrySet())
+      entry.setValue(Collections.unmodifiableList(entry.getValue()));
+  }
+
+  List<PojoField> getAllPojoFields() {
+    return allPojoFields;
+  }
+
+  List<PojoField> getAllPojoFieldsByName(final String name) {
+    final List<PojoField> pojoFields = pojoFieldsByName.get(name);
+    if (pojoFields == null)
+      return Collections.emptyList();
+    return pojoFields;
+  }
+
+  boolean isShadowed(final PojoField pojoField) {
+    return shadowedPojoFields.containsKey(pojoField);
+  }
+}
@@ -32,6 +32,8 @@ import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoField;
 import com.openpojo.reflection.PojoMethod;
 import com.openpojo.reflection.exception.ReflectionException;
+import com.openpojo.reflection.java.bytecode.FieldAccessor;
+import com.openpojo.reflection.java.type.Primitives;
 import com.openpojo.reflection.java.type.Resolver;
 import com.openpojo.reflection.utils.ToStringHelper;
 
@@ -45,17 +47,49 @@ import com.openpojo.reflection.utils.ToStringHelper;
 class PojoFieldImpl implements PojoField {
 
   private final Field field;
+  private final String name;
+  private final Class<?> type;
+  private final Class<?> boxedType;
+  private final Class<?> declaringClass;
+  private final int modifiers;
+  private final boolean synthetic;
   private final PojoMethod fieldGetter;
   private final PojoMethod fieldSetter;
+  private final FieldAccessor fieldAccessor;
+  private final int fieldAccessorIndex;
+  private final boolean directGet;
+  private final boolean directSet;
+
+  PojoFieldImpl(final Field field, final PojoMethodIndex pojoMethodIndex, final FieldAccessor fieldAccessor,
+                final int fieldAccessorIndex) {
+    this(field, PojoMethodFactory.getFieldGetter(field, pojoMethodIndex),
+        PojoMethodFactory.getFieldSetter(field, pojoMethodIndex), fieldAccessor, fieldAccessorIndex);
+  }
 
-  PojoFieldImpl(final Field field) {
+  /**
+   * Create a PojoField with an already resolved getter and setter (i.e. from a {@link PojoClassSnapshot}).
+   */
+  PojoFieldImpl(final Field field, final PojoMethod fieldGetter, final PojoMethod fieldSetter,
+                final FieldAccessor fieldAccessor, final int fieldAccessorIndex) {
     this.field = field;
     this.field.setAccessible(true);
-    fieldGetter = PojoMethodFactory.getFieldGetter(field);
-    fieldSetter = PojoMethodFactory.getFieldSetter(field);
+    name = field.getName();
+    type = field.getType();
+    boxedType = Primitives.getInstance().autoBox(type);
+    declaringClass = field.getDeclaringClass();
+    modifiers = field.getModifiers();
+    synthetic = field.isSynthetic();
+    this.fieldGetter = fieldGetter;
+    this.fieldSetter = fieldSetter;
+    this.fieldAccessor = fieldAccessor;
+    this.fieldAccessorIndex = fieldAccessorIndex;
+    directGet = fieldAccessor != null && fieldAccessor.canGet(fieldAccessorIndex);
+    directSet = fieldAccessor != null && fieldAccessor.canSet(fieldAccessorIndex);
   }
 
   public Object get(final Object instance) {
+    if (directGet && isAccessibleOn(instance))
+      return fieldAccessor.get(instance, fieldAccessorIndex);
     try {
       return field.get(instance);
     } catch (IllegalArgumentException e) {
@@ -68,10 +102,14 @@ class PojoFieldImpl implements PojoField {
   }
 
   public String getName() {
-    return field.getName();
+    return name;
   }
 
   public void set(final Object instance, final Object value) {
+    if (directSet && isAccessibleOn(instance) && isAssignableFrom(value)) {
+      fieldAccessor.set(instance, fieldAccessorIndex, value);
+      return;
+    }
     try {
       field.set(instance, value);
     } catch (IllegalArgumentException e) {
@@ -83,6 +121,18 @@ class PojoFieldImpl implements PojoField {
     }
   }
 
+  /**
+   * Anything the generated accessor can't take as is goes through reflection, which reports errors and widens
+   * primitives.
+   */
+  private boolean isAccessibleOn(final Object instance) {
+    return isStatic() || declaringClass.isInstance(instance);
+  }
+
+  private boolean isAssignableFrom(final Object value) {
+    return value == null ? !type.isPrimitive() : boxedType.isInstance(value);
+  }
+
   public boolean hasGetter() {
     return fieldGetter != null;
   }
@@ -124,12 +174,11 @@ class PojoFieldImpl implements PojoField {
   }
 
   public Class<?> getType() {
-    return field.getType();
+    return type;
   }
 
   public boolean isParameterized() {
-    Type type = field.getGenericType();
-    return type instanceof ParameterizedType;
+    return field.getGenericType() instanceof ParameterizedType;
   }
 
   public List<Type> getParameterTypes() {
@@ -138,7 +187,7 @@ class PojoFieldImpl implements PojoField {
       Collections.addAll(genericTypes, Resolver.getParameterTypes(field.getGenericType()));
     else
       if (isArray())
-        Collections.addAll(genericTypes, getType().getComponentType());
+        Collections.addAll(genericTypes, type.getComponentType());
     return genericTypes;
   }
 
@@ -151,50 +200,49 @@ class PojoFieldImpl implements PojoField {
   }
 
   public boolean isPrimitive() {
-    return getType().isPrimitive();
+    return type.isPrimitive();
   }
 
   public boolean isFinal() {
-    return Modifier.isFinal(field.getModifiers());
+    return Modifier.isFinal(modifiers);
   }
 
   public boolean isStatic() {
-    return Modifier.isStatic(field.getModifiers());
+    return Modifier.isStatic(modifiers);
   }
 
   public boolean isPrivate() {
-    return Modifier.isPrivate(field.getModifiers());
+    return Modifier.isPrivate(modifiers);
   }
 
   public boolean isPackagePrivate() {
-    int modifiers = field.getModifiers();
     return (Modifier.PRIVATE & modifiers
         | Modifier.PROTECTED & modifiers
         | Modifier.PUBLIC & modifiers) == 0;
   }
 
   public boolean isProtected() {
-    return Modifier.isProtected(field.getModifiers());
+    return Modifier.isProtected(modifiers);
   }
 
   public boolean isPublic() {
-    return Modifier.isPublic(field.getModifiers());
+    return Modifier.isPublic(modifiers);
   }
 
   public boolean isTransient() {
-    return Modifier.isTransient(field.getModifiers());
+    return Modifier.isTransient(modifiers);
   }
 
   public boolean isVolatile() {
-    return Modifier.isVolatile(field.getModifiers());
+    return Modifier.isVolatile(modifiers);
   }
 
   public boolean isSynthetic() {
-    return field.isSynthetic();
+    return synthetic;
   }
 
   public boolean isArray() {
-    return field.getType().isArray();
+    return type.isArray();
   }
 
   @Override
@@ -203,6 +251,6 @@ class PojoFieldImpl implements PojoField {
   }
 
   public String toString(final Object instance) {
-    return ToStringHelper.nameValuePair(getName(), get(instance));
+    return ToStringHelper.nameValuePair(name, get(instance));
   }
 }
@@ -60,6 +60,17 @@ public class PojoMethodFactory {
     return Collections.unmodifiableList(pojoMethods);
   }
 
+  /**
+   * Returns an index of all methods and constructors on a given Class, keyed by name and parameter types.
+   *
+   * @param clazz
+   *     The class to introspect for methods / constructors.
+   * @return An index over the class's methods and constructors.
+   */
+  static PojoMethodIndex getPojoMethodIndex(final Class<?> clazz) {
+    return new PojoMethodIndex(getPojoMethods(clazz));
+  }
+
   /**
    * Returns a specific method given method name and parameters.
    *
@@ -88,10 +99,22 @@ public class PojoMethodFactory {
    * @return The getter method or null if none exist.
    */
   public static PojoMethod getFieldGetter(final Field field) {
+    return getFieldGetter(field, getPojoMethodIndex(field.getDeclaringClass()));
+  }
+
+  /**
+   * Returns the Getter Method for a field, looking up the candidates in a pre-built index of the declaring class.
+   *
+   * @param field
+   *     The field to lookup the getter on.
+   * @param pojoMethodIndex
+   *     The method index of the field's declaring class.
+   * @return The getter method or null if none exist.
+   */
+  static PojoMethod getFieldGetter(final Field field, final PojoMethodIndex pojoMethodIndex) {
     PojoMethod pojoMethod = null;
     for (final String candidateName : generateGetMethodNames(field)) {
-      final Class<?> clazz = field.getDeclaringClass();
-      pojoMethod = PojoMethodFactory.getMethod(clazz, candidateName);
+      pojoMethod = pojoMethodIndex.getMethod(candidateName);
       if (pojoMethod != null) {
         if (pojoMethod.getReturnType().isAssignableFrom(field.getType())) {
           if (pojoMethod.isAbstract()) {
@@ -147,11 +170,23 @@ public class PojoMethodFactory {
    * @return The setter method or null if none exist.
    */
   public static PojoMethod getFieldSetter(final Field field) {
+    return getFieldSetter(field, getPojoMethodIndex(field.getDeclaringClass()));
+  }
+
+  /**
+   * Returns the Setter Method for a field, looking up the candidates in a pre-built index of the declaring class.
+   *
+   * @param field
+   *     The field to lookup the setter on.
+   * @param pojoMethodIndex
+   *     The method index of the field's declaring class.
+   * @return The setter method or null if none exist.
+   */
+  static PojoMethod getFieldSetter(final Field field, final PojoMethodIndex pojoMethodIndex) {
     PojoMethod pojoMethod = null;
 
     for (final String candidateName : generateSetMethodNames(field)) {
-      final Class<?> clazz = field.getDeclaringClass();
-      pojoMethod = PojoMethodFactory.getMethod(clazz, candidateName, field.getType());
+      pojoMethod = pojoMethodIndex.getMethod(candidateName, field.getType());
 
       if (pojoMethod != null) {
         if (pojoMethod.isAbstract()) {
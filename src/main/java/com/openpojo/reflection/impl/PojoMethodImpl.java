@@ -21,45 +21,56 @@ package com.openpojo.reflection.impl;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import com.openpojo.reflection.PojoMethod;
 import com.openpojo.reflection.PojoParameter;
-import com.openpojo.reflection.exception.ReflectionException;
+import com.openpojo.reflection.java.invoke.Invoker;
+import com.openpojo.reflection.java.invoke.InvokerFactory;
+import com.openpojo.reflection.java.invoke.impl.ReflectionInvoker;
 
 /**
  * @author oshoukry
  */
 public class PojoMethodImpl implements PojoMethod {
   private final AccessibleObject accessibleObject;
+  private final String name;
+  private final int modifiers;
+  private final boolean constructor;
+  private final boolean synthetic;
+  private final Class<?> returnType;
+  private final int parameterCount;
+  private volatile Invoker invoker;
+  private volatile List<PojoParameter> pojoParameters;
 
   PojoMethodImpl(final Method method) {
-    this((AccessibleObject) method);
+    this.accessibleObject = method;
+    name = method.getName();
+    modifiers = method.getModifiers();
+    constructor = false;
+    synthetic = method.isSynthetic();
+    returnType = method.getReturnType();
+    parameterCount = method.getParameterTypes().length;
   }
 
   PojoMethodImpl(final Constructor<?> constructor) {
-    this((AccessibleObject) constructor);
-  }
-
-  private PojoMethodImpl(final AccessibleObject accessibleObject) {
-    this.accessibleObject = accessibleObject;
-  }
-
-  private void allowAccessibility() {
-    accessibleObject.setAccessible(true);
+    this.accessibleObject = constructor;
+    name = constructor.getName();
+    modifiers = constructor.getModifiers();
+    this.constructor = true;
+    synthetic = constructor.isSynthetic();
+    returnType = constructor.getDeclaringClass();
+    parameterCount = constructor.getParameterTypes().length;
   }
 
   public String getName() {
-    if (isConstructor()) {
-      return getAsConstructor().getName();
-    }
-    return getAsMethod().getName();
+    return name;
   }
 
   public <T extends Annotation> T getAnnotation(final Class<T> annotationClass) {
@@ -71,34 +82,49 @@ public class PojoMethodImpl implements PojoMethod {
   }
 
   public Object invoke(final Object instance, final Object... parameters) {
-    allowAccessibility();
-    if (isConstructor()) {
-      try {
-        return getAsConstructor().newInstance(parameters);
-      } catch (final IllegalArgumentException e) {
-        throw ReflectionException.getInstance(e.getMessage(), e);
-      } catch (final InstantiationException e) {
-        throw ReflectionException.getInstance(e.getMessage(), e);
-      } catch (final IllegalAccessException e) {
-        throw ReflectionException.getInstance(e.getMessage(), e);
-      } catch (final InvocationTargetException e) {
-        throw ReflectionException.getInstance(e.getMessage(), e);
-      }
+    final Invoker invoker = getInvoker();
+    // reflection takes the parameters as an array, only unpack them for a generated invoker's fixed arity variants.
+    if (invoker.getClass() == ReflectionInvoker.class)
+      return invoker.invoke(instance, parameters);
+    if (parameters == null)
+      return invoker.invoke(instance);
+
+    switch (parameters.length) {
+      case 0:
+        return invoker.invoke(instance);
+      case 1:
+        return invoker.invoke(instance, parameters[0]);
+      case 2:
+        return invoker.invoke(instance, parameters[0], parameters[1]);
+      default:
+        return invoker.invoke(instance, parameters);
     }
+  }
 
-    try {
-      return getAsMethod().invoke(instance, parameters);
-    } catch (final IllegalArgumentException e) {
-      throw ReflectionException.getInstance(e.getMessage(), e);
-    } catch (final IllegalAccessException e) {
-      throw ReflectionException.getInstance(e.getMessage(), e);
-    } catch (final InvocationTargetException e) {
-      throw ReflectionException.getInstance(e.getMessage(), e);
+  private Invoker getInvoker() {
+    Invoker resolved = invoker;
+    if (resolved == null) {
+      resolved = InvokerFactory.getInvoker(accessibleObject);
+      invoker = resolved;
     }
+    return resolved;
   }
 
   public List<PojoParameter> getPojoParameters() {
-    List<PojoParameter> parameters = new ArrayList<PojoParameter>();
+    List<PojoParameter> resolved = pojoParameters;
+    if (resolved == null) {
+      resolved = Collections.unmodifiableList(createPojoParameters());
+      pojoParameters = resolved;
+    }
+    return resolved;
+  }
+
+  public int getParameterCount() {
+    return parameterCount;
+  }
+
+  private List<PojoParameter> createPojoParameters() {
+    List<PojoParameter> parameters = new ArrayList<PojoParameter>(parameterCount);
 
     Annotation[][] parameterAnnotations;
     Type[] parameterTypes;
@@ -126,49 +152,41 @@ public class PojoMethodImpl implements PojoMethod {
   }
 
   public boolean isFinal() {
-    return Modifier.isFinal(getModifiers());
+    return Modifier.isFinal(modifiers);
   }
 
   public boolean isPrivate() {
-    return Modifier.isPrivate(getModifiers());
+    return Modifier.isPrivate(modifiers);
   }
 
   public boolean isPackagePrivate() {
-    int modifiers = getModifiers();
     return (Modifier.PRIVATE & modifiers
         | Modifier.PROTECTED & modifiers
         | Modifier.PUBLIC & modifiers) == 0;
   }
 
   public boolean isProtected() {
-    return Modifier.isProtected(getModifiers());
+    return Modifier.isProtected(modifiers);
   }
 
   public boolean isPublic() {
-    return Modifier.isPublic(getModifiers());
+    return Modifier.isPublic(modifiers);
   }
 
   public boolean isStatic() {
-    return Modifier.isStatic(getModifiers());
+    return Modifier.isStatic(modifiers);
   }
 
   public boolean isSynthetic() {
-    if (isConstructor()) {
-      return getAsConstructor().isSynthetic();
-    }
-    return getAsMethod().isSynthetic();
+    return synthetic;
   }
 
   public boolean isConstructor() {
-    return accessibleObject instanceof Constructor<?>;
+    return constructor;
   }
 
   public boolean isAbstract() {
-    if (isConstructor()) {
-      return Modifier.isAbstract(getAsConstructor().getModifiers()); // should never return true
-    }
-
-    return Modifier.isAbstract(getAsMethod().getModifiers());
+    return Modifier.isAbstract(modifiers); // never true for constructors
   }
 
   public Type[] getGenericParameterTypes() {
@@ -219,31 +237,21 @@ public class PojoMethodImpl implements PojoMethod {
   }
 
   public Class<?> getReturnType() {
-    if (isConstructor()) {
-      return getAsConstructor().getDeclaringClass();
-    }
-    return getAsMethod().getReturnType();
+    return returnType;
   }
 
   private Method getAsMethod() {
     return (Method) accessibleObject;
   }
 
-  private int getModifiers() {
-    if (isConstructor()) {
-      return getAsConstructor().getModifiers();
-    }
-    return getAsMethod().getModifiers();
-  }
-
   private Constructor<?> getAsConstructor() {
     return (Constructor<?>) accessibleObject;
   }
 
   @Override
   public String toString() {
-    final String tag = isConstructor() ? "constructor" : "method";
-    return String.format("PojoMethodImpl [%s=%s args=%s return=%s]", tag, getName(),
+    final String tag = constructor ? "constructor" : "method";
+    return String.format("PojoMethodImpl [%s=%s args=%s return=%s]", tag, name,
         Arrays.toString(getParameterTypes()), getReturnType());
   }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.openpojo.reflection.PojoMethod;
+
+/**
+ * This index holds the methods and constructors of a single class keyed by name and parameter signature.
+ * It is built once per class, and used to resolve field getters and setters without rescanning the class for every
+ * candidate name.
+ *
+ * @author oshoukry
+ */
+class PojoMethodIndex {
+  private static final Class<?>[] NO_PARAMETERS = new Class<?>[0];
+
+  private final Map<String, List<IndexEntry>> methodsByName = new HashMap<String, List<IndexEntry>>();
+
+  PojoMethodIndex(final List<PojoMethod> pojoMethods) {
+    for (final PojoMethod pojoMethod : pojoMethods) {
+      List<IndexEntry> entries = methodsByName.get(pojoMethod.getName());
+      if (entries == null) {
+        entries = new ArrayList<IndexEntry>(1);
+        methodsByName.put(pojoMethod.getName(), entries);
+      }
+      entries.add(new IndexEntry(pojoMethod));
+    }
+  }
+
+  /**
+   * Returns a specific method given method name and parameters.
+   *
+   * @param name
+   *     The name of the method to return.
+   * @param parameterTypes
+   *     The Parameters to match.
+   * @return A PojoMethod if found, or null otherwise.
+   */
+  PojoMethod getMethod(final String name, final Class<?>... parameterTypes) {
+    final List<IndexEntry> entries = methodsByName.get(name);
+    if (entries == null)
+      return null;
+
+    final Class<?>[] signature = parameterTypes == null ? NO_PARAMETERS : parameterTypes;
+    for (final IndexEntry entry : entries) {
+      if (Arrays.equals(entry.parameterTypes, signature))
+        return entry.pojoMethod;
+    }
+    return null;
+  }
+
+  private static class IndexEntry {
+    private final PojoMethod pojoMethod;
+    private final Class<?>[] parameterTypes;
+
+    private IndexEntry(final PojoMethod pojoMethod) {
+      this.pojoMethod = pojoMethod;
+      this.parameterTypes = pojoMethod.getParameterTypes();
+    }
+  }
+}
@@ -25,10 +25,13 @@ import java.util.LinkedList;
 import java.util.List;
 
 import com.openpojo.log.utils.MessageFormatter;
+import com.openpojo.reflection.ClassDescriptorFilter;
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.PojoClassNameFilter;
 import com.openpojo.reflection.PojoPackage;
 import com.openpojo.reflection.exception.ReflectionException;
+import com.openpojo.reflection.filters.FilterChain;
 import com.openpojo.reflection.java.Java;
 import com.openpojo.reflection.java.load.ClassUtil;
 import com.openpojo.reflection.java.packageloader.Package;
@@ -76,7 +79,15 @@ class PojoPackageImpl implements PojoPackage {
   public List<PojoClass> getPojoClasses(final PojoClassFilter filter) {
     List<PojoClass> pojoClasses = new LinkedList<PojoClass>();
 
-    for (Type type : jdkPackage.getTypes()) {
+    // filters that understand class names or files get to skip classes before they're loaded, all filters still apply
+    // after.
+    ClassDescriptorFilter classDescriptorFilter = null;
+    if (filter instanceof ClassDescriptorFilter)
+      classDescriptorFilter = (ClassDescriptorFilter) filter;
+    else if (filter instanceof PojoClassNameFilter)
+      classDescriptorFilter = new FilterChain(filter);
+
+    for (Type type : jdkPackage.getTypes(classDescriptorFilter)) {
       PojoClass pojoClass = PojoClassFactory.getPojoClass((Class<?>) type);
       if (pojoClass != null && (filter == null || filter.include(pojoClass))) {
         pojoClasses.add(pojoClass);
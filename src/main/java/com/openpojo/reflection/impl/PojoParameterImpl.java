@@ -36,6 +36,7 @@ public class PojoParameterImpl implements PojoParameter {
 
   private final Type type;
   private final List<? extends Annotation> annotations;
+  private volatile Class<?> resolvedType;
 
   public PojoParameterImpl(Type type, Annotation[] annotations) {
     this.type = type;
@@ -65,7 +66,12 @@ public class PojoParameterImpl implements PojoParameter {
   }
 
   public Class<?> getType() {
-    return (Class<?>) Resolver.getEnclosingType(type);
+    Class<?> resolved = resolvedType;
+    if (resolved == null) {
+      resolved = (Class<?>) Resolver.getEnclosingType(type);
+      resolvedType = resolved;
+    }
+    return resolved;
   }
 
   public boolean isParameterized() {
@@ -18,13 +18,21 @@
 
 package com.openpojo.reflection.java.bytecode;
 
+import java.io.InputStream;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 
 import com.openpojo.log.Logger;
 import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.ClassDescriptor;
+import com.openpojo.reflection.java.Java;
 import com.openpojo.reflection.java.bytecode.asm.ASMDetector;
 import com.openpojo.reflection.java.bytecode.asm.ASMNotLoadedException;
 import com.openpojo.reflection.java.bytecode.asm.ASMService;
+import com.openpojo.reflection.java.invoke.Invoker;
 import com.openpojo.reflection.java.version.Version;
 import com.openpojo.reflection.java.version.VersionFactory;
 
@@ -40,6 +48,10 @@ public class ByteCodeFactory {
 
   private static boolean asm_enabled = ASMDetector.getInstance().isASMLoaded();
   private static Version asm_version = ASMDetector.getInstance().getVersion();
+  private static volatile boolean field_accessor_enabled = false;
+  private static volatile boolean copier_enabled = false;
+  private static volatile boolean field_appender_enabled = false;
+  private static volatile boolean invoker_enabled = false;
 
 
   public static <T> Class<? extends T> getSubClass(Class<T> clazz) {
@@ -55,11 +67,201 @@ public class ByteCodeFactory {
     return ASMService.getInstance().createSubclassFor(clazz);
   }
 
+  /**
+   * Enable or disable generated field accessors.
+   * When enabled and a supported version of ASM is loaded, PojoFields of classes introspected from then on read and
+   * write public fields through generated byte code instead of reflection.
+   *
+   * @param enabled
+   *     true to enable, false to use reflection only (default).
+   */
+  public static void setFieldAccessorEnabled(boolean enabled) {
+    field_accessor_enabled = enabled;
+  }
+
+  public static boolean isFieldAccessorEnabled() {
+    return field_accessor_enabled;
+  }
+
+  /**
+   * Generate a FieldAccessor for the given fields of a class.
+   *
+   * @param clazz
+   *     The class declaring the fields.
+   * @param fields
+   *     The fields, indexed by their position in the array.
+   * @return The FieldAccessor, or null if field accessors aren't enabled, ASM isn't available or none of the fields can
+   * be accessed from generated code.
+   */
+  public static FieldAccessor getFieldAccessor(Class<?> clazz, Field[] fields) {
+    if (!field_accessor_enabled || isNull(clazz) || clazz.getClassLoader() == null || !isASMLoadedWithRequiredVersions())
+      return null;
+
+    return ASMService.getInstance().createFieldAccessorFor(clazz, fields);
+  }
+
+  /**
+   * Enable or disable generated copiers.
+   * When enabled and a supported version of ASM is loaded, PojoClass.copy calls public getters and setters through
+   * generated byte code instead of reflection, for classes introspected from then on.
+   *
+   * @param enabled
+   *     true to enable, false to use reflection only (default).
+   */
+  public static void setCopierEnabled(boolean enabled) {
+    copier_enabled = enabled;
+  }
+
+  public static boolean isCopierEnabled() {
+    return copier_enabled;
+  }
+
+  /**
+   * Generate a Copier for the given getter / setter pairs of a class.
+   *
+   * @param clazz
+   *     The class to copy instances of.
+   * @param getters
+   *     The getters, indexed by their position in the array.
+   * @param setters
+   *     The setters, same index as the matching getter.
+   * @return The Copier, or null if copiers aren't enabled, ASM isn't available or none of the pairs can be called from
+   * generated code.
+   */
+  public static Copier getCopier(Class<?> clazz, Method[] getters, Method[] setters) {
+    if (!copier_enabled || isNull(clazz) || clazz.getClassLoader() == null || !isASMLoadedWithRequiredVersions())
+      return null;
+
+    return ASMService.getInstance().createCopierFor(clazz, getters, setters);
+  }
+
+  /**
+   * Enable or disable generated field appenders.
+   * When enabled and a supported version of ASM is loaded, PojoClass.toString(instance) renders public fields through
+   * generated byte code instead of reflection, for classes introspected from then on.
+   *
+   * @param enabled
+   *     true to enable, false to use reflection only (default).
+   */
+  public static void setFieldAppenderEnabled(boolean enabled) {
+    field_appender_enabled = enabled;
+  }
+
+  public static boolean isFieldAppenderEnabled() {
+    return field_appender_enabled;
+  }
+
+  /**
+   * Generate a FieldAppender for the given fields of a class.
+   *
+   * @param clazz
+   *     The class declaring the fields.
+   * @param fields
+   *     The fields, indexed by their position in the array.
+   * @return The FieldAppender, or null if field appenders aren't enabled, ASM isn't available or none of the fields can
+   * be read from generated code.
+   */
+  public static FieldAppender getFieldAppender(Class<?> clazz, Field[] fields) {
+    if (!field_appender_enabled || isNull(clazz) || clazz.getClassLoader() == null || !isASMLoadedWithRequiredVersions())
+      return null;
+
+    return ASMService.getInstance().createFieldAppenderFor(clazz, fields);
+  }
+
+  /**
+   * Enable or disable generated invokers.
+   * When enabled and a supported version of ASM is loaded, PojoMethods resolved from then on call public methods and
+   * constructors with up to two parameters through generated byte code instead of reflection.
+   * Generating costs a class per member, so this pays off for members that are invoked many times.
+   *
+   * @param enabled
+   *     true to enable, false to use reflection only (default).
+   */
+  public static void setInvokerEnabled(boolean enabled) {
+    invoker_enabled = enabled;
+  }
+
+  public static boolean isInvokerEnabled() {
+    return invoker_enabled;
+  }
+
+  /**
+   * Generate an Invoker for a method or constructor.
+   *
+   * @param accessibleObject
+   *     The java.lang.reflect.Method or java.lang.reflect.Constructor to invoke.
+   * @return The Invoker, or null if invokers aren't enabled, ASM isn't available or the member can't be called from
+   * generated code.
+   */
+  public static Invoker getInvoker(AccessibleObject accessibleObject) {
+    if (!invoker_enabled || accessibleObject == null || ((Member) accessibleObject).getDeclaringClass().getClassLoader()
+        == null || !isASMLoadedWithRequiredVersions())
+      return null;
+
+    return ASMService.getInstance().createInvokerFor(accessibleObject);
+  }
+
+  /**
+   * Read the ClassDescriptor of a class from its class file, without loading or initializing the class.
+   *
+   * @param classFile
+   *     The class file contents, the stream is always closed.
+   * @return The ClassDescriptor, or null if ASM isn't available or the class file can't be read (i.e. a class file
+   * version newer than the loaded ASM supports).
+   */
+  public static ClassDescriptor getClassDescriptor(InputStream classFile) {
+    if (classFile == null)
+      return null;
+
+    try {
+      if (!isASMLoadedWithRequiredVersions())
+        return null;
+      return ASMService.getInstance().getClassDescriptor(classFile);
+    } catch (Throwable throwable) {
+      LOGGER.debug("Failed to read class descriptor [{0}]", throwable);
+      return null;
+    } finally {
+      try {
+        classFile.close();
+      } catch (Throwable ignored) {
+      }
+    }
+  }
+
+  /**
+   * Read the ClassDescriptor of a class, looking up its class file through the thread context class loader.
+   *
+   * @param className
+   *     The fully qualified name of the class.
+   * @return The ClassDescriptor, or null if the class file isn't found or can't be read.
+   */
+  public static ClassDescriptor getClassDescriptor(String className) {
+    if (className == null || !isASMLoadedWithRequiredVersions())
+      return null;
+
+    ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+    if (classLoader == null)
+      classLoader = ByteCodeFactory.class.getClassLoader();
+    if (classLoader == null)
+      return null;
+
+    return getClassDescriptor(classLoader.getResourceAsStream(className.replace(Java.PACKAGE_DELIMITER,
+        Java.PATH_DELIMITER) + Java.CLASS_EXTENSION));
+  }
+
+  private static boolean isASMLoadedWithRequiredVersions() {
+    return asm_enabled && !isUnsupportedASMVersion();
+  }
+
+  private static boolean isUnsupportedASMVersion() {
+    return ASM_MIN_VERSION.compareTo(asm_version) >= 0 || ASM_MAX_VERSION.compareTo(asm_version) < 0;
+  }
+
   private static void verifyASMLoadedAndMatchesRequiredVersions() {
     if (!asm_enabled)
       throw ASMNotLoadedException.getInstance();
 
-    if (ASM_MIN_VERSION.compareTo(asm_version) >= 0 || ASM_MAX_VERSION.compareTo(asm_version) < 0) {
+    if (isUnsupportedASMVersion()) {
       throw ASMNotLoadedException.getInstance("Incorrect version of ASM found, "
           + "expected versions between ["
           + ASM_MIN_VERSION.getVersion()
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode;
+
+/**
+ * This interface is implemented by generated classes that copy properties between two instances of a given class by
+ * calling the getters and setters directly, without going through reflection.
+ * Properties are addressed by their position in the getter / setter arrays the copier was generated with.
+ * An exception thrown by a getter or setter is reported the way reflection reports it, as a ReflectionException caused
+ * by an InvocationTargetException.
+ *
+ * @author oshoukry
+ */
+public interface Copier {
+
+  /**
+   * Copy every property this copier can copy, by reading it through its getter on one instance and writing it through
+   * its setter on the other.
+   *
+   * @param from
+   *     The instance to read from.
+   * @param to
+   *     The instance to write to.
+   */
+  void copy(Object from, Object to);
+
+  /**
+   * Copy a single property, by reading it through its getter on one instance and writing it through its setter on the
+   * other.
+   *
+   * @param from
+   *     The instance to read from.
+   * @param to
+   *     The instance to write to.
+   * @param index
+   *     The index of the property, {@link #canCopy(int)} must be true for it.
+   */
+  void copy(Object from, Object to, int index);
+
+  /**
+   * @param index
+   *     The index of the property.
+   * @return true if the property is copied by {@link #copy(Object, Object)}.
+   */
+  boolean canCopy(int index);
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode;
+
+/**
+ * This interface is implemented by generated classes that read and write the fields of a given class directly, without
+ * going through reflection.
+ * Fields are addressed by their position in {@link Class#getDeclaredFields()} at the time the accessor was generated.
+ *
+ * @author oshoukry
+ */
+public interface FieldAccessor {
+
+  /**
+   * Get the value of a field.
+   *
+   * @param instance
+   *     The instance to read from (ignored for static fields).
+   * @param index
+   *     The index of the field.
+   * @return The value of the field, primitives are returned boxed.
+   */
+  Object get(Object instance, int index);
+
+  /**
+   * Set the value of a field.
+   *
+   * @param instance
+   *     The instance to write to (ignored for static fields).
+   * @param index
+   *     The index of the field.
+   * @param value
+   *     The value to set, primitives are expected boxed in their exact wrapper type.
+   */
+  void set(Object instance, int index, Object value);
+
+  /**
+   * @param index
+   *     The index of the field.
+   * @return true if the field can be read through this accessor.
+   */
+  boolean canGet(int index);
+
+  /**
+   * @param index
+   *     The index of the field.
+   * @return true if the field can be written through this accessor.
+   */
+  boolean canSet(int index);
+}
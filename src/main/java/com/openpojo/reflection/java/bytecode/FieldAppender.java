@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode;
+
+/**
+ * This interface is implemented by generated classes that render the value of a field of a given class straight into a
+ * StringBuilder, without going through reflection or boxing primitives.
+ * Fields are addressed by their position in the field array the appender was generated with.
+ *
+ * @author oshoukry
+ */
+public interface FieldAppender {
+
+  /**
+   * Append the value of a field, rendered the same way as {@link com.openpojo.reflection.utils.ObjectToString}.
+   *
+   * @param instance
+   *     The instance to read from (ignored for static fields).
+   * @param index
+   *     The index of the field.
+   * @param builder
+   *     The builder to append to.
+   */
+  void append(Object instance, int index, StringBuilder builder);
+
+  /**
+   * @param index
+   *     The index of the field.
+   * @return true if the field can be appended through this appender.
+   */
+  boolean canAppend(int index);
+}
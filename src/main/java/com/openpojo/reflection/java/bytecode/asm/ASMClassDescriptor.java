@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm;
+
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.List;
+
+import com.openpojo.reflection.ClassDescriptor;
+
+/**
+ * The ClassDescriptor built by {@link ClassDescriptorReader}.
+ *
+ * @author oshoukry
+ */
+class ASMClassDescriptor implements ClassDescriptor {
+  private static final int ACC_SYNTHETIC = 0x1000;
+  private static final int ACC_ENUM = 0x4000;
+  private static final String ENUM_CLASS_NAME = Enum.class.getName();
+
+  private final String name;
+  private final int modifiers;
+  private final String superClassName;
+  private final List<String> interfaceNames;
+  private final List<String> annotationNames;
+  private final List<String> fieldSignatures;
+  private final List<String> methodSignatures;
+  private final boolean nestedClass;
+
+  ASMClassDescriptor(String name, int modifiers, String superClassName, List<String> interfaceNames,
+                     List<String> annotationNames, List<String> fieldSignatures, List<String> methodSignatures,
+                     boolean nestedClass) {
+    this.name = name;
+    this.modifiers = modifiers;
+    this.superClassName = superClassName;
+    this.interfaceNames = Collections.unmodifiableList(interfaceNames);
+    this.annotationNames = Collections.unmodifiableList(annotationNames);
+    this.fieldSignatures = Collections.unmodifiableList(fieldSignatures);
+    this.methodSignatures = Collections.unmodifiableList(methodSignatures);
+    this.nestedClass = nestedClass;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public int getModifiers() {
+    return modifiers;
+  }
+
+  public String getSuperClassName() {
+    return superClassName;
+  }
+
+  public List<String> getInterfaceNames() {
+    return interfaceNames;
+  }
+
+  public List<String> getAnnotationNames() {
+    return annotationNames;
+  }
+
+  public List<String> getFieldSignatures() {
+    return fieldSignatures;
+  }
+
+  public List<String> getMethodSignatures() {
+    return methodSignatures;
+  }
+
+  public boolean isInterface() {
+    return Modifier.isInterface(modifiers);
+  }
+
+  public boolean isAbstract() {
+    // same as PojoClass, interfaces aren't reported as abstract.
+    return Modifier.isAbstract(modifiers) && !isInterface();
+  }
+
+  public boolean isEnum() {
+    return (modifiers & ACC_ENUM) != 0 && ENUM_CLASS_NAME.equals(superClassName);
+  }
+
+  public boolean isSynthetic() {
+    return (modifiers & ACC_SYNTHETIC) != 0;
+  }
+
+  public boolean isNestedClass() {
+    return nestedClass;
+  }
+
+  @Override
+  public String toString() {
+    return "ClassDescriptor [name=" + name + ", modifiers=" + modifiers + "]";
+  }
+}
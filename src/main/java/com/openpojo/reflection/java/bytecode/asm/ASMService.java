@@ -18,11 +18,24 @@
 
 package com.openpojo.reflection.java.bytecode.asm;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+
 import com.openpojo.cache.CacheStorage;
 import com.openpojo.cache.CacheStorageFactory;
 import com.openpojo.log.Logger;
 import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.ClassDescriptor;
 import com.openpojo.reflection.exception.ReflectionException;
+import com.openpojo.reflection.java.Java;
+import com.openpojo.reflection.java.bytecode.Copier;
+import com.openpojo.reflection.java.bytecode.FieldAccessor;
+import com.openpojo.reflection.java.bytecode.FieldAppender;
+import com.openpojo.reflection.java.invoke.Invoker;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassWriter;
 
@@ -30,6 +43,10 @@ import org.objectweb.asm.ClassWriter;
  * @author oshoukry
  */
 public class ASMService {
+  public static final String FIELD_ACCESSOR_POSTFIX = "__FieldAccessor_OpenPojo";
+  public static final String COPIER_POSTFIX = "__Copier_OpenPojo";
+  public static final String FIELD_APPENDER_POSTFIX = "__FieldAppender_OpenPojo";
+  public static final String INVOKER_POSTFIX = "__Invoker_OpenPojo";
   private SimpleClassLoader simpleClassLoader = new SimpleClassLoader();
   private Logger logger = LoggerFactory.getLogger(this.getClass());
   private CacheStorage<Class<?>> alreadyGeneratedClasses = CacheStorageFactory.getPersistentCacheStorage();
@@ -64,6 +81,144 @@ public class ASMService {
     return generatedClass;
   }
 
+  /**
+   * Generate a FieldAccessor over the given fields of a class.
+   *
+   * @param clazz
+   *     The class declaring the fields.
+   * @param fields
+   *     The fields to generate access for, indexed by their position in this array.
+   * @return The generated FieldAccessor, or null if none of the fields can be accessed from generated code.
+   */
+  public FieldAccessor createFieldAccessorFor(Class<?> clazz, Field[] fields) {
+    if (!hasAccessibleField(fields))
+      return null;
+
+    String generatedClassName = clazz.getName() + FIELD_ACCESSOR_POSTFIX;
+    try {
+      byte[] byteCode = new FieldAccessorCreator(fields, generatedClassName.replace(Java.PACKAGE_DELIMITER,
+          Java.PATH_DELIMITER)).getByteCode();
+      Class<?> generatedClass = new GeneratedClassLoader(clazz).loadThisClass(byteCode, generatedClassName);
+      logger.debug("Generated field accessor for class [{0}]", clazz.getName());
+      return (FieldAccessor) generatedClass.newInstance();
+    } catch (Throwable throwable) {
+      throw ReflectionException.getInstance("Failed to create field accessor for class: " + clazz, throwable);
+    }
+  }
+
+  private boolean hasAccessibleField(Field[] fields) {
+    for (Field field : fields)
+      if (FieldAccessorCreator.canGet(field))
+        return true;
+    return false;
+  }
+
+  /**
+   * Generate a Copier over the given getter / setter pairs of a class.
+   *
+   * @param clazz
+   *     The class to copy instances of.
+   * @param getters
+   *     The getters to read with, indexed by property.
+   * @param setters
+   *     The setters to write with, same index as the matching getter.
+   * @return The generated Copier, or null if none of the pairs can be called from generated code.
+   */
+  public Copier createCopierFor(Class<?> clazz, Method[] getters, Method[] setters) {
+    if (!hasCopyableProperty(clazz, getters, setters))
+      return null;
+
+    String generatedClassName = clazz.getName() + COPIER_POSTFIX;
+    try {
+      byte[] byteCode = new CopierCreator(clazz, getters, setters, generatedClassName.replace(Java.PACKAGE_DELIMITER,
+          Java.PATH_DELIMITER)).getByteCode();
+      Class<?> generatedClass = new GeneratedClassLoader(clazz).loadThisClass(byteCode, generatedClassName);
+      logger.debug("Generated copier for class [{0}]", clazz.getName());
+      return (Copier) generatedClass.newInstance();
+    } catch (Throwable throwable) {
+      throw ReflectionException.getInstance("Failed to create copier for class: " + clazz, throwable);
+    }
+  }
+
+  private boolean hasCopyableProperty(Class<?> clazz, Method[] getters, Method[] setters) {
+    for (int index = 0; index < getters.length; index++)
+      if (CopierCreator.canCopy(clazz, getters[index], setters[index]))
+        return true;
+    return false;
+  }
+
+  /**
+   * Generate a FieldAppender over the given fields of a class.
+   *
+   * @param clazz
+   *     The class declaring the fields.
+   * @param fields
+   *     The fields to render, indexed by their position in this array, null entries are skipped.
+   * @return The generated FieldAppender, or null if none of the fields can be read from generated code.
+   */
+  public FieldAppender createFieldAppenderFor(Class<?> clazz, Field[] fields) {
+    if (!hasAppendableField(fields))
+      return null;
+
+    String generatedClassName = clazz.getName() + FIELD_APPENDER_POSTFIX;
+    try {
+      byte[] byteCode = new FieldAppenderCreator(fields, generatedClassName.replace(Java.PACKAGE_DELIMITER,
+          Java.PATH_DELIMITER)).getByteCode();
+      Class<?> generatedClass = new GeneratedClassLoader(clazz).loadThisClass(byteCode, generatedClassName);
+      logger.debug("Generated field appender for class [{0}]", clazz.getName());
+      return (FieldAppender) generatedClass.newInstance();
+    } catch (Throwable throwable) {
+      throw ReflectionException.getInstance("Failed to create field appender for class: " + clazz, throwable);
+    }
+  }
+
+  private boolean hasAppendableField(Field[] fields) {
+    for (Field field : fields)
+      if (FieldAppenderCreator.canAppend(field))
+        return true;
+    return false;
+  }
+
+  /**
+   * Generate an Invoker for a method or constructor.
+   *
+   * @param accessibleObject
+   *     The java.lang.reflect.Method or java.lang.reflect.Constructor to invoke.
+   * @return The generated Invoker, or null if the member can't be called from generated code.
+   */
+  public Invoker createInvokerFor(AccessibleObject accessibleObject) {
+    if (!InvokerCreator.canInvoke(accessibleObject))
+      return null;
+
+    Class<?> clazz = ((Member) accessibleObject).getDeclaringClass();
+    String generatedClassName = clazz.getName() + INVOKER_POSTFIX;
+    try {
+      byte[] byteCode = new InvokerCreator(accessibleObject, generatedClassName.replace(Java.PACKAGE_DELIMITER,
+          Java.PATH_DELIMITER)).getByteCode();
+      Class<?> generatedClass = new GeneratedClassLoader(clazz).loadThisClass(byteCode, generatedClassName);
+      logger.debug("Generated invoker for [{0}]", accessibleObject);
+      return (Invoker) generatedClass.getConstructor(AccessibleObject.class).newInstance(accessibleObject);
+    } catch (Throwable throwable) {
+      throw ReflectionException.getInstance("Failed to create invoker for: " + accessibleObject, throwable);
+    }
+  }
+
+  /**
+   * Read the class level metadata out of a class file, without loading the class.
+   *
+   * @param classFile
+   *     The class file contents, the stream isn't closed.
+   * @return The descriptor of the class.
+   * @throws IOException
+   *     If the stream can't be read.
+   */
+  public ClassDescriptor getClassDescriptor(InputStream classFile) throws IOException {
+    ClassDescriptorReader classDescriptorReader = new ClassDescriptorReader();
+    new ClassReader(classFile).accept(classDescriptorReader, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG
+        | ClassReader.SKIP_FRAMES);
+    return classDescriptorReader.getClassDescriptor();
+  }
+
   private byte[] getSubClassByteCode(SubClassDefinition subClassDefinition) {
 
     ClassReader classReader = subClassDefinition.getClassReader();
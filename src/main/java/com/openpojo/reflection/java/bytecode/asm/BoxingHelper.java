@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm;
+
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+
+/**
+ * Emits the instructions to convert between primitives and their wrapper types on the operand stack.
+ *
+ * @author oshoukry
+ */
+public final class BoxingHelper {
+
+  /**
+   * Box the value on top of the stack if it is a primitive, leaving an Object reference on the stack.
+   */
+  public static void box(MethodVisitor mv, Type type) {
+    String wrapper = getWrapperInternalName(type);
+    if (wrapper != null)
+      mv.visitMethodInsn(INVOKESTATIC, wrapper, "valueOf", "(" + type.getDescriptor() + ")L" + wrapper + ";", false);
+  }
+
+  /**
+   * Cast the Object reference on top of the stack to type, unboxing it if type is a primitive.
+   */
+  public static void unbox(MethodVisitor mv, Type type) {
+    String wrapper = getWrapperInternalName(type);
+    if (wrapper != null) {
+      mv.visitTypeInsn(CHECKCAST, wrapper);
+      mv.visitMethodInsn(INVOKEVIRTUAL, wrapper, type.getClassName() + "Value", "()" + type.getDescriptor(), false);
+    } else if (!type.getInternalName().equals("java/lang/Object")) {
+      mv.visitTypeInsn(CHECKCAST, type.getInternalName());
+    }
+  }
+
+  /**
+   * @return the internal name of the wrapper of a primitive type, null for any other type.
+   */
+  static String getWrapperInternalName(Type type) {
+    switch (type.getSort()) {
+      case Type.BOOLEAN:
+        return "java/lang/Boolean";
+      case Type.BYTE:
+        return "java/lang/Byte";
+      case Type.CHAR:
+        return "java/lang/Character";
+      case Type.SHORT:
+        return "java/lang/Short";
+      case Type.INT:
+        return "java/lang/Integer";
+      case Type.LONG:
+        return "java/lang/Long";
+      case Type.FLOAT:
+        return "java/lang/Float";
+      case Type.DOUBLE:
+        return "java/lang/Double";
+      default:
+        return null;
+    }
+  }
+
+  private BoxingHelper() {
+    throw new UnsupportedOperationException(BoxingHelper.class.getName() + " should not be constructed!");
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.openpojo.reflection.ClassDescriptor;
+import com.openpojo.reflection.java.Java;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import static org.objectweb.asm.Opcodes.ACC_INTERFACE;
+import static org.objectweb.asm.Opcodes.ASM7;
+
+/**
+ * This visitor collects the class level metadata of a class file into a {@link ClassDescriptor}, it doesn't descend
+ * into fields, methods or annotation values.
+ *
+ * @author oshoukry
+ */
+class ClassDescriptorReader extends ClassVisitor {
+  // ACC_SUPER shares its bit with Modifier.SYNCHRONIZED and is dropped by Class.getModifiers(), as are ASM's pseudo
+  // flags (i.e. ACC_DEPRECATED) above the 16 bits of the class file access_flags.
+  private static final int ACC_SUPER = 0x0020;
+  private static final int CLASS_FILE_ACCESS_MASK = 0xFFFF;
+
+  private String name;
+  private int modifiers;
+  private String superClassName;
+  private final List<String> interfaceNames = new ArrayList<String>();
+  private final List<String> annotationNames = new ArrayList<String>();
+  private final List<String> fieldSignatures = new ArrayList<String>();
+  private final List<String> methodSignatures = new ArrayList<String>();
+  private boolean nestedClass;
+
+  ClassDescriptorReader() {
+    // ASM7 is the first api that accepts the NestHost / NestMembers attributes of Java 11 class files, older ASM
+    // releases reject it and ByteCodeFactory falls back to reflection.
+    super(ASM7);
+  }
+
+  @Override
+  public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+    this.name = toClassName(name);
+    this.modifiers = access & CLASS_FILE_ACCESS_MASK & ~ACC_SUPER;
+    // interfaces name java.lang.Object as their super class in the class file, but Class reports none.
+    if (superName != null && (access & ACC_INTERFACE) == 0)
+      this.superClassName = toClassName(superName);
+    if (interfaces != null)
+      for (String interfaceName : interfaces)
+        interfaceNames.add(toClassName(interfaceName));
+  }
+
+  @Override
+  public void visitOuterClass(String owner, String name, String desc) {
+    // local and anonymous classes.
+    nestedClass = true;
+  }
+
+  @Override
+  public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+    annotationNames.add(Type.getType(desc).getClassName());
+    return null;
+  }
+
+  @Override
+  public void visitInnerClass(String name, String outerName, String innerName, int access) {
+    // The entry describing this class holds the modifiers as declared in source, same as Class.getModifiers().
+    if (toClassName(name).equals(this.name)) {
+      modifiers = access & CLASS_FILE_ACCESS_MASK & ~ACC_SUPER;
+      if (outerName != null)
+        nestedClass = true;
+    }
+  }
+
+  @Override
+  public FieldVisitor visitField(int access, String name, String desc, String signature, Object value) {
+    fieldSignatures.add(name + ":" + desc);
+    return null;
+  }
+
+  @Override
+  public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
+    methodSignatures.add(name + desc);
+    return null;
+  }
+
+  ClassDescriptor getClassDescriptor() {
+    return new ASMClassDescriptor(name, modifiers, superClassName, interfaceNames, annotationNames, fieldSignatures,
+        methodSignatures, nestedClass);
+  }
+
+  private static String toClassName(String internalName) {
+    return internalName.replace(Java.PATH_DELIMITER, Java.PACKAGE_DELIMITER);
+  }
+}
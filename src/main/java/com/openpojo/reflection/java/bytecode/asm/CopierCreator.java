@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import com.openpojo.reflection.java.bytecode.Copier;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * This class generates the byte code for a {@link Copier} over getter / setter pairs of a class.
+ * The generated copy is one straight run of getter and setter calls, pairs that a class in another package and class
+ * loader isn't allowed to call are left out and reported through canCopy.
+ * Exceptions thrown by the getters and setters are reported the way reflection reports them, see
+ * {@link IndexedClassHelper#visitThrowInvocationFailed(MethodVisitor, Label)}.
+ *
+ * @author oshoukry
+ */
+class CopierCreator {
+  private static final String COPY_DESC = "(Ljava/lang/Object;Ljava/lang/Object;)V";
+  private static final String COPY_INDEX_DESC = "(Ljava/lang/Object;Ljava/lang/Object;I)V";
+  private static final String THROWABLE_PATH = Type.getInternalName(Throwable.class);
+  private static final String UNSUPPORTED_MESSAGE = "Property index not copied by ";
+
+  private final Class<?> clazz;
+  private final Method[] getters;
+  private final Method[] setters;
+  private final String generatedClassPath;
+
+  CopierCreator(Class<?> clazz, Method[] getters, Method[] setters, String generatedClassPath) {
+    this.clazz = clazz;
+    this.getters = getters;
+    this.setters = setters;
+    this.generatedClassPath = generatedClassPath;
+  }
+
+  static boolean canCopy(Class<?> clazz, Method getter, Method setter) {
+    if (!IndexedClassHelper.isPublicType(clazz) || clazz.isInterface() || !isCallable(getter) || !isCallable(setter))
+      return false;
+
+    if (getter.getParameterTypes().length != 0 || setter.getParameterTypes().length != 1)
+      return false;
+
+    Class<?> valueType = getter.getReturnType();
+    Class<?> parameterType = setter.getParameterTypes()[0];
+    if (valueType.isPrimitive() || parameterType.isPrimitive()) {
+      if (valueType != parameterType)
+        return false;
+    } else if (!parameterType.isAssignableFrom(valueType)) {
+      return false;
+    }
+    return IndexedClassHelper.isPublicType(valueType)
+        && IndexedClassHelper.isPublicType(parameterType)
+        && IndexedClassHelper.isPublicType(setter.getReturnType());
+  }
+
+  private static boolean isCallable(Method method) {
+    return method != null
+        && Modifier.isPublic(method.getModifiers())
+        && !Modifier.isStatic(method.getModifiers())
+        && IndexedClassHelper.isPublicType(method.getDeclaringClass());
+  }
+
+  byte[] getByteCode() {
+    ClassWriter cw = IndexedClassHelper.visitClass(generatedClassPath, Copier.class);
+
+    generateCopy(cw);
+    generateCopyIndex(cw);
+    boolean[] canCopy = new boolean[getters.length];
+    for (int index = 0; index < getters.length; index++)
+      canCopy[index] = canCopy(clazz, getters[index], setters[index]);
+    IndexedClassHelper.generateIndexPredicate(cw, "canCopy", canCopy);
+
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+  private void generateCopy(ClassWriter cw) {
+    String owner = Type.getInternalName(clazz);
+    MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "copy", COPY_DESC, null, null);
+    mv.visitCode();
+    mv.visitVarInsn(ALOAD, 1);
+    mv.visitTypeInsn(CHECKCAST, owner);
+    mv.visitVarInsn(ASTORE, 3);
+    mv.visitVarInsn(ALOAD, 2);
+    mv.visitTypeInsn(CHECKCAST, owner);
+    mv.visitVarInsn(ASTORE, 4);
+
+    boolean guarded = hasCopyableProperty();
+    Label start = new Label();
+    Label end = new Label();
+    Label failed = new Label();
+    if (guarded)
+      mv.visitTryCatchBlock(start, end, failed, THROWABLE_PATH);
+    mv.visitLabel(start);
+    for (int index = 0; index < getters.length; index++) {
+      if (canCopy(clazz, getters[index], setters[index]))
+        visitCopyProperty(mv, owner, index, 3, 4);
+    }
+    mv.visitLabel(end);
+    mv.visitInsn(RETURN);
+
+    if (guarded)
+      IndexedClassHelper.visitThrowInvocationFailed(mv, failed);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+  private void generateCopyIndex(ClassWriter cw) {
+    String owner = Type.getInternalName(clazz);
+    MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "copy", COPY_INDEX_DESC, null, null);
+    mv.visitCode();
+    // try blocks have to be visited ahead of their labels, one per copied property, all sharing the handler.
+    Label[] starts = new Label[getters.length];
+    Label[] ends = new Label[getters.length];
+    Label failed = new Label();
+    for (int index = 0; index < getters.length; index++) {
+      if (canCopy(clazz, getters[index], setters[index])) {
+        starts[index] = new Label();
+        ends[index] = new Label();
+        mv.visitTryCatchBlock(starts[index], ends[index], failed, THROWABLE_PATH);
+      }
+    }
+
+    Label unsupported = new Label();
+    Label[] cases = IndexedClassHelper.visitIndexSwitch(mv, 3, getters.length, unsupported);
+
+    for (int index = 0; index < getters.length; index++) {
+      mv.visitLabel(cases[index]);
+      if (starts[index] == null) {
+        mv.visitJumpInsn(GOTO, unsupported);
+        continue;
+      }
+      mv.visitVarInsn(ALOAD, 1);
+      mv.visitTypeInsn(CHECKCAST, owner);
+      mv.visitVarInsn(ASTORE, 4);
+      mv.visitVarInsn(ALOAD, 2);
+      mv.visitTypeInsn(CHECKCAST, owner);
+      mv.visitVarInsn(ASTORE, 5);
+      mv.visitLabel(starts[index]);
+      visitCopyProperty(mv, owner, index, 4, 5);
+      mv.visitLabel(ends[index]);
+      mv.visitInsn(RETURN);
+    }
+
+    IndexedClassHelper.visitThrowIllegalArgument(mv, unsupported, UNSUPPORTED_MESSAGE + generatedClassPath);
+    if (hasCopyableProperty())
+      IndexedClassHelper.visitThrowInvocationFailed(mv, failed);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+  /**
+   * An empty try block isn't valid byte code, only guard the copy when there's a property to copy.
+   */
+  private boolean hasCopyableProperty() {
+    for (int index = 0; index < getters.length; index++) {
+      if (canCopy(clazz, getters[index], setters[index]))
+        return true;
+    }
+    return false;
+  }
+
+  /**
+   * Copies one property between the instances held, already cast, in the given locals.
+   */
+  private void visitCopyProperty(MethodVisitor mv, String owner, int index, int fromVariable, int toVariable) {
+    mv.visitVarInsn(ALOAD, toVariable);
+    mv.visitVarInsn(ALOAD, fromVariable);
+    mv.visitMethodInsn(INVOKEVIRTUAL, owner, getters[index].getName(), Type.getMethodDescriptor(getters[index]), false);
+    mv.visitMethodInsn(INVOKEVIRTUAL, owner, setters[index].getName(), Type.getMethodDescriptor(setters[index]), false);
+    discardReturnValue(mv, setters[index].getReturnType());
+  }
+
+  private static void discardReturnValue(MethodVisitor mv, Class<?> returnType) {
+    if (returnType == void.class)
+      return;
+    if (returnType == long.class || returnType == double.class)
+      mv.visitInsn(POP2);
+    else
+      mv.visitInsn(POP);
+  }
+}
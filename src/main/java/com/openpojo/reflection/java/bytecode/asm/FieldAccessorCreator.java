@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import com.openpojo.reflection.java.bytecode.FieldAccessor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * This class generates the byte code for a {@link FieldAccessor} over the declared fields of a class.
+ * Only fields that the JVM allows a class in another package and class loader to access are read / written
+ * directly, for all other fields canGet / canSet return false.
+ *
+ * @author oshoukry
+ */
+class FieldAccessorCreator {
+  private static final String GET_DESC = "(Ljava/lang/Object;I)Ljava/lang/Object;";
+  private static final String SET_DESC = "(Ljava/lang/Object;ILjava/lang/Object;)V";
+  private static final String UNSUPPORTED_MESSAGE = "Field index not accessible through ";
+
+  private final Field[] fields;
+  private final String generatedClassPath;
+
+  FieldAccessorCreator(Field[] fields, String generatedClassPath) {
+    this.fields = fields;
+    this.generatedClassPath = generatedClassPath;
+  }
+
+  static boolean canGet(Field field) {
+    return Modifier.isPublic(field.getModifiers()) && Modifier.isPublic(field.getDeclaringClass().getModifiers());
+  }
+
+  static boolean canSet(Field field) {
+    return canGet(field) && !Modifier.isFinal(field.getModifiers()) && IndexedClassHelper.isPublicType(field.getType());
+  }
+
+  byte[] getByteCode() {
+    ClassWriter cw = IndexedClassHelper.visitClass(generatedClassPath, FieldAccessor.class);
+
+    generateGet(cw);
+    generateSet(cw);
+    boolean[] canGet = new boolean[fields.length];
+    boolean[] canSet = new boolean[fields.length];
+    for (int index = 0; index < fields.length; index++) {
+      canGet[index] = canGet(fields[index]);
+      canSet[index] = canSet(fields[index]);
+    }
+    IndexedClassHelper.generateIndexPredicate(cw, "canGet", canGet);
+    IndexedClassHelper.generateIndexPredicate(cw, "canSet", canSet);
+
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+  private void generateGet(ClassWriter cw) {
+    MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "get", GET_DESC, null, null);
+    mv.visitCode();
+    Label unsupported = new Label();
+    Label[] cases = IndexedClassHelper.visitIndexSwitch(mv, 2, fields.length, unsupported);
+
+    for (int index = 0; index < fields.length; index++) {
+      mv.visitLabel(cases[index]);
+      Field field = fields[index];
+      if (!canGet(field)) {
+        mv.visitJumpInsn(GOTO, unsupported);
+        continue;
+      }
+      String owner = Type.getInternalName(field.getDeclaringClass());
+      Type type = Type.getType(field.getType());
+      if (Modifier.isStatic(field.getModifiers())) {
+        mv.visitFieldInsn(GETSTATIC, owner, field.getName(), type.getDescriptor());
+      } else {
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, owner);
+        mv.visitFieldInsn(GETFIELD, owner, field.getName(), type.getDescriptor());
+      }
+      BoxingHelper.box(mv, type);
+      mv.visitInsn(ARETURN);
+    }
+
+    IndexedClassHelper.visitThrowIllegalArgument(mv, unsupported, UNSUPPORTED_MESSAGE + generatedClassPath);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+  private void generateSet(ClassWriter cw) {
+    MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "set", SET_DESC, null, null);
+    mv.visitCode();
+    Label unsupported = new Label();
+    Label[] cases = IndexedClassHelper.visitIndexSwitch(mv, 2, fields.length, unsupported);
+
+    for (int index = 0; index < fields.length; index++) {
+      mv.visitLabel(cases[index]);
+      Field field = fields[index];
+      if (!canSet(field)) {
+        mv.visitJumpInsn(GOTO, unsupported);
+        continue;
+      }
+      String owner = Type.getInternalName(field.getDeclaringClass());
+      Type type = Type.getType(field.getType());
+      if (Modifier.isStatic(field.getModifiers())) {
+        mv.visitVarInsn(ALOAD, 3);
+        BoxingHelper.unbox(mv, type);
+        mv.visitFieldInsn(PUTSTATIC, owner, field.getName(), type.getDescriptor());
+      } else {
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, owner);
+        mv.visitVarInsn(ALOAD, 3);
+        BoxingHelper.unbox(mv, type);
+        mv.visitFieldInsn(PUTFIELD, owner, field.getName(), type.getDescriptor());
+      }
+      mv.visitInsn(RETURN);
+    }
+
+    IndexedClassHelper.visitThrowIllegalArgument(mv, unsupported, UNSUPPORTED_MESSAGE + generatedClassPath);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+}
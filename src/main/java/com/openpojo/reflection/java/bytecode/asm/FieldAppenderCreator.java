@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+import com.openpojo.reflection.java.bytecode.FieldAppender;
+import com.openpojo.reflection.utils.ObjectToString;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * This class generates the byte code for a {@link FieldAppender} over fields of a class.
+ * Primitive fields are passed to the matching StringBuilder.append overload, everything else goes through
+ * ObjectToString. Like field accessors, only fields a class in another package and class loader can read are supported.
+ *
+ * @author oshoukry
+ */
+class FieldAppenderCreator {
+  private static final String STRING_BUILDER_PATH = Type.getInternalName(StringBuilder.class);
+  private static final String OBJECT_TO_STRING_PATH = Type.getInternalName(ObjectToString.class);
+  private static final String APPEND_DESC = "(Ljava/lang/Object;ILjava/lang/StringBuilder;)V";
+  private static final String UNSUPPORTED_MESSAGE = "Field index not accessible through ";
+
+  private final Field[] fields;
+  private final String generatedClassPath;
+
+  FieldAppenderCreator(Field[] fields, String generatedClassPath) {
+    this.fields = fields;
+    this.generatedClassPath = generatedClassPath;
+  }
+
+  static boolean canAppend(Field field) {
+    return field != null && FieldAccessorCreator.canGet(field);
+  }
+
+  byte[] getByteCode() {
+    ClassWriter cw = IndexedClassHelper.visitClass(generatedClassPath, FieldAppender.class);
+
+    generateAppend(cw);
+    boolean[] canAppend = new boolean[fields.length];
+    for (int index = 0; index < fields.length; index++)
+      canAppend[index] = canAppend(fields[index]);
+    IndexedClassHelper.generateIndexPredicate(cw, "canAppend", canAppend);
+
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+  private void generateAppend(ClassWriter cw) {
+    MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "append", APPEND_DESC, null, null);
+    mv.visitCode();
+    Label unsupported = new Label();
+    Label[] cases = IndexedClassHelper.visitIndexSwitch(mv, 2, fields.length, unsupported);
+
+    for (int index = 0; index < fields.length; index++) {
+      mv.visitLabel(cases[index]);
+      Field field = fields[index];
+      if (!canAppend(field)) {
+        mv.visitJumpInsn(GOTO, unsupported);
+        continue;
+      }
+      String owner = Type.getInternalName(field.getDeclaringClass());
+      String descriptor = Type.getDescriptor(field.getType());
+      mv.visitVarInsn(ALOAD, 3);
+      if (Modifier.isStatic(field.getModifiers())) {
+        mv.visitFieldInsn(GETSTATIC, owner, field.getName(), descriptor);
+      } else {
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, owner);
+        mv.visitFieldInsn(GETFIELD, owner, field.getName(), descriptor);
+      }
+      mv.visitMethodInsn(INVOKEVIRTUAL, STRING_BUILDER_PATH, "append", getAppendDescriptor(field.getType(), mv), false);
+      mv.visitInsn(POP);
+      mv.visitInsn(RETURN);
+    }
+
+    IndexedClassHelper.visitThrowIllegalArgument(mv, unsupported, UNSUPPORTED_MESSAGE + generatedClassPath);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+  /**
+   * Returns the StringBuilder.append overload to call for a value of the given type, values that have no exact
+   * overload are first rendered through ObjectToString.
+   */
+  private static String getAppendDescriptor(Class<?> type, MethodVisitor mv) {
+    if (type == boolean.class)
+      return "(Z)Ljava/lang/StringBuilder;";
+    if (type == char.class)
+      return "(C)Ljava/lang/StringBuilder;";
+    if (type == byte.class || type == short.class || type == int.class)
+      return "(I)Ljava/lang/StringBuilder;";
+    if (type == long.class)
+      return "(J)Ljava/lang/StringBuilder;";
+    if (type == float.class)
+      return "(F)Ljava/lang/StringBuilder;";
+    if (type == double.class)
+      return "(D)Ljava/lang/StringBuilder;";
+
+    mv.visitMethodInsn(INVOKESTATIC, OBJECT_TO_STRING_PATH, "toString", "(Ljava/lang/Object;)Ljava/lang/String;",
+        false);
+    return "(Ljava/lang/String;)Ljava/lang/StringBuilder;";
+  }
+}
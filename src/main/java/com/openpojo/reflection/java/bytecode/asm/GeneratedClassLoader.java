@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm;
+
+/**
+ * This class loader defines the classes generated for a given class (field accessors, copiers, field appenders, invokers).
+ * Classes are resolved through the given class's loader first, then through the loader that loaded OpenPojo, so
+ * generated classes can reference both.
+ * Every generated class gets its own loader, so it can be garbage collected along with the PojoClass that holds it.
+ *
+ * @author oshoukry
+ */
+class GeneratedClassLoader extends SimpleClassLoader {
+
+  GeneratedClassLoader(Class<?> clazz) {
+    super(clazz.getClassLoader());
+  }
+
+  @Override
+  protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+    try {
+      return super.loadClass(name, resolve);
+    } catch (ClassNotFoundException e) {
+      ClassLoader openPojoClassLoader = GeneratedClassLoader.class.getClassLoader();
+      if (openPojoClassLoader == null || openPojoClassLoader == getParent())
+        throw e;
+      return openPojoClassLoader.loadClass(name);
+    }
+  }
+}
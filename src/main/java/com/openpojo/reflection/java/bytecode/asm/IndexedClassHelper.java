@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+
+import com.openpojo.reflection.exception.ReflectionException;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * Emits the byte code shared by the classes generated over indexed members (field accessors, copiers, field
+ * appenders), where every method switches on a member index.
+ *
+ * @author oshoukry
+ */
+public final class IndexedClassHelper {
+  private static final String OBJECT_PATH = Type.getInternalName(Object.class);
+  private static final String ILLEGAL_ARGUMENT_PATH = Type.getInternalName(IllegalArgumentException.class);
+  private static final String INVOCATION_TARGET_PATH = Type.getInternalName(InvocationTargetException.class);
+  private static final String REFLECTION_EXCEPTION_PATH = Type.getInternalName(ReflectionException.class);
+
+  /**
+   * Start a public final class that extends Object, implements the given interface and has a public no-argument
+   * constructor.
+   *
+   * @param generatedClassPath
+   *     The internal name of the class to generate.
+   * @param implemented
+   *     The interface the generated class implements.
+   * @return The ClassWriter to add the interface's methods to.
+   */
+  public static ClassWriter visitClass(String generatedClassPath, Class<?> implemented) {
+    ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    cw.visit(V1_5, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, generatedClassPath, null, OBJECT_PATH,
+        new String[] { Type.getInternalName(implemented) });
+
+    MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+    mv.visitCode();
+    mv.visitVarInsn(ALOAD, 0);
+    mv.visitMethodInsn(INVOKESPECIAL, OBJECT_PATH, "<init>", "()V", false);
+    mv.visitInsn(RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+    return cw;
+  }
+
+  /**
+   * Load the index from the given local variable and switch on it.
+   *
+   * @param mv
+   *     The method being generated.
+   * @param indexVariable
+   *     The local variable holding the index.
+   * @param count
+   *     The number of indexes.
+   * @param defaultLabel
+   *     Where indexes out of range jump to.
+   * @return One label per index, to be visited in order.
+   */
+  public static Label[] visitIndexSwitch(MethodVisitor mv, int indexVariable, int count, Label defaultLabel) {
+    Label[] cases = new Label[count];
+    for (int index = 0; index < cases.length; index++)
+      cases[index] = new Label();
+
+    if (cases.length == 0) {
+      mv.visitJumpInsn(GOTO, defaultLabel);
+    } else {
+      mv.visitVarInsn(ILOAD, indexVariable);
+      mv.visitTableSwitchInsn(0, cases.length - 1, defaultLabel, cases);
+    }
+    return cases;
+  }
+
+  /**
+   * Visit the given label, followed by throwing an IllegalArgumentException with the given message.
+   */
+  public static void visitThrowIllegalArgument(MethodVisitor mv, Label label, String message) {
+    mv.visitLabel(label);
+    mv.visitTypeInsn(NEW, ILLEGAL_ARGUMENT_PATH);
+    mv.visitInsn(DUP);
+    mv.visitLdcInsn(message);
+    mv.visitMethodInsn(INVOKESPECIAL, ILLEGAL_ARGUMENT_PATH, "<init>", "(Ljava/lang/String;)V", false);
+    mv.visitInsn(ATHROW);
+  }
+
+  /**
+   * Visit the given handler label, followed by wrapping the Throwable on the stack the same way reflection reports an
+   * exception thrown by the invoked method, a ReflectionException caused by an InvocationTargetException.
+   */
+  public static void visitThrowInvocationFailed(MethodVisitor mv, Label handler) {
+    mv.visitLabel(handler);
+    mv.visitTypeInsn(NEW, INVOCATION_TARGET_PATH);
+    mv.visitInsn(DUP_X1);
+    mv.visitInsn(SWAP);
+    mv.visitMethodInsn(INVOKESPECIAL, INVOCATION_TARGET_PATH, "<init>", "(Ljava/lang/Throwable;)V", false);
+    mv.visitInsn(DUP);
+    mv.visitMethodInsn(INVOKEVIRTUAL, INVOCATION_TARGET_PATH, "getMessage", "()Ljava/lang/String;", false);
+    mv.visitInsn(SWAP);
+    mv.visitMethodInsn(INVOKESTATIC, REFLECTION_EXCEPTION_PATH, "getInstance",
+        "(Ljava/lang/String;Ljava/lang/Throwable;)L" + REFLECTION_EXCEPTION_PATH + ";", false);
+    mv.visitInsn(ATHROW);
+  }
+
+  /**
+   * Generate a public boolean name(int index) method, returning the value at the index and false out of range.
+   */
+  public static void generateIndexPredicate(ClassWriter cw, String name, boolean[] values) {
+    MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, name, "(I)Z", null, null);
+    mv.visitCode();
+    Label no = new Label();
+    Label[] cases = visitIndexSwitch(mv, 1, values.length, no);
+
+    for (int index = 0; index < values.length; index++) {
+      mv.visitLabel(cases[index]);
+      mv.visitInsn(values[index] ? ICONST_1 : ICONST_0);
+      mv.visitInsn(IRETURN);
+    }
+
+    mv.visitLabel(no);
+    mv.visitInsn(ICONST_0);
+    mv.visitInsn(IRETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+  /**
+   * @return true if generated code in another package and class loader can reference the type, arrays are checked by
+   * their component type.
+   */
+  public static boolean isPublicType(Class<?> type) {
+    while (type.isArray())
+      type = type.getComponentType();
+    return type.isPrimitive() || Modifier.isPublic(type.getModifiers());
+  }
+
+  private IndexedClassHelper() {
+    throw new UnsupportedOperationException(IndexedClassHelper.class.getName() + " should not be constructed!");
+  }
+}
@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import com.openpojo.reflection.java.invoke.impl.ReflectionInvoker;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * This class generates the byte code for an Invoker that calls a single method or constructor directly.
+ * The generated class extends {@link ReflectionInvoker} and overrides the fixed arity invoke matching the member's
+ * parameter count. Calls whose instance or parameters the member can't take as is (wrong or null instance, primitive
+ * widening, null into a primitive) and calls with any other parameter count go through reflection, so errors are
+ * reported the same way.
+ *
+ * @author oshoukry
+ */
+class InvokerCreator {
+  private static final int MAX_PARAMETERS = 2;
+  private static final String REFLECTION_INVOKER_PATH = Type.getInternalName(ReflectionInvoker.class);
+  private static final String OBJECT_PATH = Type.getInternalName(Object.class);
+  private static final String THROWABLE_PATH = Type.getInternalName(Throwable.class);
+  private static final String CONSTRUCTOR_DESC = "(" + Type.getDescriptor(AccessibleObject.class) + ")V";
+  private static final String INVOCATION_FAILED_DESC = "(Ljava/lang/Throwable;)Ljava/lang/RuntimeException;";
+
+  private final AccessibleObject accessibleObject;
+  private final String owner;
+  private final Class<?>[] parameterTypes;
+  private final String generatedClassPath;
+
+  InvokerCreator(AccessibleObject accessibleObject, String generatedClassPath) {
+    this.accessibleObject = accessibleObject;
+    this.owner = Type.getInternalName(((Member) accessibleObject).getDeclaringClass());
+    this.parameterTypes = getParameterTypes(accessibleObject);
+    this.generatedClassPath = generatedClassPath;
+  }
+
+  static boolean canInvoke(AccessibleObject accessibleObject) {
+    Member member = (Member) accessibleObject;
+    Class<?> declaringClass = member.getDeclaringClass();
+    if (!Modifier.isPublic(member.getModifiers()) || !Modifier.isPublic(declaringClass.getModifiers()))
+      return false;
+
+    if (accessibleObject instanceof Constructor<?> && Modifier.isAbstract(declaringClass.getModifiers()))
+      return false;
+
+    if (Modifier.isStatic(member.getModifiers()) && declaringClass.isInterface())
+      return false;
+
+    Class<?>[] parameterTypes = getParameterTypes(accessibleObject);
+    if (parameterTypes.length > MAX_PARAMETERS)
+      return false;
+
+    for (Class<?> parameterType : parameterTypes)
+      if (!IndexedClassHelper.isPublicType(parameterType))
+        return false;
+    return true;
+  }
+
+  private static Class<?>[] getParameterTypes(AccessibleObject accessibleObject) {
+    if (accessibleObject instanceof Constructor<?>)
+      return ((Constructor<?>) accessibleObject).getParameterTypes();
+    return ((Method) accessibleObject).getParameterTypes();
+  }
+
+  byte[] getByteCode() {
+    ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    cw.visit(V1_5, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, generatedClassPath, null, REFLECTION_INVOKER_PATH, null);
+
+    generateConstructor(cw);
+    generateInvoke(cw);
+
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+  private void generateConstructor(ClassWriter cw) {
+    MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", CONSTRUCTOR_DESC, null, null);
+    mv.visitCode();
+    mv.visitVarInsn(ALOAD, 0);
+    mv.visitVarInsn(ALOAD, 1);
+    mv.visitMethodInsn(INVOKESPECIAL, REFLECTION_INVOKER_PATH, "<init>", CONSTRUCTOR_DESC, false);
+    mv.visitInsn(RETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+  /**
+   * Generates invoke(Object instance, Object... one parameter per argument), the first parameter is in local 2.
+   */
+  private void generateInvoke(ClassWriter cw) {
+    String invokeDesc = getInvokeDescriptor();
+    MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "invoke", invokeDesc, null, null);
+    mv.visitCode();
+    Label reflect = new Label();
+
+    if (hasInstance()) {
+      mv.visitVarInsn(ALOAD, 1);
+      mv.visitTypeInsn(INSTANCEOF, owner);
+      mv.visitJumpInsn(IFEQ, reflect);
+    }
+    for (int index = 0; index < parameterTypes.length; index++)
+      checkParameter(mv, index + 2, Type.getType(parameterTypes[index]), reflect);
+
+    if (accessibleObject instanceof Constructor<?>) {
+      mv.visitTypeInsn(NEW, owner);
+      mv.visitInsn(DUP);
+    } else if (hasInstance()) {
+      mv.visitVarInsn(ALOAD, 1);
+      mv.visitTypeInsn(CHECKCAST, owner);
+    }
+    for (int index = 0; index < parameterTypes.length; index++) {
+      mv.visitVarInsn(ALOAD, index + 2);
+      BoxingHelper.unbox(mv, Type.getType(parameterTypes[index]));
+    }
+
+    Label start = new Label();
+    Label end = new Label();
+    Label failed = new Label();
+    mv.visitTryCatchBlock(start, end, failed, THROWABLE_PATH);
+    mv.visitLabel(start);
+    visitMemberInsn(mv);
+    mv.visitLabel(end);
+    visitReturnValue(mv);
+    mv.visitInsn(ARETURN);
+
+    mv.visitLabel(failed);
+    mv.visitVarInsn(ALOAD, 0);
+    mv.visitInsn(SWAP);
+    mv.visitMethodInsn(INVOKEVIRTUAL, REFLECTION_INVOKER_PATH, "invocationFailed", INVOCATION_FAILED_DESC, false);
+    mv.visitInsn(ATHROW);
+
+    mv.visitLabel(reflect);
+    for (int variable = 0; variable < parameterTypes.length + 2; variable++)
+      mv.visitVarInsn(ALOAD, variable);
+    mv.visitMethodInsn(INVOKESPECIAL, REFLECTION_INVOKER_PATH, "invoke", invokeDesc, false);
+    mv.visitInsn(ARETURN);
+
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+  }
+
+  private String getInvokeDescriptor() {
+    StringBuilder descriptor = new StringBuilder("(L" + OBJECT_PATH + ";");
+    for (int index = 0; index < parameterTypes.length; index++)
+      descriptor.append("L").append(OBJECT_PATH).append(";");
+    return descriptor.append(")L").append(OBJECT_PATH).append(";").toString();
+  }
+
+  private boolean hasInstance() {
+    return accessibleObject instanceof Method && !Modifier.isStatic(((Method) accessibleObject).getModifiers());
+  }
+
+  /**
+   * Jumps to reflect unless the parameter in the given local can be passed as is, primitives must be boxed in their
+   * exact wrapper type.
+   */
+  private void checkParameter(MethodVisitor mv, int variable, Type type, Label reflect) {
+    String wrapper = BoxingHelper.getWrapperInternalName(type);
+    if (wrapper != null) {
+      mv.visitVarInsn(ALOAD, variable);
+      mv.visitTypeInsn(INSTANCEOF, wrapper);
+      mv.visitJumpInsn(IFEQ, reflect);
+    } else if (!type.getInternalName().equals(OBJECT_PATH)) {
+      Label checked = new Label();
+      mv.visitVarInsn(ALOAD, variable);
+      mv.visitJumpInsn(IFNULL, checked);
+      mv.visitVarInsn(ALOAD, variable);
+      mv.visitTypeInsn(INSTANCEOF, type.getInternalName());
+      mv.visitJumpInsn(IFEQ, reflect);
+      mv.visitLabel(checked);
+    }
+  }
+
+  private void visitMemberInsn(MethodVisitor mv) {
+    if (accessibleObject instanceof Constructor<?>) {
+      mv.visitMethodInsn(INVOKESPECIAL, owner, "<init>",
+          Type.getConstructorDescriptor((Constructor<?>) accessibleObject), false);
+      return;
+    }
+
+    Method method = (Method) accessibleObject;
+    String methodDesc = Type.getMethodDescriptor(method);
+    if (Modifier.isStatic(method.getModifiers()))
+      mv.visitMethodInsn(INVOKESTATIC, owner, method.getName(), methodDesc, false);
+    else if (method.getDeclaringClass().isInterface())
+      mv.visitMethodInsn(INVOKEINTERFACE, owner, method.getName(), methodDesc, true);
+    else
+      mv.visitMethodInsn(INVOKEVIRTUAL, owner, method.getName(), methodDesc, false);
+  }
+
+  /**
+   * Leaves the Object to return on the stack, null for void methods and the new instance for constructors.
+   */
+  private void visitReturnValue(MethodVisitor mv) {
+    if (accessibleObject instanceof Constructor<?>)
+      return;
+
+    Type returnType = Type.getReturnType((Method) accessibleObject);
+    if (returnType.getSort() == Type.VOID)
+      mv.visitInsn(ACONST_NULL);
+    else
+      BoxingHelper.box(mv, returnType);
+  }
+}
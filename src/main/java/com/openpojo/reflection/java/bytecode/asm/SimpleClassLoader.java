@@ -23,6 +23,14 @@ package com.openpojo.reflection.java.bytecode.asm;
  */
 public class SimpleClassLoader extends ClassLoader {
 
+  public SimpleClassLoader() {
+    super();
+  }
+
+  protected SimpleClassLoader(ClassLoader parent) {
+    super(parent);
+  }
+
   public Class<?> loadThisClass(byte[] classBytes, String className) throws ClassNotFoundException {
     final Class<?> definedClass = defineClass(className, classBytes, 0, classBytes.length);
     resolveClass(definedClass);
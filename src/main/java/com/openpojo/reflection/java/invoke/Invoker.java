@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.invoke;
+
+/**
+ * An Invoker calls a single method or constructor that has been resolved once up-front.
+ * The fixed arity variants let implementations avoid packing the parameters in an array.
+ *
+ * @author oshoukry
+ */
+public interface Invoker {
+
+  /**
+   * Invoke with any number of parameters.
+   *
+   * @param instance
+   *     The instance to invoke on (ignored for static methods and constructors).
+   * @param parameters
+   *     The parameters to pass, null is treated as no parameters.
+   * @return The value returned, or the new instance for constructors.
+   */
+  Object invoke(Object instance, Object[] parameters);
+
+  Object invoke(Object instance);
+
+  Object invoke(Object instance, Object parameter);
+
+  Object invoke(Object instance, Object firstParameter, Object secondParameter);
+}
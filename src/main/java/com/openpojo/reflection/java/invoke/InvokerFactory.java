@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.invoke;
+
+import java.lang.reflect.AccessibleObject;
+
+import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.exception.ReflectionException;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
+import com.openpojo.reflection.java.invoke.impl.ReflectionInvoker;
+
+/**
+ * This factory resolves methods and constructors into Invokers.
+ * Members are called through generated byte code when enabled through
+ * {@link ByteCodeFactory#setInvokerEnabled(boolean)}, otherwise through reflection.
+ *
+ * @author oshoukry
+ */
+public class InvokerFactory {
+
+  /**
+   * Resolve a method or constructor into an Invoker.
+   *
+   * @param accessibleObject
+   *     The java.lang.reflect.Method or java.lang.reflect.Constructor to resolve.
+   * @return The Invoker.
+   */
+  public static Invoker getInvoker(AccessibleObject accessibleObject) {
+    try {
+      Invoker invoker = ByteCodeFactory.getInvoker(accessibleObject);
+      if (invoker != null)
+        return invoker;
+    } catch (ReflectionException e) {
+      LoggerFactory.getLogger(InvokerFactory.class).debug("Unable to generate invoker for [{0}], using reflection [{1}]",
+          accessibleObject, e);
+    }
+    return new ReflectionInvoker(accessibleObject);
+  }
+
+  private InvokerFactory() {
+    throw new UnsupportedOperationException(InvokerFactory.class.getName() + " should not be constructed!");
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.invoke.impl;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import com.openpojo.reflection.exception.ReflectionException;
+import com.openpojo.reflection.java.invoke.Invoker;
+
+/**
+ * Invoker that uses java.lang.reflect, access is granted once on first invocation rather than on every call.
+ * The fixed arity variants pack their parameters and go through reflection as well, generated invokers extend this
+ * class and override the variant matching their member's arity, handing everything else to reflection.
+ *
+ * @author oshoukry
+ */
+public class ReflectionInvoker implements Invoker {
+  private final AccessibleObject accessibleObject;
+  private volatile boolean accessible;
+
+  public ReflectionInvoker(AccessibleObject accessibleObject) {
+    this.accessibleObject = accessibleObject;
+  }
+
+  public Object invoke(Object instance) {
+    return invoke(instance, (Object[]) null);
+  }
+
+  public Object invoke(Object instance, Object parameter) {
+    return invoke(instance, new Object[] { parameter });
+  }
+
+  public Object invoke(Object instance, Object firstParameter, Object secondParameter) {
+    return invoke(instance, new Object[] { firstParameter, secondParameter });
+  }
+
+  public Object invoke(Object instance, Object[] parameters) {
+    allowAccessibility();
+    if (accessibleObject instanceof Constructor<?>) {
+      try {
+        return ((Constructor<?>) accessibleObject).newInstance(parameters);
+      } catch (final IllegalArgumentException e) {
+        throw ReflectionException.getInstance(e.getMessage(), e);
+      } catch (final InstantiationException e) {
+        throw ReflectionException.getInstance(e.getMessage(), e);
+      } catch (final IllegalAccessException e) {
+        throw ReflectionException.getInstance(e.getMessage(), e);
+      } catch (final InvocationTargetException e) {
+        throw ReflectionException.getInstance(e.getMessage(), e);
+      }
+    }
+
+    try {
+      return ((Method) accessibleObject).invoke(instance, parameters);
+    } catch (final IllegalArgumentException e) {
+      throw ReflectionException.getInstance(e.getMessage(), e);
+    } catch (final IllegalAccessException e) {
+      throw ReflectionException.getInstance(e.getMessage(), e);
+    } catch (final InvocationTargetException e) {
+      throw ReflectionException.getInstance(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Report an exception thrown by the invoked member the same way reflection does.
+   *
+   * @param cause
+   *     The exception thrown by the method or constructor.
+   * @return The ReflectionException to throw.
+   */
+  protected RuntimeException invocationFailed(Throwable cause) {
+    final InvocationTargetException e = new InvocationTargetException(cause);
+    return ReflectionException.getInstance(e.getMessage(), e);
+  }
+
+  private void allowAccessibility() {
+    if (!accessible) {
+      accessibleObject.setAccessible(true);
+      accessible = true;
+    }
+  }
+}
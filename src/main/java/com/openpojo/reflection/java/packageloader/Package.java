@@ -19,12 +19,12 @@
 package com.openpojo.reflection.java.packageloader;
 
 import java.lang.reflect.Type;
-import java.net.URL;
 import java.util.HashSet;
 import java.util.Set;
 
 import com.openpojo.business.BusinessIdentity;
 import com.openpojo.business.annotation.BusinessKey;
+import com.openpojo.reflection.ClassDescriptorFilter;
 import com.openpojo.reflection.java.packageloader.env.JavaClassPathClassLoader;
 
 /**
@@ -49,26 +49,40 @@ public final class Package {
   }
 
   public Set<Type> getTypes() {
+    return getTypes(null);
+  }
+
+  /**
+   * Get the types in this package, skipping the ones the filter excludes based on their class files.
+   *
+   * @param classDescriptorFilter
+   *     The filter to apply before loading, or null to load every type.
+   * @return The types in this package, the filter may let through types it would exclude once loaded.
+   */
+  public Set<Type> getTypes(final ClassDescriptorFilter classDescriptorFilter) {
     Set<Type> types = new HashSet<Type>();
-    for (PackageLoader packageLoader : getPackageLoaders()) {
-      for (Type type : packageLoader.getTypes()) {
+    Set<PackageLoader> packageLoaders = getPackageLoaders();
+    for (PackageLoader packageLoader : packageLoaders) {
+      for (Type type : packageLoader.getTypes(classDescriptorFilter)) {
         types.add(type);
       }
     }
 
-    types.addAll(JAVA_CLASSPATH_CLASS_LOADER.getTypesInPackage(packageName));
+    if (needsClassPathIndex(packageLoaders))
+      types.addAll(JAVA_CLASSPATH_CLASS_LOADER.getTypesInPackage(packageName, classDescriptorFilter));
     return types;
   }
 
   public Set<Package> getSubPackages() {
     Set<Package> subPackages = new HashSet<Package>();
     Set<String> subPackageNames = new HashSet<String>();
-    for (PackageLoader packageLoader : getPackageLoaders()) {
+    Set<PackageLoader> packageLoaders = getPackageLoaders();
+    for (PackageLoader packageLoader : packageLoaders) {
       subPackageNames.addAll(packageLoader.getSubPackages());
     }
 
-    Set<String> subPackagesFor = JAVA_CLASSPATH_CLASS_LOADER.getSubPackagesFor(packageName);
-    subPackageNames.addAll(subPackagesFor);
+    if (needsClassPathIndex(packageLoaders))
+      subPackageNames.addAll(JAVA_CLASSPATH_CLASS_LOADER.getSubPackagesFor(packageName));
 
     for (String packageName : subPackageNames) {
       subPackages.add(new Package(packageName));
@@ -77,15 +91,16 @@ public final class Package {
     return subPackages;
   }
 
-  private Set<PackageLoader> getPackageLoaders() {
-    Set<PackageLoader> packageLoaders = new HashSet<PackageLoader>();
-
-    Set<URL> resources = PackageLoader.getThreadResources(packageName);
-    for (URL resource : resources) {
-      packageLoaders.add(PackageLoader.getPackageLoaderByURL(resource, packageName));
-    }
+  /**
+   * The class path index is only consulted, and so only built, for packages the class loader can't resolve.
+   * The root package always needs it since class loaders only return directories for it, never jars.
+   */
+  private boolean needsClassPathIndex(final Set<PackageLoader> packageLoaders) {
+    return packageLoaders.isEmpty() || packageName == null || packageName.length() == 0;
+  }
 
-    return packageLoaders;
+  private Set<PackageLoader> getPackageLoaders() {
+    return PackageLoaderCache.getPackageLoaders(packageName);
   }
 
   @Override
@@ -30,6 +30,7 @@ import com.openpojo.business.annotation.BusinessKey;
 import com.openpojo.log.Logger;
 import com.openpojo.log.LoggerFactory;
 import com.openpojo.log.utils.MessageFormatter;
+import com.openpojo.reflection.ClassDescriptorFilter;
 import com.openpojo.reflection.exception.ReflectionException;
 import com.openpojo.reflection.java.Java;
 import com.openpojo.reflection.java.packageloader.impl.FilePackageLoader;
@@ -56,6 +57,18 @@ public abstract class PackageLoader {
 
   public abstract Set<Type> getTypes();
 
+  /**
+   * Get the types in this package, loaders that can read class files skip the ones the filter excludes without loading
+   * them.
+   *
+   * @param classDescriptorFilter
+   *     The filter to apply before loading, or null.
+   * @return The types in this package, possibly including types the filter would exclude.
+   */
+  public Set<Type> getTypes(final ClassDescriptorFilter classDescriptorFilter) {
+    return getTypes();
+  }
+
   public abstract Set<String> getSubPackages();
 
   public static Set<URL> getThreadResources(final String path) {
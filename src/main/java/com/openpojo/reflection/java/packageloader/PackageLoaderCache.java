@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.packageloader;
+
+import java.net.URL;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.openpojo.reflection.java.packageloader.reader.PackageDirectoryTree;
+
+/**
+ * This is the Cache to hold the PackageLoaders resolved for a package, to prevent enumerating class loader resources
+ * and reopening jars and directories every time a package is looked at.
+ * Entries are kept per class loader, and the class loaders are held weakly.
+ * <p>
+ * Note: Classes added to a directory or jar after their package was resolved aren't seen until the cache is cleared.
+ *
+ * @author oshoukry
+ */
+public final class PackageLoaderCache {
+  private static final Map<ClassLoader, ConcurrentMap<String, Set<PackageLoader>>> PACKAGE_LOADERS =
+      new WeakHashMap<ClassLoader, ConcurrentMap<String, Set<PackageLoader>>>();
+
+  /**
+   * Get the PackageLoaders for a package as seen through the thread context class loader.
+   *
+   * @param packageName
+   *     The package name.
+   * @return The PackageLoaders, one per directory or jar the package is found in.
+   */
+  static Set<PackageLoader> getPackageLoaders(final String packageName) {
+    final ConcurrentMap<String, Set<PackageLoader>> packageLoadersByPackage = getPackageLoadersByPackage(
+        Thread.currentThread().getContextClassLoader());
+
+    Set<PackageLoader> packageLoaders = packageLoadersByPackage.get(packageName);
+    if (packageLoaders == null) {
+      packageLoaders = resolvePackageLoaders(packageName);
+      final Set<PackageLoader> existing = packageLoadersByPackage.putIfAbsent(packageName, packageLoaders);
+      if (existing != null)
+        packageLoaders = existing;
+    }
+    return packageLoaders;
+  }
+
+  /**
+   * Clear all cached entries, needed when classes are added or removed after their packages were first looked at.
+   */
+  public static void clear() {
+    synchronized (PACKAGE_LOADERS) {
+      PACKAGE_LOADERS.clear();
+    }
+    PackageDirectoryTree.clear();
+  }
+
+  /**
+   * Clear the cached entries of a single class loader.
+   *
+   * @param classLoader
+   *     The class loader to clear the entries for.
+   */
+  public static void clear(final ClassLoader classLoader) {
+    synchronized (PACKAGE_LOADERS) {
+      PACKAGE_LOADERS.remove(classLoader);
+    }
+  }
+
+  private static ConcurrentMap<String, Set<PackageLoader>> getPackageLoadersByPackage(final ClassLoader classLoader) {
+    synchronized (PACKAGE_LOADERS) {
+      ConcurrentMap<String, Set<PackageLoader>> packageLoadersByPackage = PACKAGE_LOADERS.get(classLoader);
+      if (packageLoadersByPackage == null) {
+        packageLoadersByPackage = new ConcurrentHashMap<String, Set<PackageLoader>>();
+        PACKAGE_LOADERS.put(classLoader, packageLoadersByPackage);
+      }
+      return packageLoadersByPackage;
+    }
+  }
+
+  private static Set<PackageLoader> resolvePackageLoaders(final String packageName) {
+    final Set<PackageLoader> packageLoaders = new HashSet<PackageLoader>();
+    for (URL resource : PackageLoader.getThreadResources(packageName)) {
+      packageLoaders.add(PackageLoader.getPackageLoaderByURL(resource, packageName));
+    }
+    return Collections.unmodifiableSet(packageLoaders);
+  }
+
+  private PackageLoaderCache() {
+    throw new UnsupportedOperationException(PackageLoaderCache.class.getName() + " should not be constructed!");
+  }
+}
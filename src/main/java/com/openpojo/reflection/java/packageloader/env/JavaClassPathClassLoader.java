@@ -18,18 +18,38 @@
 
 package com.openpojo.reflection.java.packageloader.env;
 
+import java.io.File;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.ClassDescriptorFilter;
+import com.openpojo.reflection.exception.ReflectionException;
 import com.openpojo.reflection.java.Java;
 import com.openpojo.reflection.java.packageloader.reader.JarFileReader;
+import com.openpojo.reflection.java.packageloader.reader.JarFileReaderPool;
 import com.openpojo.reflection.java.packageloader.utils.Helper;
+import com.openpojo.reflection.java.packageloader.utils.PackageIndex;
 
 /**
+ * This class loader indexes every class in the jars named by the class path system properties, it is the fallback for
+ * packages that can not be resolved through the context class loader.
+ * <p>
+ * The index is built on first use rather than on construction, opening the jars in parallel.
+ *
  * @author oshoukry
  */
 public class JavaClassPathClassLoader {
@@ -40,11 +60,10 @@ public class JavaClassPathClassLoader {
   private static final JavaClassPathClassLoader INSTANCE = new JavaClassPathClassLoader();
 
   private final Set<String> classPathPropertyNames = new HashSet<String>();
-  private Set<String> classNames = new HashSet<String>();
+  private volatile PackageIndex packageIndex;
 
   private JavaClassPathClassLoader(String... propertyNames) {
     classPathPropertyNames.addAll(Arrays.asList(propertyNames));
-    loadClassNames();
   }
 
   private JavaClassPathClassLoader() {
@@ -60,7 +79,11 @@ public class JavaClassPathClassLoader {
   }
 
   public Set<Type> getTypesInPackage(String packageName) {
-    return Helper.loadClassesFromGivenPackage(classNames, packageName);
+    return getTypesInPackage(packageName, null);
+  }
+
+  public Set<Type> getTypesInPackage(String packageName, ClassDescriptorFilter classDescriptorFilter) {
+    return Helper.loadClassesFromGivenPackage(getPackageIndex(), packageName, classDescriptorFilter);
   }
 
   public Set<String> getClassPathKeys() {
@@ -68,36 +91,119 @@ public class JavaClassPathClassLoader {
   }
 
   public Set<String> getClassNames() {
-    return Collections.unmodifiableSet(classNames);
+    return getPackageIndex().getClassNames();
+  }
+
+  /**
+   * @return true once the class path has been indexed.
+   */
+  public boolean isIndexed() {
+    return packageIndex != null;
+  }
+
+  public boolean hasPackage(String packageName) {
+    return getPackageIndex().hasPackage(packageName);
+  }
+
+  public Set<String> getSubPackagesFor(String packageName) {
+    return new HashSet<String>(getPackageIndex().getSubPackages(packageName));
+  }
+
+  private PackageIndex getPackageIndex() {
+    PackageIndex index = packageIndex;
+    if (index == null) {
+      synchronized (this) {
+        index = packageIndex;
+        if (index == null) {
+          long start = System.currentTimeMillis();
+          index = new PackageIndex(loadClassNames());
+          packageIndex = index;
+          LoggerFactory.getLogger(this.getClass()).debug("Indexed [{0}] classes from the class path in [{1}]ms, "
+                  + "up to [{2}] jars at a time", index.getClassNames().size(), System.currentTimeMillis() - start,
+              JarFileReaderPool.getPeakIndexConcurrency());
+        }
+      }
+    }
+    return index;
   }
 
-  private void loadClassNames() {
+  private Collection<String> loadClassNames() {
+    List<String> entries = getClassPathEntries();
+    List<String> classNames = new ArrayList<String>();
+    if (entries.isEmpty())
+      return classNames;
+
+    int threads = Math.min(entries.size(), Runtime.getRuntime().availableProcessors());
+    ExecutorService executor = Executors.newFixedThreadPool(threads, new IndexThreadFactory());
+    try {
+      List<Future<Set<String>>> results = new ArrayList<Future<Set<String>>>(entries.size());
+      for (String entry : entries)
+        results.add(executor.submit(new ClassPathEntryReader(entry)));
+
+      for (Future<Set<String>> result : results)
+        classNames.addAll(getResult(result));
+    } finally {
+      executor.shutdownNow();
+    }
+    return classNames;
+  }
+
+  private List<String> getClassPathEntries() {
+    List<String> entries = new ArrayList<String>();
     for (String name : classPathPropertyNames) {
       String envProperty = System.getProperty(name);
-      if (envProperty != null) {
-        String[] entries = envProperty.split(Java.CLASSPATH_DELIMITER);
-        for (String entry : entries) {
-          LoggerFactory.getLogger(this.getClass()).info("Loading classes from: {0}", entry);
-
-          JarFileReader jarFileReader = JarFileReader.getInstance(entry);
-          if (jarFileReader.isValid())
-            classNames.addAll(jarFileReader.getClassNames());
-          else
-            LoggerFactory.getLogger(this.getClass()).warn("Failed to load entries from: [{0}]", entry);
-        }
-      } else
+      if (envProperty != null)
+        entries.addAll(Arrays.asList(envProperty.split(Java.CLASSPATH_DELIMITER)));
+      else
         LoggerFactory.getLogger(this.getClass()).warn("Failed to get value for environment variable: [{0}]", name);
     }
+    return entries;
   }
 
-  public boolean hasPackage(String packageName) {
-    for (String entry : classNames)
-      if (entry.startsWith(packageName + Java.PACKAGE_DELIMITER))
-        return true;
-    return false;
+  private static Set<String> getResult(Future<Set<String>> result) {
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw ReflectionException.getInstance("Interrupted while indexing the class path", e);
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException)
+        throw (RuntimeException) cause;
+      if (cause instanceof Error)
+        throw (Error) cause;
+      throw ReflectionException.getInstance(cause.getMessage(), cause);
+    }
   }
 
-  public Set<String> getSubPackagesFor(String packageName) {
-    return Helper.getSubPackagesOfPackage(classNames, packageName);
+  private static class ClassPathEntryReader implements Callable<Set<String>> {
+    private final String entry;
+
+    private ClassPathEntryReader(String entry) {
+      this.entry = entry;
+    }
+
+    public Set<String> call() {
+      LoggerFactory.getLogger(JavaClassPathClassLoader.class).info("Loading classes from: {0}", entry);
+      JarFileReader jarFileReader = JarFileReaderPool.acquire(new File(entry));
+      try {
+        if (jarFileReader.isValid())
+          return jarFileReader.getClassNames();
+        LoggerFactory.getLogger(JavaClassPathClassLoader.class).warn("Failed to load entries from: [{0}]", entry);
+        return Collections.emptySet();
+      } finally {
+        JarFileReaderPool.release(jarFileReader);
+      }
+    }
+  }
+
+  private static class IndexThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "openpojo-classpath-index-" + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
   }
-}
\ No newline at end of file
+}
@@ -18,10 +18,13 @@
 
 package com.openpojo.reflection.java.packageloader.impl;
 
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Type;
 import java.net.URL;
+import java.util.Collections;
 import java.util.Set;
 
+import com.openpojo.reflection.ClassDescriptorFilter;
 import com.openpojo.reflection.java.packageloader.PackageLoader;
 import com.openpojo.reflection.java.packageloader.reader.FileSystemReader;
 
@@ -30,6 +33,9 @@ import com.openpojo.reflection.java.packageloader.reader.FileSystemReader;
  */
 public final class FilePackageLoader extends PackageLoader {
   private final FileSystemReader fileSystemReader;
+  // types hold on to their class loader, keep them softly so a discarded class loader can still be collected.
+  private volatile SoftReference<Set<Type>> types;
+  private volatile Set<String> subPackages;
 
   public FilePackageLoader(final URL packageURL, final String packageName) {
     super(packageURL, packageName);
@@ -38,12 +44,36 @@ public final class FilePackageLoader extends PackageLoader {
 
   @Override
   public Set<Type> getTypes() {
-    return fileSystemReader.getTypesInPackage(packageName);
+    Set<Type> loaded = getLoadedTypes();
+    if (loaded == null) {
+      loaded = Collections.unmodifiableSet(fileSystemReader.getTypesInPackage(packageName));
+      types = new SoftReference<Set<Type>>(loaded);
+    }
+    return loaded;
+  }
+
+  @Override
+  public Set<Type> getTypes(final ClassDescriptorFilter classDescriptorFilter) {
+    // once every type is loaded, filtering ahead of loading has nothing left to save.
+    final Set<Type> loaded = getLoadedTypes();
+    if (loaded != null)
+      return loaded;
+    return fileSystemReader.getTypesInPackage(packageName, classDescriptorFilter);
   }
 
   @Override
   public Set<String> getSubPackages() {
-    return fileSystemReader.getSubPackagesOfPackage(packageName);
+    Set<String> resolved = subPackages;
+    if (resolved == null) {
+      resolved = Collections.unmodifiableSet(fileSystemReader.getSubPackagesOfPackage(packageName));
+      subPackages = resolved;
+    }
+    return resolved;
+  }
+
+  private Set<Type> getLoadedTypes() {
+    final SoftReference<Set<Type>> reference = types;
+    return reference == null ? null : reference.get();
   }
 
 }
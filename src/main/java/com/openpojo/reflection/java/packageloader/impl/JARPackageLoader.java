@@ -18,31 +18,97 @@
 
 package com.openpojo.reflection.java.packageloader.impl;
 
+import java.lang.ref.SoftReference;
 import java.lang.reflect.Type;
 import java.net.URL;
+import java.util.Collections;
 import java.util.Set;
 
+import com.openpojo.reflection.ClassDescriptorFilter;
 import com.openpojo.reflection.java.packageloader.PackageLoader;
 import com.openpojo.reflection.java.packageloader.reader.JarFileReader;
+import com.openpojo.reflection.java.packageloader.reader.JarFileReaderPool;
 
 /**
+ * The jar is read through {@link JarFileReaderPool}, so all the packages of a jar share one index of its entries.
+ * Jars the pool can't share (i.e. jars nested in jars) are read through one reader per loader.
+ *
  * @author oshoukry
  */
 public final class JARPackageLoader extends PackageLoader {
-  private final JarFileReader jarFileReader;
+  // types hold on to their class loader, keep them softly so a discarded class loader can still be collected.
+  private volatile SoftReference<Set<Type>> types;
+  private volatile Set<String> subPackages;
+  private final boolean pooled;
+  private JarFileReader unpooledJarFileReader;
 
   public JARPackageLoader(final URL packageURL, final String packageName) {
     super(packageURL, packageName);
-    jarFileReader = JarFileReader.getInstance(packageURL);
+    pooled = JarFileReaderPool.isPoolable(packageURL);
   }
 
   @Override
   public Set<Type> getTypes() {
-    return jarFileReader.getTypesInPackage(packageName);
+    Set<Type> loaded = getLoadedTypes();
+    if (loaded == null) {
+      final JarFileReader jarFileReader = acquireJarFileReader();
+      try {
+        loaded = Collections.unmodifiableSet(jarFileReader.getTypesInPackage(packageName));
+      } finally {
+        releaseJarFileReader(jarFileReader);
+      }
+      types = new SoftReference<Set<Type>>(loaded);
+    }
+    return loaded;
+  }
+
+  @Override
+  public Set<Type> getTypes(final ClassDescriptorFilter classDescriptorFilter) {
+    // once every type is loaded, filtering ahead of loading has nothing left to save.
+    final Set<Type> loaded = getLoadedTypes();
+    if (loaded != null)
+      return loaded;
+    final JarFileReader jarFileReader = acquireJarFileReader();
+    try {
+      return jarFileReader.getTypesInPackage(packageName, classDescriptorFilter);
+    } finally {
+      releaseJarFileReader(jarFileReader);
+    }
   }
 
   @Override
   public Set<String> getSubPackages() {
-    return jarFileReader.getSubPackagesOfPackage(packageName);
+    Set<String> resolved = subPackages;
+    if (resolved == null) {
+      final JarFileReader jarFileReader = acquireJarFileReader();
+      try {
+        resolved = Collections.unmodifiableSet(jarFileReader.getSubPackagesOfPackage(packageName));
+      } finally {
+        releaseJarFileReader(jarFileReader);
+      }
+      subPackages = resolved;
+    }
+    return resolved;
+  }
+
+  private JarFileReader acquireJarFileReader() {
+    if (pooled)
+      return JarFileReaderPool.acquire(packageURL);
+
+    synchronized (this) {
+      if (unpooledJarFileReader == null)
+        unpooledJarFileReader = JarFileReaderPool.acquire(packageURL);
+      return unpooledJarFileReader;
+    }
+  }
+
+  private void releaseJarFileReader(final JarFileReader jarFileReader) {
+    if (pooled)
+      JarFileReaderPool.release(jarFileReader);
+  }
+
+  private Set<Type> getLoadedTypes() {
+    final SoftReference<Set<Type>> reference = types;
+    return reference == null ? null : reference.get();
   }
 }
\ No newline at end of file
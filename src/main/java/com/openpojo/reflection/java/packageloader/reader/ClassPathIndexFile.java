@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.packageloader.reader;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.openpojo.cache.RecordFile;
+import com.openpojo.reflection.java.Java;
+
+/**
+ * This class keeps the class names of every jar indexed by {@link JarFileReaderPool} in a compact binary file, so new
+ * JVMs answer package lookups without reading the central directory of every jar on the class path again.
+ * <br>
+ * Jars are keyed by canonical path along with their size and modification time, a jar that changed is read again and
+ * only its entry is replaced, jars that no longer exist are dropped when the index is saved.
+ * <br>
+ * The index is opened by {@link com.openpojo.reflection.service.impl.DefaultPojoClassLookupService} when the
+ * "{@value #INDEX_FILE_PROPERTY}" system property is set, and written back when the JVM exits, see
+ * {@link RecordFile}.
+ *
+ * @author oshoukry
+ */
+public final class ClassPathIndexFile {
+  public static final String INDEX_FILE_PROPERTY = "openpojo.classpath.index.file";
+
+  private static final int MAGIC = 0x4F50434C;
+  private static final int VERSION = 1;
+
+  private static final RecordFile<Root> ROOTS = new RecordFile<Root>("class path index", MAGIC, VERSION) {
+    @Override
+    protected void writeRecord(final DataOutputStream out, final Root root) throws IOException {
+      root.writeTo(out);
+    }
+
+    @Override
+    protected Root readRecord(final DataInputStream in) throws IOException {
+      return Root.readFrom(in);
+    }
+
+    @Override
+    protected boolean isObsolete(final String path, final Root root) {
+      return !new File(path).isFile();
+    }
+  };
+
+  /**
+   * Open an index file, loading the jars it holds and writing them back along with any newly indexed jars on JVM exit.
+   * A missing or unreadable file is treated as an empty index.
+   *
+   * @param file
+   *     The index file.
+   */
+  public static void open(final File file) {
+    ROOTS.open(file);
+  }
+
+  /**
+   * @return true if an index file is open.
+   */
+  public static boolean isOpen() {
+    return ROOTS.isOpen();
+  }
+
+  /**
+   * Write the index back to its file if any jar was added, replaced or removed since it was opened or last saved.
+   */
+  public static void save() {
+    ROOTS.save();
+  }
+
+  /**
+   * Stop using the index without saving it.
+   */
+  public static void close() {
+    ROOTS.close();
+  }
+
+  /**
+   * Get the class names recorded for a jar, if the jar didn't change since.
+   *
+   * @param path
+   *     The canonical path of the jar.
+   * @param lastModified
+   *     The current modification time of the jar.
+   * @param length
+   *     The current size of the jar.
+   * @return the recorded class names, or null if the index isn't open or holds no current entry for the jar.
+   */
+  static Collection<String> getClassNames(final String path, final long lastModified, final long length) {
+    final Root root = ROOTS.get(path);
+    if (root == null || root.lastModified != lastModified || root.length != length)
+      return null;
+    return root.classNames;
+  }
+
+  /**
+   * Record the class names read out of a jar.
+   *
+   * @param path
+   *     The canonical path of the jar.
+   * @param lastModified
+   *     The modification time of the jar when it was read.
+   * @param length
+   *     The size of the jar when it was read.
+   * @param classNames
+   *     The fully qualified class names in the jar.
+   */
+  static void record(final String path, final long lastModified, final long length,
+                     final Collection<String> classNames) {
+    if (ROOTS.isOpen())
+      ROOTS.put(path, new Root(lastModified, length, new ArrayList<String>(classNames)));
+  }
+
+  /**
+   * The class names of one jar, written sorted and grouped by package so each package name is only written once.
+   */
+  private static class Root {
+    private final long lastModified;
+    private final long length;
+    private final List<String> classNames;
+
+    private Root(final long lastModified, final long length, final List<String> classNames) {
+      this.lastModified = lastModified;
+      this.length = length;
+      this.classNames = classNames;
+    }
+
+    private void writeTo(final DataOutputStream out) throws IOException {
+      final Map<String, List<String>> byPackage = new TreeMap<String, List<String>>();
+      for (final String className : new TreeSet<String>(classNames)) {
+        final int separator = className.lastIndexOf(Java.PACKAGE_DELIMITER);
+        final String packageName = separator > 0 ? className.substring(0, separator) : "";
+        List<String> simpleNames = byPackage.get(packageName);
+        if (simpleNames == null) {
+          simpleNames = new ArrayList<String>();
+          byPackage.put(packageName, simpleNames);
+        }
+        simpleNames.add(separator > 0 ? className.substring(separator + 1) : className);
+      }
+
+      out.writeLong(lastModified);
+      out.writeLong(length);
+      out.writeInt(byPackage.size());
+      for (final Map.Entry<String, List<String>> entry : byPackage.entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeInt(entry.getValue().size());
+        for (final String simpleName : entry.getValue())
+          out.writeUTF(simpleName);
+      }
+    }
+
+    private static Root readFrom(final DataInputStream in) throws IOException {
+      final long lastModified = in.readLong();
+      final long length = in.readLong();
+      final List<String> classNames = new ArrayList<String>();
+      final int packages = in.readInt();
+      for (int packageIndex = 0; packageIndex < packages; packageIndex++) {
+        final String packageName = in.readUTF();
+        final String prefix = packageName.length() > 0 ? packageName + Java.PACKAGE_DELIMITER : "";
+        final int classes = in.readInt();
+        for (int classIndex = 0; classIndex < classes; classIndex++)
+          classNames.add(prefix + in.readUTF());
+      }
+      return new Root(lastModified, length, classNames);
+    }
+  }
+
+  private ClassPathIndexFile() {
+    throw new UnsupportedOperationException(ClassPathIndexFile.class.getName() + " should not be constructed!");
+  }
+}
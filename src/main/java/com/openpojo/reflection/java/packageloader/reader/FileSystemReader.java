@@ -19,13 +19,18 @@
 package com.openpojo.reflection.java.packageloader.reader;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.lang.reflect.Type;
 import java.net.URL;
 import java.util.HashSet;
 import java.util.Set;
 
+import com.openpojo.reflection.ClassDescriptor;
+import com.openpojo.reflection.ClassDescriptorFilter;
 import com.openpojo.reflection.exception.ReflectionException;
 import com.openpojo.reflection.java.Java;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
 import com.openpojo.reflection.java.load.ClassUtil;
 import com.openpojo.reflection.java.packageloader.impl.URLToFileSystemAdapter;
 import com.openpojo.reflection.java.packageloader.utils.Helper;
@@ -52,11 +57,20 @@ public class FileSystemReader {
   }
 
   public Set<Type> getTypesInPackage(String packageName) {
+    return getTypesInPackage(packageName, null);
+  }
+
+  public Set<Type> getTypesInPackage(String packageName, ClassDescriptorFilter classDescriptorFilter) {
 
     final Set<Type> types = new HashSet<Type>();
 
-    for (final File entry : getEntries()) {
-      final String className = fromJDKPathToJDKPackage(packageName) + Java.PACKAGE_DELIMITER + entry.getName();
+    for (final String entry : PackageDirectoryTree.getInstance(directory).getClassFileNames(directory)) {
+      final String className = fromJDKPathToJDKPackage(packageName) + Java.PACKAGE_DELIMITER + entry;
+      if (Helper.isExcluded(Helper.getFQClassName(className), classDescriptorFilter)
+          || Helper.usesClassDescriptor(classDescriptorFilter)
+          && Helper.isExcluded(getClassDescriptor(new File(directory, entry)), classDescriptorFilter))
+        continue;
+
       final Class<?> classEntry = getAsClass(className);
       if (classEntry != null) {
         types.add(classEntry);
@@ -67,13 +81,11 @@ public class FileSystemReader {
 
   public Set<String> getSubPackagesOfPackage(String packageName) {
     final Set<String> subPaths = new HashSet<String>();
-    for (final File file : getEntries()) {
-      if (file.isDirectory()) {
-        if (packageName != null && packageName.length() > 0)
-          subPaths.add(fromJDKPathToJDKPackage(packageName) + Java.PACKAGE_DELIMITER + file.getName());
-        else
-          subPaths.add(file.getName());
-      }
+    for (final String directoryName : PackageDirectoryTree.getInstance(directory).getDirectoryNames(directory)) {
+      if (packageName != null && packageName.length() > 0)
+        subPaths.add(fromJDKPathToJDKPackage(packageName) + Java.PACKAGE_DELIMITER + directoryName);
+      else
+        subPaths.add(directoryName);
     }
     return subPaths;
   }
@@ -91,8 +103,12 @@ public class FileSystemReader {
     return directory;
   }
 
-  private File[] getEntries() {
-    return directory.listFiles();
+  private static ClassDescriptor getClassDescriptor(final File entry) {
+    try {
+      return ByteCodeFactory.getClassDescriptor(new FileInputStream(entry));
+    } catch (FileNotFoundException ignored) {
+      return null;
+    }
   }
 
   private Class<?> getAsClass(final String entry) {
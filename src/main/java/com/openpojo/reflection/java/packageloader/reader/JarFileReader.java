@@ -24,9 +24,11 @@ import java.net.JarURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.jar.Attributes;
@@ -34,10 +36,12 @@ import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 
+import com.openpojo.reflection.ClassDescriptorFilter;
 import com.openpojo.reflection.exception.ReflectionException;
 import com.openpojo.reflection.java.Java;
 import com.openpojo.reflection.java.packageloader.impl.URLToFileSystemAdapter;
 import com.openpojo.reflection.java.packageloader.utils.Helper;
+import com.openpojo.reflection.java.packageloader.utils.PackageIndex;
 
 import static com.openpojo.reflection.java.packageloader.utils.Helper.getFQClassName;
 import static com.openpojo.reflection.java.packageloader.utils.Helper.isClass;
@@ -51,7 +55,9 @@ import static com.openpojo.reflection.java.packageloader.utils.Helper.isClass;
 public class JarFileReader {
 
   private JarFile jarFile = null;
-  private Set<String> classNames;
+  // set for readers built from recorded class names, the jar is only opened when its manifest is read.
+  private String unopenedJarFilePath = null;
+  private PackageIndex packageIndex;
 
   private JarFileReader(String jarFilePath) {
     try {
@@ -69,6 +75,18 @@ public class JarFileReader {
     }
   }
 
+  private JarFileReader(String jarFilePath, Collection<String> classNames) {
+    unopenedJarFilePath = jarFilePath;
+    packageIndex = new PackageIndex(classNames);
+  }
+
+  /**
+   * Build a reader out of class names already read from the jar, see {@link ClassPathIndexFile}.
+   */
+  static JarFileReader getInstance(String jarFilePath, Collection<String> classNames) {
+    return new JarFileReader(jarFilePath, classNames);
+  }
+
   public static JarFileReader getInstance(String jarFilePath) {
     return new JarFileReader(jarFilePath);
   }
@@ -78,16 +96,16 @@ public class JarFileReader {
   }
 
   public boolean isValid() {
-    return jarFile != null;
+    return jarFile != null || unopenedJarFilePath != null;
   }
 
   public Map<String, String> getManifestEntries() {
     Map<String, String> manifestEntries = new HashMap<String, String>();
     Manifest manifest;
     try {
-      manifest = jarFile.getManifest();
+      manifest = getJarFile().getManifest();
     } catch (IOException e) {
-      throw ReflectionException.getInstance("Failed to load Manifest-File for: " + jarFile.getName(), e);
+      throw ReflectionException.getInstance("Failed to load Manifest-File for: " + getJarFileName(), e);
     }
 
     Attributes mainAttributes = manifest.getMainAttributes();
@@ -104,6 +122,18 @@ public class JarFileReader {
     return getManifestEntries().get(name);
   }
 
+  private synchronized JarFile getJarFile() throws IOException {
+    if (jarFile == null && unopenedJarFilePath != null) {
+      jarFile = new JarFile(unopenedJarFilePath, true);
+      unopenedJarFilePath = null;
+    }
+    return jarFile;
+  }
+
+  private synchronized String getJarFileName() {
+    return jarFile != null ? jarFile.getName() : unopenedJarFilePath;
+  }
+
   private Set<String> getAllEntries() {
     Set<String> entries = new HashSet<String>();
 
@@ -115,24 +145,40 @@ public class JarFileReader {
   }
 
   public Set<Type> getTypesInPackage(String packageName) {
-    return Helper.loadClassesFromGivenPackage(classNames, packageName);
+    return getTypesInPackage(packageName, null);
+  }
+
+  public Set<Type> getTypesInPackage(String packageName, ClassDescriptorFilter classDescriptorFilter) {
+    return Helper.loadClassesFromGivenPackage(packageIndex, packageName, classDescriptorFilter);
   }
 
   public Set<String> getSubPackagesOfPackage(String packageName) {
-    return Helper.getSubPackagesOfPackage(classNames, packageName);
+    return new HashSet<String>(packageIndex.getSubPackages(packageName));
   }
 
   private void initClassNames() {
-    classNames = new HashSet<String>();
+    List<String> classNames = new ArrayList<String>();
     for (String entry : getAllEntries()) {
       if (isClass(entry))
         classNames.add(getFQClassName(entry));
     }
-    classNames = Collections.unmodifiableSet(classNames);
+    packageIndex = new PackageIndex(classNames);
   }
 
   public Set<String> getClassNames() {
-    return classNames;
+    return packageIndex == null ? Collections.<String>emptySet() : packageIndex.getClassNames();
+  }
+
+  /**
+   * Close the jar file, only used by {@link JarFileReaderPool} on readers it opened.
+   * Class names stay available, the manifest doesn't.
+   */
+  synchronized void close() {
+    try {
+      if (jarFile != null)
+        jarFile.close();
+    } catch (IOException ignored) {
+    }
   }
 
   public static String getJarFileNameFromURLPath(String name) {
@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.packageloader.reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.openpojo.cache.CacheStatistics;
+import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.java.Java;
+
+/**
+ * This pool shares one indexed JarFileReader per jar file, so packages served from the same jar don't each reopen and
+ * re-index it.
+ * Jars are keyed by canonical path, and re-indexed when their size or modification time change.
+ * A jar is indexed once, outside of the pool's lock, threads acquiring it meanwhile wait for that index.
+ * The least recently used idle jars are closed once more than {@link #getMaxSize()} are pooled, jars are only closed
+ * after every reader acquired from the pool was released.
+ *
+ * @author oshoukry
+ */
+public final class JarFileReaderPool {
+  public static final int DEFAULT_MAX_SIZE = 64;
+
+  private static final Map<String, Entry> ENTRIES = new LinkedHashMap<String, Entry>(16, 0.75f, true);
+  // every pooled reader, including evicted ones still in use.
+  private static final Map<JarFileReader, Entry> READERS = new IdentityHashMap<JarFileReader, Entry>();
+  private static final Statistics STATISTICS = new Statistics();
+  private static int maxSize = DEFAULT_MAX_SIZE;
+
+  /**
+   * Acquire the reader of the jar serving the given jar URL (i.e. "jar:file:/some.jar!/com/package").
+   * Every reader acquired must be handed back through {@link #release(JarFileReader)}.
+   *
+   * @param jarURL
+   *     The jar URL.
+   * @return The pooled reader, or a reader of its own if the URL doesn't point at a jar on the file system (i.e. jars
+   * nested in jars).
+   */
+  public static JarFileReader acquire(final URL jarURL) {
+    final File jarFile = getJarFile(jarURL);
+    if (jarFile == null)
+      return JarFileReader.getInstance(jarURL);
+    return acquire(jarFile);
+  }
+
+  /**
+   * @param jarURL
+   *     The jar URL.
+   * @return true if readers acquired for the URL are pooled, false if {@link #acquire(URL)} hands out a reader of its
+   * own that the caller should hold on to rather than acquire again.
+   */
+  public static boolean isPoolable(final URL jarURL) {
+    return getJarFile(jarURL) != null;
+  }
+
+  /**
+   * Acquire the reader of a jar file.
+   * Every reader acquired must be handed back through {@link #release(JarFileReader)}.
+   *
+   * @param jarFile
+   *     The jar file.
+   * @return The pooled reader.
+   */
+  public static JarFileReader acquire(final File jarFile) {
+    final String path = getCanonicalPath(jarFile);
+    final long lastModified = jarFile.lastModified();
+    final long length = jarFile.length();
+
+    final Entry entry;
+    final boolean reserved;
+    synchronized (ENTRIES) {
+      final Entry pooled = ENTRIES.get(path);
+      if (pooled != null && pooled.lastModified == lastModified && pooled.length == length) {
+        STATISTICS.hits.incrementAndGet();
+        pooled.references++;
+        entry = pooled;
+        reserved = false;
+      } else {
+        if (pooled != null)
+          evict(ENTRIES.remove(path));
+
+        // reserve the slot, the jar is indexed outside the lock so other jars can be acquired meanwhile.
+        STATISTICS.misses.incrementAndGet();
+        entry = new Entry(lastModified, length);
+        entry.references++;
+        ENTRIES.put(path, entry);
+        reserved = true;
+      }
+    }
+
+    if (reserved)
+      return open(path, entry);
+
+    final JarFileReader jarFileReader = entry.awaitJarFileReader();
+    // the thread indexing the jar failed, try again.
+    if (jarFileReader == null)
+      return acquire(jarFile);
+    return jarFileReader;
+  }
+
+  /**
+   * Hand back a reader acquired from this pool, readers that weren't pooled are ignored.
+   *
+   * @param jarFileReader
+   *     The reader to release.
+   */
+  public static void release(final JarFileReader jarFileReader) {
+    if (jarFileReader == null)
+      return;
+
+    synchronized (ENTRIES) {
+      final Entry entry = READERS.get(jarFileReader);
+      if (entry == null)
+        return;
+
+      entry.references--;
+      if (entry.evicted)
+        closeIfIdle(entry);
+      else
+        evictIdleOverflow();
+    }
+  }
+
+  public static void setMaxSize(final int maxSize) {
+    synchronized (ENTRIES) {
+      JarFileReaderPool.maxSize = maxSize;
+      evictIdleOverflow();
+    }
+  }
+
+  public static int getMaxSize() {
+    synchronized (ENTRIES) {
+      return maxSize;
+    }
+  }
+
+  public static int size() {
+    synchronized (ENTRIES) {
+      return ENTRIES.size();
+    }
+  }
+
+  /**
+   * @return hits are readers reused, misses are jars indexed, evictions are jars dropped from the pool.
+   */
+  public static CacheStatistics getStatistics() {
+    return STATISTICS;
+  }
+
+  /**
+   * @return the total time spent indexing jars, in milliseconds.
+   */
+  public static long getIndexTimeMillis() {
+    return STATISTICS.indexNanos.get() / 1000000;
+  }
+
+  /**
+   * @return the most jars indexed at the same time, jars are indexed outside of the pool's lock so jars acquired from
+   * several threads are indexed in parallel.
+   */
+  public static int getPeakIndexConcurrency() {
+    return STATISTICS.peakIndexing.get();
+  }
+
+  /**
+   * Drop every pooled jar, jars still in use are closed once released.
+   */
+  public static void clear() {
+    synchronized (ENTRIES) {
+      for (Entry entry : ENTRIES.values())
+        evict(entry);
+      ENTRIES.clear();
+    }
+  }
+
+  private static void evictIdleOverflow() {
+    final Iterator<Entry> entries = ENTRIES.values().iterator();
+    while (ENTRIES.size() > maxSize && entries.hasNext()) {
+      final Entry entry = entries.next();
+      if (entry.references == 0) {
+        entries.remove();
+        evict(entry);
+      }
+    }
+  }
+
+  private static void evict(final Entry entry) {
+    STATISTICS.evictions.incrementAndGet();
+    entry.evicted = true;
+    closeIfIdle(entry);
+  }
+
+  private static void closeIfIdle(final Entry entry) {
+    if (entry.references == 0) {
+      READERS.remove(entry.jarFileReader);
+      entry.jarFileReader.close();
+    }
+  }
+
+  private static JarFileReader open(final String path, final Entry entry) {
+    JarFileReader jarFileReader = null;
+    try {
+      jarFileReader = index(path, entry.lastModified, entry.length);
+    } finally {
+      publish(path, entry, jarFileReader);
+    }
+    return jarFileReader;
+  }
+
+  private static void publish(final String path, final Entry entry, final JarFileReader jarFileReader) {
+    synchronized (ENTRIES) {
+      if (jarFileReader != null && jarFileReader.isValid()) {
+        READERS.put(jarFileReader, entry);
+        entry.opened(jarFileReader);
+        // evicted while indexing, i.e. cleared, the reader is closed once every waiter released it.
+        if (!entry.evicted)
+          evictIdleOverflow();
+      } else {
+        if (ENTRIES.get(path) == entry)
+          ENTRIES.remove(path);
+        entry.opened(jarFileReader);
+      }
+    }
+  }
+
+  private static JarFileReader index(final String path, final long lastModified, final long length) {
+    final long start = System.nanoTime();
+    STATISTICS.indexStarted();
+    final Collection<String> recordedClassNames;
+    final JarFileReader jarFileReader;
+    try {
+      recordedClassNames = ClassPathIndexFile.getClassNames(path, lastModified, length);
+      if (recordedClassNames != null) {
+        jarFileReader = JarFileReader.getInstance(path, recordedClassNames);
+      } else {
+        jarFileReader = JarFileReader.getInstance(path);
+        if (jarFileReader.isValid())
+          ClassPathIndexFile.record(path, lastModified, length, jarFileReader.getClassNames());
+      }
+    } finally {
+      STATISTICS.indexFinished();
+    }
+
+    final long elapsed = System.nanoTime() - start;
+    STATISTICS.indexNanos.addAndGet(elapsed);
+    if (jarFileReader.isValid())
+      LoggerFactory.getLogger(JarFileReaderPool.class).debug("Indexed jar [{0}] with [{1}] classes in [{2}ms]{3}",
+          path, jarFileReader.getClassNames().size(), elapsed / 1000000,
+          recordedClassNames != null ? " from the class path index" : "");
+    return jarFileReader;
+  }
+
+  private static File getJarFile(final URL jarURL) {
+    if (jarURL == null || !"jar".equalsIgnoreCase(jarURL.getProtocol()))
+      return null;
+
+    final String path = jarURL.getPath();
+    // jars nested in jars have more than one separator, those can only be read through their URL.
+    final int separator = path.indexOf(Java.JAR_FILE_PATH_SEPARATOR);
+    if (separator < 0 || path.indexOf(Java.JAR_FILE_PATH_SEPARATOR, separator + 1) >= 0 || !path.startsWith("file:"))
+      return null;
+
+    final File jarFile = new File(JarFileReader.getJarFileNameFromURLPath(path));
+    return jarFile.isFile() ? jarFile : null;
+  }
+
+  private static String getCanonicalPath(final File file) {
+    try {
+      return file.getCanonicalPath();
+    } catch (IOException e) {
+      return file.getAbsolutePath();
+    }
+  }
+
+  private static class Entry {
+    private final CountDownLatch indexed = new CountDownLatch(1);
+    private final long lastModified;
+    private final long length;
+    private volatile JarFileReader jarFileReader;
+    private int references;
+    private boolean evicted;
+
+    private Entry(final long lastModified, final long length) {
+      this.lastModified = lastModified;
+      this.length = length;
+    }
+
+    private void opened(final JarFileReader jarFileReader) {
+      this.jarFileReader = jarFileReader;
+      indexed.countDown();
+    }
+
+    /**
+     * @return the reader once the thread that reserved this entry indexed the jar, null if indexing failed.
+     */
+    private JarFileReader awaitJarFileReader() {
+      boolean interrupted = false;
+      try {
+        while (true) {
+          try {
+            indexed.await();
+            return jarFileReader;
+          } catch (InterruptedException e) {
+            interrupted = true;
+          }
+        }
+      } finally {
+        if (interrupted)
+          Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  private static class Statistics implements CacheStatistics {
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong indexNanos = new AtomicLong();
+    private final AtomicInteger indexing = new AtomicInteger();
+    private final AtomicInteger peakIndexing = new AtomicInteger();
+
+    private void indexStarted() {
+      final int current = indexing.incrementAndGet();
+      int peak = peakIndexing.get();
+      while (current > peak && !peakIndexing.compareAndSet(peak, current))
+        peak = peakIndexing.get();
+    }
+
+    private void indexFinished() {
+      indexing.decrementAndGet();
+    }
+
+    public long getHitCount() {
+      return hits.get();
+    }
+
+    public long getMissCount() {
+      return misses.get();
+    }
+
+    public long getEvictionCount() {
+      return evictions.get();
+    }
+
+    @Override
+    public String toString() {
+      return String.format("CacheStatistics [hits=%s, misses=%s, evictions=%s]", hits, misses, evictions);
+    }
+  }
+
+  private JarFileReaderPool() {
+    throw new UnsupportedOperationException(JarFileReaderPool.class.getName() + " should not be constructed!");
+  }
+}
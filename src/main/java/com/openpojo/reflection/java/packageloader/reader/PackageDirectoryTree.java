@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.packageloader.reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Set;
+
+import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.java.packageloader.utils.Helper;
+
+/**
+ * This tree holds the class files and sub-directories of every directory under a root, read in a single walk that
+ * lists each directory once and checks each entry once.
+ * Trees are shared, so a recursive scan over an exploded classes directory walks it once rather than listing every
+ * package directory for its types and again for its sub-packages.
+ * <p>
+ * A directory whose modification time changed since it was walked has its tree walked again from the tree's root, the
+ * new tree replaces the stale one along with any tree built for a directory under it.
+ * Trees are held softly, so they are dropped under memory pressure and walked again when next needed.
+ *
+ * @author oshoukry
+ */
+public final class PackageDirectoryTree {
+  private static final Map<File, SoftReference<PackageDirectoryTree>> TREES =
+      new HashMap<File, SoftReference<PackageDirectoryTree>>();
+
+  private final File root;
+  private final Map<File, Node> nodes = new HashMap<File, Node>();
+
+  private PackageDirectoryTree(final File root) {
+    this.root = root;
+    walk();
+  }
+
+  /**
+   * Get a tree that holds the given directory, reusing a tree built for one of its parents if there is one.
+   * The directory is checked on every call, if it changed since it was walked its tree is walked again.
+   *
+   * @param directory
+   *     The directory to look up.
+   * @return The tree holding the directory.
+   */
+  public static PackageDirectoryTree getInstance(final File directory) {
+    final File canonical = getCanonicalFile(directory);
+    File root = canonical;
+    synchronized (TREES) {
+      for (File candidate = canonical; candidate != null; candidate = candidate.getParentFile()) {
+        final PackageDirectoryTree tree = getTree(candidate);
+        if (tree != null) {
+          if (tree.isCurrent(canonical))
+            return tree;
+          root = candidate;
+          break;
+        }
+      }
+    }
+
+    final PackageDirectoryTree tree = new PackageDirectoryTree(root);
+    synchronized (TREES) {
+      evictTreesUnder(root);
+      TREES.put(root, new SoftReference<PackageDirectoryTree>(tree));
+    }
+    return tree;
+  }
+
+  /**
+   * Drop all the trees, the next lookups walk their directories again.
+   */
+  public static void clear() {
+    synchronized (TREES) {
+      TREES.clear();
+    }
+  }
+
+  /**
+   * @param directory
+   *     The directory, must be held by this tree.
+   * @return The names of the class files directly in the directory, for example "SomeClass.class".
+   */
+  public Set<String> getClassFileNames(final File directory) {
+    return Collections.unmodifiableSet(getNode(directory).classFileNames);
+  }
+
+  /**
+   * @param directory
+   *     The directory, must be held by this tree.
+   * @return The names of the directories directly in the directory.
+   */
+  public Set<String> getDirectoryNames(final File directory) {
+    return Collections.unmodifiableSet(getNode(directory).directoryNames);
+  }
+
+  private static PackageDirectoryTree getTree(final File root) {
+    final SoftReference<PackageDirectoryTree> reference = TREES.get(root);
+    if (reference == null)
+      return null;
+
+    final PackageDirectoryTree tree = reference.get();
+    if (tree == null)
+      TREES.remove(root);
+    return tree;
+  }
+
+  private static void evictTreesUnder(final File root) {
+    final String prefix = root.getPath().endsWith(File.separator) ? root.getPath() : root.getPath() + File.separator;
+    final Iterator<Map.Entry<File, SoftReference<PackageDirectoryTree>>> entries = TREES.entrySet().iterator();
+    while (entries.hasNext()) {
+      final Map.Entry<File, SoftReference<PackageDirectoryTree>> entry = entries.next();
+      if (entry.getValue().get() == null || entry.getKey().getPath().startsWith(prefix))
+        entries.remove();
+    }
+  }
+
+  private Node getNode(final File directory) {
+    final Node node = nodes.get(getCanonicalFile(directory));
+    return node == null ? Node.EMPTY : node;
+  }
+
+  private boolean isCurrent(final File directory) {
+    final Node node = nodes.get(directory);
+    if (node == null)
+      return !directory.isDirectory();
+    return node.lastModified == directory.lastModified();
+  }
+
+  private void walk() {
+    final long start = System.currentTimeMillis();
+    final LinkedList<File> pending = new LinkedList<File>();
+    pending.add(root);
+
+    while (!pending.isEmpty()) {
+      // key by the canonical path, so a directory reached through a symbolic link is found on lookup.
+      final File directory = getCanonicalFile(pending.removeFirst());
+      // guard against symbolic links looping back onto a parent.
+      if (nodes.containsKey(directory))
+        continue;
+
+      final Node node = new Node(directory.lastModified());
+      final File[] entries = directory.listFiles();
+      if (entries != null) {
+        for (final File entry : entries) {
+          if (entry.isDirectory()) {
+            node.directoryNames.add(entry.getName());
+            pending.add(entry);
+          } else if (Helper.isClass(entry.getName())) {
+            node.classFileNames.add(entry.getName());
+          }
+        }
+      }
+      nodes.put(directory, node);
+    }
+
+    LoggerFactory.getLogger(PackageDirectoryTree.class).debug("Walked [{0}] with [{1}] directories in [{2}ms]", root,
+        nodes.size(), System.currentTimeMillis() - start);
+  }
+
+  private static File getCanonicalFile(final File file) {
+    try {
+      return file.getCanonicalFile();
+    } catch (IOException e) {
+      return file.getAbsoluteFile();
+    }
+  }
+
+  private static class Node {
+    private static final Node EMPTY = new Node(0);
+
+    private final long lastModified;
+    private final Set<String> classFileNames;
+    private final Set<String> directoryNames;
+
+    private Node(final long lastModified) {
+      this.lastModified = lastModified;
+      this.classFileNames = new HashSet<String>();
+      this.directoryNames = new HashSet<String>();
+    }
+  }
+}
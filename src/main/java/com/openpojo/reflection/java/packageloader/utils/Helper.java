@@ -22,7 +22,12 @@ import java.lang.reflect.Type;
 import java.util.HashSet;
 import java.util.Set;
 
+import com.openpojo.reflection.ClassDescriptor;
+import com.openpojo.reflection.ClassDescriptorFilter;
+import com.openpojo.reflection.PojoClassNameFilter;
+import com.openpojo.reflection.filters.FilterChain;
 import com.openpojo.reflection.java.Java;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
 import com.openpojo.reflection.java.load.ClassUtil;
 
 /**
@@ -40,6 +45,44 @@ public class Helper {
   }
 
   public static Set<Type> loadClassesFromGivenPackage(Set<String> classNames, String packageName) {
+    return loadClassesFromGivenPackage(classNames, packageName, null);
+  }
+
+  /**
+   * Load the classes that belong to a given package, looking them up in a prebuilt index.
+   *
+   * @param packageIndex
+   *     The index of class names to pick from.
+   * @param packageName
+   *     The package to load.
+   * @param classDescriptorFilter
+   *     The filter to apply before loading, or null to load every class in the package.
+   * @return The loaded classes.
+   */
+  public static Set<Type> loadClassesFromGivenPackage(PackageIndex packageIndex, String packageName,
+                                                      ClassDescriptorFilter classDescriptorFilter) {
+    Set<Type> entries = new HashSet<Type>();
+    for (String entry : packageIndex.getClassNames(packageName)) {
+      Type entryClass = loadClass(entry, classDescriptorFilter);
+      if (entryClass != null)
+        entries.add(entryClass);
+    }
+    return entries;
+  }
+
+  /**
+   * Load the classes that belong to a given package, skipping the ones the filter excludes based on their class files.
+   *
+   * @param classNames
+   *     The fully qualified class names to pick from.
+   * @param packageName
+   *     The package to load.
+   * @param classDescriptorFilter
+   *     The filter to apply before loading, or null to load every class in the package.
+   * @return The loaded classes.
+   */
+  public static Set<Type> loadClassesFromGivenPackage(Set<String> classNames, String packageName,
+                                                      ClassDescriptorFilter classDescriptorFilter) {
     Set<Type> entries = new HashSet<Type>();
     for (String entry : classNames) {
       int endIndex = entry.lastIndexOf(Java.PACKAGE_DELIMITER);
@@ -50,7 +93,7 @@ public class Helper {
         entryPackageName = entry.substring(0, endIndex);
 
       if (entryPackageName.equals(packageName)) {
-        Type entryClass = ClassUtil.loadClass(entry, false);
+        Type entryClass = loadClass(entry, classDescriptorFilter);
         if (entryClass != null)
           entries.add(entryClass);
       }
@@ -58,6 +101,55 @@ public class Helper {
     return entries;
   }
 
+  private static Type loadClass(String className, ClassDescriptorFilter classDescriptorFilter) {
+    if (isExcluded(className, classDescriptorFilter)
+        || usesClassDescriptor(classDescriptorFilter)
+        && isExcluded(ByteCodeFactory.getClassDescriptor(className), classDescriptorFilter))
+      return null;
+    return ClassUtil.loadClass(className, false);
+  }
+
+  /**
+   * Class files are only read for filters that can decide from them, a chain only through the ClassDescriptorFilters
+   * it holds.
+   *
+   * @param classDescriptorFilter
+   *     The filter, or null.
+   * @return true if the filter may exclude a class based on its ClassDescriptor.
+   */
+  public static boolean usesClassDescriptor(ClassDescriptorFilter classDescriptorFilter) {
+    if (classDescriptorFilter instanceof FilterChain)
+      return ((FilterChain) classDescriptorFilter).hasClassDescriptorFilters();
+    return classDescriptorFilter != null;
+  }
+
+  /**
+   * A class is only excluded when its class file could be read and the filter rejected it.
+   *
+   * @param classDescriptor
+   *     The descriptor of the class, or null if its class file couldn't be read.
+   * @param classDescriptorFilter
+   *     The filter, or null.
+   * @return true if the class shouldn't be loaded.
+   */
+  public static boolean isExcluded(ClassDescriptor classDescriptor, ClassDescriptorFilter classDescriptorFilter) {
+    return classDescriptorFilter != null && classDescriptor != null && !classDescriptorFilter.include(classDescriptor);
+  }
+
+  /**
+   * Filters that are also {@link PojoClassNameFilter}s get to exclude a class by name, before its class file is read.
+   *
+   * @param className
+   *     The fully qualified name of the class.
+   * @param classDescriptorFilter
+   *     The filter, or null.
+   * @return true if the class shouldn't be loaded.
+   */
+  public static boolean isExcluded(String className, ClassDescriptorFilter classDescriptorFilter) {
+    return classDescriptorFilter instanceof PojoClassNameFilter
+        && !((PojoClassNameFilter) classDescriptorFilter).include(className);
+  }
+
   public static Set<String> getSubPackagesOfPackage(Set<String> classNames, String packageName) {
     Set<String> subPackages = new HashSet<String>();
     for (String entry : classNames) {
@@ -91,11 +183,11 @@ public class Helper {
       parentPackageNameAsPath = parentPackageName + Java.PACKAGE_DELIMITER;
 
     if (subPackageName.startsWith(parentPackageNameAsPath) && subPackageName.length() > parentPackageNameAsPath.length()) {
-      String[] subPackageTokens;
-      subPackageTokens = subPackageName.substring(parentPackageNameAsPath.length()).split("\\" + Java.PACKAGE_DELIMITER);
-      if (subPackageTokens.length > 0) {
-        return parentPackageNameAsPath + subPackageTokens[0];
-      }
+      int endIndex = subPackageName.indexOf(Java.PACKAGE_DELIMITER, parentPackageNameAsPath.length());
+      if (endIndex < 0)
+        return subPackageName;
+      if (endIndex > parentPackageNameAsPath.length())
+        return subPackageName.substring(0, endIndex);
     }
     return null;
   }
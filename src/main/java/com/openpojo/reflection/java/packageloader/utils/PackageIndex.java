@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.packageloader.utils;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.openpojo.reflection.java.Java;
+
+/**
+ * This index groups fully qualified class names by package, and packages by their parent package.
+ * It is built once from all the class names of a jar or class path, so that looking up the classes or the direct
+ * sub-packages of a package costs in proportion to the result rather than the total number of classes.
+ * <p>
+ * The class names are kept in a single array sorted by package then name, next to a sorted array of the distinct
+ * package names and the offset where each package starts, which is far smaller than a set per package for a full
+ * class path.
+ *
+ * @author oshoukry
+ */
+public final class PackageIndex {
+  private static final String ROOT_PACKAGE = "";
+  private static final String PACKAGE_DELIMITER = String.valueOf(Java.PACKAGE_DELIMITER);
+
+  private static final Comparator<String> BY_PACKAGE_THEN_NAME = new Comparator<String>() {
+    public int compare(String first, String second) {
+      int byPackage = getPackageName(first).compareTo(getPackageName(second));
+      return byPackage != 0 ? byPackage : first.compareTo(second);
+    }
+  };
+
+  private final String[] classNames;
+  private final String[] packageNames;
+  private final int[] packageOffsets;
+
+  public PackageIndex(final Collection<String> classNames) {
+    String[] sorted = classNames.toArray(new String[classNames.size()]);
+    Arrays.sort(sorted, BY_PACKAGE_THEN_NAME);
+    this.classNames = removeDuplicates(sorted);
+
+    String[] packages = new String[this.classNames.length];
+    int[] offsets = new int[this.classNames.length + 1];
+    int packageCount = 0;
+    for (int i = 0; i < this.classNames.length; i++) {
+      String packageName = getPackageName(this.classNames[i]);
+      if (packageCount == 0 || !packages[packageCount - 1].equals(packageName)) {
+        packages[packageCount] = packageName;
+        offsets[packageCount++] = i;
+      }
+    }
+    offsets[packageCount] = this.classNames.length;
+
+    packageNames = new String[packageCount];
+    System.arraycopy(packages, 0, packageNames, 0, packageCount);
+    packageOffsets = new int[packageCount + 1];
+    System.arraycopy(offsets, 0, packageOffsets, 0, packageCount + 1);
+  }
+
+  /**
+   * @param packageName
+   *     The package name, "" for the default package.
+   * @return The fully qualified names of the classes directly in the given package.
+   */
+  public Set<String> getClassNames(final String packageName) {
+    int index = Arrays.binarySearch(packageNames, normalize(packageName));
+    if (index < 0)
+      return Collections.emptySet();
+    return new ClassNameSet(packageOffsets[index], packageOffsets[index + 1]);
+  }
+
+  /**
+   * @return The fully qualified names of all the indexed classes.
+   */
+  public Set<String> getClassNames() {
+    return new ClassNameSet(0, classNames.length);
+  }
+
+  /**
+   * @param packageName
+   *     The package name, "" or null for the root.
+   * @return The fully qualified names of the direct sub-packages that hold classes somewhere underneath.
+   */
+  public Set<String> getSubPackages(final String packageName) {
+    String prefix = getPrefix(normalize(packageName));
+    Set<String> subPackages = new HashSet<String>();
+    for (int i = getInsertionPoint(prefix); i < packageNames.length && packageNames[i].startsWith(prefix); i++) {
+      if (packageNames[i].length() > prefix.length())
+        subPackages.add(Helper.getDirectSubPackageName(packageName, packageNames[i]));
+    }
+    return Collections.unmodifiableSet(subPackages);
+  }
+
+  /**
+   * @param packageName
+   *     The package name.
+   * @return true if any class is in the given package or one of its sub-packages.
+   */
+  public boolean hasPackage(final String packageName) {
+    String normalized = normalize(packageName);
+    if (normalized.length() == 0)
+      return false;
+    if (Arrays.binarySearch(packageNames, normalized) >= 0)
+      return true;
+    String prefix = getPrefix(normalized);
+    int index = getInsertionPoint(prefix);
+    return index < packageNames.length && packageNames[index].startsWith(prefix);
+  }
+
+  private int getInsertionPoint(final String packageName) {
+    int index = Arrays.binarySearch(packageNames, packageName);
+    return index >= 0 ? index : -(index + 1);
+  }
+
+  private static String getPrefix(final String packageName) {
+    return packageName.length() == 0 ? ROOT_PACKAGE : packageName + PACKAGE_DELIMITER;
+  }
+
+  private static String getPackageName(final String name) {
+    int endIndex = name.lastIndexOf(Java.PACKAGE_DELIMITER);
+    return endIndex > 0 ? name.substring(0, endIndex) : ROOT_PACKAGE;
+  }
+
+  private static String normalize(final String packageName) {
+    return packageName == null ? ROOT_PACKAGE : packageName;
+  }
+
+  private static String[] removeDuplicates(final String[] sorted) {
+    int count = 0;
+    for (int i = 0; i < sorted.length; i++) {
+      if (count == 0 || !sorted[count - 1].equals(sorted[i]))
+        sorted[count++] = sorted[i];
+    }
+    if (count == sorted.length)
+      return sorted;
+    String[] distinct = new String[count];
+    System.arraycopy(sorted, 0, distinct, 0, count);
+    return distinct;
+  }
+
+  /**
+   * A read only view over a range of the sorted class names.
+   */
+  private class ClassNameSet extends AbstractSet<String> {
+    private final int from;
+    private final int to;
+
+    private ClassNameSet(final int from, final int to) {
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+      return o instanceof String
+          && Arrays.binarySearch(classNames, from, to, (String) o, BY_PACKAGE_THEN_NAME) >= 0;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+      return new Iterator<String>() {
+        private int next = from;
+
+        public boolean hasNext() {
+          return next < to;
+        }
+
+        public String next() {
+          if (next >= to)
+            throw new NoSuchElementException();
+          return classNames[next++];
+        }
+
+        public void remove() {
+          throw new UnsupportedOperationException();
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return to - from;
+    }
+  }
+}
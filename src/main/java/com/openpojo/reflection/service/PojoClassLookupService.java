@@ -22,6 +22,7 @@ import java.util.List;
 
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.PojoClassVisitor;
 import com.openpojo.registry.Service;
 
 /**
@@ -42,4 +43,7 @@ public interface PojoClassLookupService extends Service {
 
   List<PojoClass> getPojoClassesRecursively(final String packageName, final PojoClassFilter pojoClassFilter);
 
+  void forEachPojoClassRecursively(final String packageName, final PojoClassFilter pojoClassFilter,
+                                   final PojoClassVisitor pojoClassVisitor);
+
 }
@@ -18,22 +18,41 @@
 
 package com.openpojo.reflection.service.impl;
 
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.openpojo.log.LoggerFactory;
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.PojoClassVisitor;
+import com.openpojo.reflection.PojoElement;
+import com.openpojo.reflection.PojoMethod;
 import com.openpojo.reflection.PojoPackage;
 import com.openpojo.reflection.cache.PojoCache;
+import com.openpojo.reflection.coverage.service.PojoCoverageFilterService;
+import com.openpojo.reflection.coverage.service.impl.DefaultPojoCoverageFilterService;
+import com.openpojo.reflection.exception.ReflectionException;
 import com.openpojo.reflection.filters.FilterBasedOnInheritance;
 import com.openpojo.reflection.filters.FilterChain;
 import com.openpojo.reflection.impl.PojoClassImpl;
+import com.openpojo.reflection.impl.PojoClassSnapshot;
 import com.openpojo.reflection.impl.PojoFieldFactory;
 import com.openpojo.reflection.impl.PojoMethodFactory;
 import com.openpojo.reflection.impl.PojoPackageFactory;
+import com.openpojo.reflection.java.packageloader.reader.ClassPathIndexFile;
 import com.openpojo.reflection.service.PojoClassLookupService;
 import com.openpojo.registry.Service;
 import com.openpojo.registry.ServiceRegistrar;
@@ -44,8 +63,81 @@ import static com.openpojo.reflection.java.bytecode.asm.SubClassDefinition.GENER
  * @author oshoukry
  */
 public class DefaultPojoClassLookupService implements Service, PojoClassLookupService {
+  /**
+   * System property holding the number of threads to scan packages recursively with, unset to scan on the calling
+   * thread only.
+   */
+  public static final String SCAN_THREADS_PROPERTY = "openpojo.scan.threads";
+  public static final int DEFAULT_MAX_PENDING_SCANS = 64;
+
+  private static volatile ExecutorService scanExecutor;
+  private static volatile int maxPendingScans = DEFAULT_MAX_PENDING_SCANS;
+  private static ExecutorService ownedScanExecutor;
 
   public DefaultPojoClassLookupService() {
+    final String snapshotFile = System.getProperty(PojoClassSnapshot.SNAPSHOT_FILE_PROPERTY);
+    if (snapshotFile != null && !PojoClassSnapshot.isOpen())
+      PojoClassSnapshot.open(new File(snapshotFile));
+
+    final String classPathIndexFile = System.getProperty(ClassPathIndexFile.INDEX_FILE_PROPERTY);
+    if (classPathIndexFile != null && !ClassPathIndexFile.isOpen())
+      ClassPathIndexFile.open(new File(classPathIndexFile));
+
+    final String scanThreads = System.getProperty(SCAN_THREADS_PROPERTY);
+    if (scanThreads != null && scanExecutor == null)
+      setScanThreads(Integer.parseInt(scanThreads.trim()));
+  }
+
+  /**
+   * Scan packages recursively on the given executor, each package is listed and its classes introspected in a task of
+   * its own.
+   * The executor isn't shut down by OpenPojo.
+   *
+   * @param executorService
+   *     The executor to scan on, or null to scan on the calling thread only (default).
+   */
+  public static synchronized void setScanExecutor(final ExecutorService executorService) {
+    final ExecutorService previous = scanExecutor;
+    scanExecutor = executorService;
+    if (previous != null && previous == ownedScanExecutor && previous != executorService) {
+      ownedScanExecutor = null;
+      previous.shutdown();
+    }
+  }
+
+  public static ExecutorService getScanExecutor() {
+    return scanExecutor;
+  }
+
+  /**
+   * Scan packages recursively on a pool of daemon threads, owned and shut down by OpenPojo when replaced.
+   *
+   * @param threads
+   *     The number of threads, 1 or less to scan on the calling thread only.
+   */
+  public static synchronized void setScanThreads(final int threads) {
+    if (threads <= 1) {
+      setScanExecutor(null);
+    } else {
+      final ExecutorService executorService = Executors.newFixedThreadPool(threads, new ScanThreadFactory());
+      setScanExecutor(executorService);
+      ownedScanExecutor = executorService;
+    }
+  }
+
+  /**
+   * Bound the number of packages handed to the scan executor and not yet visited, sub-packages are only submitted as
+   * scanned packages are visited, so a slow visitor doesn't have the whole package tree scanned and held in memory.
+   *
+   * @param maxPendingScans
+   *     The most package scans pending at a time, at least 1.
+   */
+  public static void setMaxPendingScans(final int maxPendingScans) {
+    DefaultPojoClassLookupService.maxPendingScans = Math.max(1, maxPendingScans);
+  }
+
+  public static int getMaxPendingScans() {
+    return maxPendingScans;
   }
 
   public String getName() {
@@ -61,21 +153,42 @@ public class DefaultPojoClassLookupService implements Service, PojoClassLookupSe
   }
 
   public PojoClass getPojoClass(final Class<?> clazz) {
-    PojoClass pojoClass = PojoCache.getPojoClass(clazz.getName());
+    PojoClass pojoClass = PojoCache.getPojoClass(clazz);
     if (pojoClass == null) {
       try {
-        pojoClass = new PojoClassImpl(clazz, PojoFieldFactory.getPojoFields(clazz), PojoMethodFactory.getPojoMethods(clazz));
-        pojoClass = ServiceRegistrar.getInstance().getPojoCoverageFilterService().adapt(pojoClass);
+        final PojoCoverageFilterService pojoCoverageFilterService = ServiceRegistrar.getInstance()
+            .getPojoCoverageFilterService();
+        if (pojoCoverageFilterService instanceof DefaultPojoCoverageFilterService) {
+          // default coverage adapters only strip members, defer both introspection and adaptation to first access.
+          linkDeclaredMembers(clazz);
+          pojoClass = new PojoClassImpl(clazz, pojoCoverageFilterService);
+        } else {
+          final List<PojoMethod> pojoMethods = PojoMethodFactory.getPojoMethods(clazz);
+          pojoClass = new PojoClassImpl(clazz, PojoFieldFactory.getPojoFields(clazz, pojoMethods), pojoMethods);
+          pojoClass = pojoCoverageFilterService.adapt(pojoClass);
+        }
       } catch (LinkageError le) {
         if (clazz.getName().endsWith(GENERATED_CLASS_POSTFIX))
           throw le;
         LoggerFactory.getLogger(this.getClass()).warn("Failed to load class [{0}], exception [{1}]", clazz, le);
       }
-      PojoCache.addPojoClass(clazz.getName(), pojoClass);
+      // another thread may have introspected the same class meanwhile, keep to the one PojoClass cached first.
+      pojoClass = PojoCache.addPojoClassIfAbsent(clazz, pojoClass);
     }
     return pojoClass;
   }
 
+  /**
+   * Have the JVM link the class and resolve its declared members, so classes that fail to link are still reported
+   * here rather than on first access to the (lazily built) fields and methods.
+   * The JVM caches these, the lazy introspection later reuses them.
+   */
+  private static void linkDeclaredMembers(final Class<?> clazz) {
+    clazz.getDeclaredFields();
+    clazz.getDeclaredMethods();
+    clazz.getDeclaredConstructors();
+  }
+
   public List<PojoClass> getPojoClasses(final String packageName) {
     return getPojoClasses(packageName, null);
   }
@@ -86,22 +199,138 @@ public class DefaultPojoClassLookupService implements Service, PojoClassLookupSe
 
   public List<PojoClass> getPojoClassesRecursively(final String packageName, final PojoClassFilter pojoClassFilter) {
     final List<PojoClass> pojoClasses = new LinkedList<PojoClass>();
-    final PojoClassFilter finalFilterChain = getFinalFilterChain(pojoClassFilter);
+    forEachPojoClassRecursively(packageName, pojoClassFilter, new PojoClassVisitor() {
+      public void visit(final PojoClass pojoClass) {
+        pojoClasses.add(pojoClass);
+      }
+    });
+    return pojoClasses;
+  }
 
+  public void forEachPojoClassRecursively(final String packageName, final PojoClassFilter pojoClassFilter,
+                                          final PojoClassVisitor pojoClassVisitor) {
+    final PojoClassFilter finalFilterChain = getFinalFilterChain(pojoClassFilter);
     final PojoPackage pojoPackage = PojoPackageFactory.getPojoPackage(packageName);
 
+    final ExecutorService executorService = scanExecutor;
+    if (executorService != null) {
+      forEachPojoClassRecursively(pojoPackage, finalFilterChain, pojoClassVisitor, executorService);
+      return;
+    }
+
     Queue<PojoPackage> pending = new ConcurrentLinkedQueue<PojoPackage>();
     pending.add(pojoPackage);
 
     while (!pending.isEmpty()) {
       final PojoPackage entry = pending.remove();
-      pending.addAll(entry.getPojoSubPackages());
-      pojoClasses.addAll(entry.getPojoClasses(finalFilterChain));
+      pending.addAll(sortByName(entry.getPojoSubPackages()));
+      visitAll(sortByName(entry.getPojoClasses(finalFilterChain)), pojoClassVisitor);
     }
-    return pojoClasses;
+  }
+
+  /**
+   * Packages are scanned concurrently, but their results are visited in the same breadth first, by name, order the
+   * serial scan uses, so both visit the classes in the same order.
+   * At most {@link #getMaxPendingScans()} packages are submitted ahead of the one being visited.
+   */
+  private void forEachPojoClassRecursively(final PojoPackage pojoPackage, final PojoClassFilter pojoClassFilter,
+                                           final PojoClassVisitor pojoClassVisitor,
+                                           final ExecutorService executorService) {
+    final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+    final int maxPending = maxPendingScans;
+
+    final Queue<PojoPackage> unscanned = new LinkedList<PojoPackage>();
+    final Queue<Future<PackageScan>> pending = new LinkedList<Future<PackageScan>>();
+    pending.add(executorService.submit(new PackageScan(pojoPackage, pojoClassFilter, contextClassLoader)));
+
+    while (!pending.isEmpty()) {
+      final PackageScan packageScan = getResult(pending.remove(), pojoPackage);
+      unscanned.addAll(packageScan.subPackages);
+      // keep the executor busy with the packages next in line while this one is visited.
+      while (pending.size() < maxPending && !unscanned.isEmpty())
+        pending.add(executorService.submit(new PackageScan(unscanned.remove(), pojoClassFilter, contextClassLoader)));
+      visitAll(packageScan.pojoClasses, pojoClassVisitor);
+    }
+  }
+
+  private static void visitAll(final List<PojoClass> pojoClasses, final PojoClassVisitor pojoClassVisitor) {
+    for (final PojoClass pojoClass : pojoClasses)
+      pojoClassVisitor.visit(pojoClass);
+  }
+
+  private static PackageScan getResult(final Future<PackageScan> future, final PojoPackage pojoPackage) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw ReflectionException.getInstance("Interrupted while scanning package [" + pojoPackage.getName() + "]", e);
+    } catch (ExecutionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException)
+        throw (RuntimeException) cause;
+      if (cause instanceof Error)
+        throw (Error) cause;
+      throw ReflectionException.getInstance("Failed to scan package [" + pojoPackage.getName() + "]", cause);
+    }
+  }
+
+  /**
+   * Packages and their classes are listed in no particular order, sort them so recursive scans are repeatable.
+   */
+  private static <T extends PojoElement> List<T> sortByName(final List<T> elements) {
+    final List<T> pojoElements = new ArrayList<T>(elements);
+    Collections.sort(pojoElements, new Comparator<T>() {
+      public int compare(T first, T second) {
+        return first.getName().compareTo(second.getName());
+      }
+    });
+    return pojoElements;
   }
 
   private PojoClassFilter getFinalFilterChain(PojoClassFilter pojoClassFilter) {
     return new FilterChain(pojoClassFilter, ServiceRegistrar.getInstance().getPojoCoverageFilterService());
   }
+
+  /**
+   * Lists one package's sub-packages and introspects its classes.
+   * Tasks never wait on one another, so any executor size works.
+   */
+  private static class PackageScan implements Callable<PackageScan> {
+    private final PojoPackage pojoPackage;
+    private final PojoClassFilter pojoClassFilter;
+    private final ClassLoader contextClassLoader;
+    private List<PojoPackage> subPackages;
+    private List<PojoClass> pojoClasses;
+
+    private PackageScan(final PojoPackage pojoPackage, final PojoClassFilter pojoClassFilter,
+                        final ClassLoader contextClassLoader) {
+      this.pojoPackage = pojoPackage;
+      this.pojoClassFilter = pojoClassFilter;
+      this.contextClassLoader = contextClassLoader;
+    }
+
+    public PackageScan call() {
+      // packages and classes are looked up through the context class loader, use the caller's.
+      final Thread thread = Thread.currentThread();
+      final ClassLoader original = thread.getContextClassLoader();
+      thread.setContextClassLoader(contextClassLoader);
+      try {
+        subPackages = sortByName(pojoPackage.getPojoSubPackages());
+        pojoClasses = sortByName(pojoPackage.getPojoClasses(pojoClassFilter));
+        return this;
+      } finally {
+        thread.setContextClassLoader(original);
+      }
+    }
+  }
+
+  private static class ScanThreadFactory implements ThreadFactory {
+    private final AtomicInteger count = new AtomicInteger();
+
+    public Thread newThread(final Runnable runnable) {
+      final Thread thread = new Thread(runnable, "openpojo-scan-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
 }
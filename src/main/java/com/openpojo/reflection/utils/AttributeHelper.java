@@ -20,6 +20,7 @@ package com.openpojo.reflection.utils;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -67,6 +68,13 @@ public class AttributeHelper {
     fieldPrefixes.clear();
   }
 
+  /**
+   * @return the registered prefixes, in registration order.
+   */
+  public static Set<String> getFieldPrefixes() {
+    return Collections.unmodifiableSet(fieldPrefixes);
+  }
+
   public static List<String> getFieldNameVariations(final Field field) {
     List<String> fieldNameVariations = new ArrayList<String>();
     fieldNameVariations.add(formattedFieldName(field.getName()));
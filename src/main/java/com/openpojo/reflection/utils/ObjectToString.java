@@ -26,24 +26,16 @@ import java.util.Arrays;
 public class ObjectToString {
 
   public static String toString(Object o) {
-    return getHandler(o).toString(o);
-  }
-
-  private static ObjectToStringHandler getHandler(Object o) {
     if (o == null)
-      return new ObjectToStringHandler() {
-        public String toString(Object o) {
-          return null;
-        }
-      };
+      return null;
 
     if (!o.getClass().isArray())
-      return new ObjectToStringHandler() {
-        public String toString(Object o) {
-          return o.toString();
-        }
-      };
+      return o.toString();
 
+    return getHandler(o).toString(o);
+  }
+
+  private static ObjectToStringHandler getHandler(Object o) {
     // Array handling
     // Since Java has no way of auto-boxing an array of primitives, each must be examined independently.
     Class<?> componentType = o.getClass().getComponentType();
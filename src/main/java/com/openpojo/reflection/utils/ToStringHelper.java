@@ -29,9 +29,11 @@ import com.openpojo.reflection.PojoField;
  * @author oshoukry
  */
 public final class ToStringHelper {
-  private static final String NAME_VALUE_TOKEN_FORMAT = "%s=%s";
+  private static final String NAME_VALUE_SEPARATOR = "=";
   private static final String LIST_TOKEN_SEPARATOR = ", ";
-  private static final String POJO_CLASS_TO_STRING_FORMAT = "%s [@%s: %s]";
+  private static final String IDENTITY_PREFIX = " [@";
+  private static final String IDENTITY_SUFFIX = ": ";
+  private static final char POJO_CLASS_SUFFIX = ']';
 
   /**
    * This method formats name value pairs into the proper string format.
@@ -43,8 +45,11 @@ public final class ToStringHelper {
    * @return String formatted, human readable name/value pair.
    */
   public static String nameValuePair(final Object name, final Object value) {
-    String valueString = ObjectToString.toString(value);
-    return String.format(NAME_VALUE_TOKEN_FORMAT, name, valueString);
+    return new StringBuilder()
+        .append(name)
+        .append(NAME_VALUE_SEPARATOR)
+        .append(ObjectToString.toString(value))
+        .toString();
   }
 
   /**
@@ -58,30 +63,69 @@ public final class ToStringHelper {
    */
 
   public static String pojoClassToString(final PojoClass pojoClass, final Object instance) {
-    return String.format(POJO_CLASS_TO_STRING_FORMAT,
-        pojoClass.getName(),
-        Integer.toHexString(System.identityHashCode(instance)),
-        PojoFieldsToString(pojoClass.getPojoFields(), instance));
+    final StringBuilder builder = appendPojoClassHeader(new StringBuilder(), pojoClass.getName(), instance);
+    appendPojoFields(builder, pojoClass.getPojoFields(), instance);
+    return appendPojoClassFooter(builder).toString();
   }
 
   /**
-   * This method takes a list of PojoFields and turns them into token separated name-value pairs.
+   * Append what a {@link #pojoClassToString(PojoClass, Object)} rendering starts with, the class name and the
+   * identity of the instance.
    *
+   * @param builder
+   *     The builder to append to.
+   * @param className
+   *     The name of the class.
+   * @param instance
+   *     The instance being rendered.
+   * @return the builder.
+   */
+  public static StringBuilder appendPojoClassHeader(final StringBuilder builder, final String className,
+                                                    final Object instance) {
+    return builder.append(className)
+        .append(IDENTITY_PREFIX)
+        .append(Integer.toHexString(System.identityHashCode(instance)))
+        .append(IDENTITY_SUFFIX);
+  }
+
+  /**
+   * @param index
+   *     The position of the field in the rendering.
+   * @param fieldName
+   *     The name of the field.
+   * @return what a {@link #pojoClassToString(PojoClass, Object)} rendering writes before the value of a field.
+   */
+  public static String getFieldPrefix(final int index, final String fieldName) {
+    return (index > 0 ? LIST_TOKEN_SEPARATOR : "") + fieldName + NAME_VALUE_SEPARATOR;
+  }
+
+  /**
+   * Append what a {@link #pojoClassToString(PojoClass, Object)} rendering ends with.
+   *
+   * @param builder
+   *     The builder to append to.
+   * @return the builder.
+   */
+  public static StringBuilder appendPojoClassFooter(final StringBuilder builder) {
+    return builder.append(POJO_CLASS_SUFFIX);
+  }
+
+  /**
+   * This method takes a list of PojoFields and appends them as token separated name-value pairs.
+   *
+   * @param builder
+   *     The builder to append to.
    * @param pojoFields
    *     The list of pojoFields to render.
    * @param instance
    *     The object instance to get the values out of.
-   * @return String formatted, human readable list of pojoFields.
    */
-  private static String PojoFieldsToString(final List<PojoField> pojoFields, final Object instance) {
-    String pojoString = "";
+  private static void appendPojoFields(final StringBuilder builder, final List<PojoField> pojoFields, final Object instance) {
     for (int index = 0; index < pojoFields.size(); index++) {
-      pojoString += pojoFields.get(index).toString(instance);
-      if (index < pojoFields.size() - 1) {
-        pojoString += LIST_TOKEN_SEPARATOR;
-      }
+      final PojoField pojoField = pojoFields.get(index);
+      builder.append(getFieldPrefix(index, pojoField.getName()))
+          .append(ObjectToString.toString(pojoField.get(instance)));
     }
-    return pojoString;
   }
 
   private ToStringHelper() {
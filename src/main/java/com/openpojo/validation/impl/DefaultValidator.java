@@ -20,9 +20,11 @@ package com.openpojo.validation.impl;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.PojoClassVisitor;
 import com.openpojo.reflection.filters.FilterChain;
 import com.openpojo.reflection.impl.PojoClassFactory;
 import com.openpojo.validation.Validator;
@@ -58,10 +60,42 @@ public class DefaultValidator implements Validator {
     return pojoClasses;
   }
 
+  /**
+   * Classes are validated as their packages are scanned, rather than once every package was scanned.
+   */
   public List<PojoClass> validateRecursively(String packageName, PojoClassFilter... filters) {
     PojoClassFilter pojoClassFilter = new FilterChain(filters);
-    List<PojoClass> pojoClasses = PojoClassFactory.getPojoClassesRecursively(packageName, pojoClassFilter);
-    validate(pojoClasses);
+    final List<PojoClass> pojoClasses = new LinkedList<PojoClass>();
+    PojoClassFactory.forEachPojoClassRecursively(packageName, pojoClassFilter, new PojoClassVisitor() {
+      public void visit(PojoClass pojoClass) {
+        validate(pojoClass);
+        pojoClasses.add(pojoClass);
+      }
+    });
     return pojoClasses;
   }
+
+  /**
+   * Validate for a given package and all its sub-packages with a given filter, same as
+   * {@link #validateRecursively(String, PojoClassFilter...)} but without collecting the validated PojoClasses, so
+   * validating very large code bases doesn't hold on to every class validated.
+   *
+   * @param packageName
+   *     The package name to run the validation against.
+   * @param filters
+   *     The filter(s) to be used for filtering which classes are to be included in the validation.
+   *
+   * @return the number of PojoClasses that were validated.
+   */
+  public int validateEachRecursively(String packageName, PojoClassFilter... filters) {
+    PojoClassFilter pojoClassFilter = new FilterChain(filters);
+    final AtomicInteger validated = new AtomicInteger();
+    PojoClassFactory.forEachPojoClassRecursively(packageName, pojoClassFilter, new PojoClassVisitor() {
+      public void visit(PojoClass pojoClass) {
+        validate(pojoClass);
+        validated.incrementAndGet();
+      }
+    });
+    return validated.get();
+  }
 }
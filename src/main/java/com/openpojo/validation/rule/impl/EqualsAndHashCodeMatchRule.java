@@ -46,14 +46,14 @@ public class EqualsAndHashCodeMatchRule implements Rule {
 
   private boolean hasHashCode(PojoClass pojoClass) {
     for (PojoMethod method : pojoClass.getPojoMethods())
-      if (method.getName().equals("hashCode") && method.getPojoParameters().size() == 0)
+      if (method.getName().equals("hashCode") && method.getParameterCount() == 0)
         return true;
     return false;
   }
 
   private boolean hasEquals(PojoClass pojoClass) {
     for (PojoMethod method : pojoClass.getPojoMethods())
-      if (method.getName().equals("equals") && method.getPojoParameters().size() == 1)
+      if (method.getName().equals("equals") && method.getParameterCount() == 1)
         return true;
     return false;
   }
@@ -20,7 +20,6 @@ package com.openpojo.validation.rule.impl;
 
 import java.io.Serializable;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 
 import com.openpojo.log.utils.MessageFormatter;
@@ -59,19 +58,11 @@ public class NoFieldShadowingRule implements Rule {
   }
 
   public void evaluate(final PojoClass pojoClass) {
-    final List<PojoField> parentPojoFields = new LinkedList<PojoField>();
-    PojoClass parentPojoClass = pojoClass.getSuperClass();
-    while (parentPojoClass != null) {
-      parentPojoFields.addAll(parentPojoClass.getPojoFields());
-      parentPojoClass = parentPojoClass.getSuperClass();
-    }
-
-    final List<PojoField> childPojoFields = pojoClass.getPojoFields();
-    for (final PojoField childPojoField : childPojoFields) {
+    for (final PojoField childPojoField : pojoClass.getPojoFields()) {
       if (!childPojoField.isSynthetic() && !isSerializable(childPojoField, pojoClass) && !inSkipList(childPojoField))
-        if (contains(childPojoField.getName(), parentPojoFields))
+        if (pojoClass.getAllPojoFieldsByName(childPojoField.getName()).size() > 1)
           Affirm.fail(MessageFormatter.format("Field=[{0}] shadows field with the same name in parent class=[{1}]",
-              childPojoField, parentPojoFields));
+              childPojoField, pojoClass.getSuperClass().getAllPojoFields()));
     }
 
   }
@@ -90,13 +81,4 @@ public class NoFieldShadowingRule implements Rule {
         && field.getType().equals(SERIAL_VERSION_UID_FIELD_TYPE);
   }
 
-  private boolean contains(final String fieldName, final List<PojoField> pojoFields) {
-    for (final PojoField pojoField : pojoFields) {
-      if (pojoField.getName().equals(fieldName)) {
-        return true;
-      }
-    }
-    return false;
-  }
-
 }
@@ -76,22 +76,18 @@ public class SerializableTester implements Tester {
   }
 
   private void ensureNoFieldsAreNull(PojoClass pojoClass, Object instance) {
-    PojoClass currentPojo = pojoClass;
-    while (currentPojo != null) {
-      for (PojoField field : currentPojo.getPojoFields()) {
-        PojoClass fieldClass = PojoClassFactory.getPojoClass(field.getType());
-        if (useStrictValidation && !fieldClass.extendz(Serializable.class) && fieldClass.isInterface() && !field.isTransient()) {
-          Affirm.fail("Field ["
-                  + field.getName()
-                  + "] is an interface that allows non-Serializable types on a Serializable ["
-                  + pojoClass.getClazz()
-                  + "]"
-              );
-        }
-        if (field.get(instance) == null)
-          field.set(instance, RandomFactory.getRandomValue(field));
+    for (PojoField field : pojoClass.getAllPojoFields()) {
+      PojoClass fieldClass = PojoClassFactory.getPojoClass(field.getType());
+      if (useStrictValidation && !fieldClass.extendz(Serializable.class) && fieldClass.isInterface() && !field.isTransient()) {
+        Affirm.fail("Field ["
+                + field.getName()
+                + "] is an interface that allows non-Serializable types on a Serializable ["
+                + pojoClass.getClazz()
+                + "]"
+            );
       }
-      currentPojo = currentPojo.getSuperClass();
+      if (field.get(instance) == null)
+        field.set(instance, RandomFactory.getRandomValue(field));
     }
   }
 
@@ -38,11 +38,17 @@ import org.junit.Test;
 
 import static com.openpojo.reflection.impl.PojoClassFactory.getPojoClass;
 import static com.openpojo.reflection.impl.PojoClassFactory.getPojoClassesRecursively;
+import static com.openpojo.validation.rule.impl.TestClassMustBeProperlyNamedRule.DEFAULT_ANNOTATIONS;
+import static com.openpojo.validation.rule.impl.TestClassMustBeProperlyNamedRule.DEFAULT_PREFIX_TOKENS;
 
 /**
  * @author oshoukry
  */
 public class StructuralTest {
+  /**
+   * Benchmarks only run with the benchmark profile (mvn test -Pbenchmark).
+   */
+  private static final String[] TEST_SUFFIX_TOKENS = { "Test", "TestCase", "Benchmark" };
   private static final Class<?>[] NON_INSTANTIABLES = new Class<?>[] {
       com.openpojo.reflection.PojoParameter.class
       ,com.openpojo.random.RandomFactory.class
@@ -53,6 +59,7 @@ public class StructuralTest {
       ,com.openpojo.reflection.impl.PojoParameterFactory.class
       ,com.openpojo.reflection.impl.ParameterizableFactory.class
       ,com.openpojo.reflection.impl.PojoFieldFactory.class
+      ,com.openpojo.reflection.impl.PojoClassSnapshot.class
       ,com.openpojo.reflection.impl.PojoClassFactory.class
       ,com.openpojo.reflection.impl.PojoPackageFactory.class
       ,com.openpojo.reflection.cache.PojoCache.class
@@ -81,7 +88,13 @@ public class StructuralTest {
       ,com.openpojo.random.map.util.MapHelper.class
       ,com.openpojo.random.collection.util.CollectionHelper.class
       ,com.openpojo.reflection.java.bytecode.asm.ClassReaderFactory.class
+      ,com.openpojo.reflection.java.bytecode.asm.BoxingHelper.class
+      ,com.openpojo.reflection.java.bytecode.asm.IndexedClassHelper.class
+      ,com.openpojo.reflection.java.invoke.InvokerFactory.class
       ,com.openpojo.reflection.java.packageloader.utils.Helper.class
+      ,com.openpojo.reflection.java.packageloader.PackageLoaderCache.class
+      ,com.openpojo.reflection.java.packageloader.reader.JarFileReaderPool.class
+      ,com.openpojo.reflection.java.packageloader.reader.ClassPathIndexFile.class
       ,com.openpojo.random.generator.time.util.ReflectionHelper.class
       ,com.openpojo.validation.affirm.Affirm.class
   };
@@ -91,7 +104,8 @@ public class StructuralTest {
   @Before
   public void setup() {
     validator = ValidatorBuilder.create()
-        .with(new TestClassMustBeProperlyNamedRule())
+        .with(new TestClassMustBeProperlyNamedRule(Arrays.asList(DEFAULT_PREFIX_TOKENS),
+            Arrays.asList(TEST_SUFFIX_TOKENS), Arrays.asList(DEFAULT_ANNOTATIONS)))
         .build();
   }
 
@@ -20,6 +20,7 @@ package com.openpojo.cache;
 
 import java.util.List;
 
+import com.openpojo.cache.impl.ConcurrentClassCacheStorage;
 import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoMethod;
 import com.openpojo.reflection.exception.ReflectionException;
@@ -70,4 +71,21 @@ public class CacheStorageFactoryTest {
     System.gc();
     Assert.assertEquals(expectedValue, keyValuePairCache.get(expectedKey));
   }
+
+  @Test
+  public void shouldReturnTemporalClassCache() {
+    ClassCacheStorage<String> classCache = CacheStorageFactory.getTemporalClassCacheStorage();
+    Assert.assertTrue(classCache instanceof ConcurrentClassCacheStorage);
+    classCache.add(String.class, "SomeValue");
+    Assert.assertEquals("SomeValue", classCache.get(String.class));
+  }
+
+  @Test
+  public void shouldReturnPersistentClassCache() {
+    ClassCacheStorage<String> classCache = CacheStorageFactory.getPersistentClassCacheStorage();
+    Assert.assertTrue(classCache instanceof ConcurrentClassCacheStorage);
+    classCache.add(String.class, "SomeValue");
+    System.gc();
+    Assert.assertEquals("SomeValue", classCache.get(String.class));
+  }
 }
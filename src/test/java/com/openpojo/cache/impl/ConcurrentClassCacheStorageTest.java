@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.cache.impl;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import com.openpojo.cache.ClassCacheStorage;
+import com.openpojo.reflection.impl.sample.classes.AClassWithFields;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class ConcurrentClassCacheStorageTest {
+
+  @Test
+  public void canAddAndGetItemAndCountHitsAndMisses() {
+    for (boolean softValues : new boolean[] { true, false }) {
+      ClassCacheStorage<String> cache = new ConcurrentClassCacheStorage<String>(softValues);
+      Assert.assertNull(cache.get(String.class));
+
+      cache.add(String.class, "value");
+      Assert.assertEquals("value", cache.get(String.class));
+      Assert.assertEquals("value", cache.get(String.class));
+
+      Assert.assertEquals(2, cache.getStatistics().getHitCount());
+      Assert.assertEquals(1, cache.getStatistics().getMissCount());
+      Assert.assertEquals(0, cache.getStatistics().getEvictionCount());
+    }
+  }
+
+  @Test
+  public void addIfAbsentShouldKeepFirstValue() {
+    for (boolean softValues : new boolean[] { true, false }) {
+      ClassCacheStorage<String> cache = new ConcurrentClassCacheStorage<String>(softValues);
+      Assert.assertEquals("first", cache.addIfAbsent(String.class, "first"));
+      Assert.assertEquals("first", cache.addIfAbsent(String.class, "second"));
+      Assert.assertEquals("first", cache.get(String.class));
+      Assert.assertNull(cache.addIfAbsent(Integer.class, null));
+      Assert.assertNull(cache.get(Integer.class));
+    }
+  }
+
+  @Test
+  public void canClear() {
+    ClassCacheStorage<String> cache = new ConcurrentClassCacheStorage<String>(true);
+    cache.add(String.class, "value");
+    cache.clear();
+    Assert.assertNull(cache.get(String.class));
+  }
+
+  @Test
+  public void nullValuesShouldNotBeCached() {
+    ClassCacheStorage<String> cache = new ConcurrentClassCacheStorage<String>(false);
+    cache.add(String.class, null);
+    Assert.assertNull(cache.get(String.class));
+    Assert.assertEquals(1, cache.getStatistics().getMissCount());
+  }
+
+  @Test
+  public void addingNullShouldRemoveCachedValue() {
+    ClassCacheStorage<String> cache = new ConcurrentClassCacheStorage<String>(false);
+    cache.add(String.class, "value");
+    cache.add(Integer.class, "other");
+    cache.add(String.class, null);
+    Assert.assertNull(cache.get(String.class));
+    Assert.assertEquals("other", cache.get(Integer.class));
+  }
+
+  @Test
+  public void classesWithSameNameFromDifferentClassLoadersShouldNotCollide() throws Exception {
+    ClassCacheStorage<String> cache = new ConcurrentClassCacheStorage<String>(false);
+    Class<?> isolatedClass = loadInIsolation(AClassWithFields.class);
+    Assert.assertEquals(AClassWithFields.class.getName(), isolatedClass.getName());
+    Assert.assertNotSame(AClassWithFields.class, isolatedClass);
+
+    cache.add(AClassWithFields.class, "default");
+    cache.add(isolatedClass, "isolated");
+
+    Assert.assertEquals("default", cache.get(AClassWithFields.class));
+    Assert.assertEquals("isolated", cache.get(isolatedClass));
+  }
+
+  @Test
+  public void unloadedClassesShouldBeEvicted() throws Exception {
+    ClassCacheStorage<String> cache = new ConcurrentClassCacheStorage<String>(false);
+    cache.add(loadInIsolation(AClassWithFields.class), "isolated");
+
+    for (int i = 0; i < 10 && cache.getStatistics().getEvictionCount() == 0; i++) {
+      System.gc();
+      Thread.sleep(10);
+      cache.get(String.class);
+    }
+    Assert.assertEquals(1, cache.getStatistics().getEvictionCount());
+  }
+
+  private static Class<?> loadInIsolation(Class<?> clazz) throws Exception {
+    URL location = clazz.getProtectionDomain().getCodeSource().getLocation();
+    return new URLClassLoader(new URL[] { location }, null).loadClass(clazz.getName());
+  }
+}
@@ -127,6 +127,36 @@ public class DefaultRandomGeneratorServiceTest {
 
   }
 
+  @Test
+  public void shouldReuseResolvedRandomGeneratorForAssignableType() {
+    final DummyRandomGenerator dummyRandomGenerator = new DummyRandomGenerator();
+    dummyRandomGenerator.setTypes(new Class<?>[] { LinkedList.class });
+    defaultRandomGeneratorService.registerRandomGenerator(dummyRandomGenerator);
+
+    final RandomGenerator resolved = defaultRandomGeneratorService.getRandomGeneratorByType(List.class);
+    Affirm.affirmTrue("Resolved random generator should be an adapter", resolved instanceof RandomGeneratorAdapter);
+    Affirm.affirmTrue("Resolved random generator should be reused",
+        resolved == defaultRandomGeneratorService.getRandomGeneratorByType(List.class));
+  }
+
+  @Test
+  public void shouldResolveAgainOnceRandomGeneratorRegistered() {
+    Affirm.affirmNull("Should fall back to default random generator",
+        defaultRandomGeneratorService.getRandomGeneratorByType(List.class));
+
+    final RandomGenerator defaultRandomGenerator = RandomFactory.getRandomValue(RandomGenerator.class);
+    defaultRandomGeneratorService.setDefaultRandomGenerator(defaultRandomGenerator);
+    Affirm.affirmEquals("Should use the current default random generator", defaultRandomGenerator,
+        defaultRandomGeneratorService.getRandomGeneratorByType(List.class));
+
+    final DummyRandomGenerator dummyRandomGenerator = new DummyRandomGenerator();
+    dummyRandomGenerator.setTypes(new Class<?>[] { LinkedList.class });
+    defaultRandomGeneratorService.registerRandomGenerator(dummyRandomGenerator);
+
+    defaultRandomGeneratorService.getRandomGeneratorByType(List.class).doGenerate(List.class);
+    Affirm.affirmEquals("Newly registered random generator should be used", 1, dummyRandomGenerator.getCounter());
+  }
+
   private class DummyRandomGenerator implements RandomGenerator {
     private Class<?>[] types;
     private int counter = 0;
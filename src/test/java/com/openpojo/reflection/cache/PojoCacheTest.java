@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.cache;
+
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.impl.PojoClassFactory;
+import com.openpojo.reflection.impl.sample.classes.AClassWithFields;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class PojoCacheTest {
+
+  @After
+  public void teardown() {
+    PojoCache.setPersistent(false);
+  }
+
+  @Test
+  public void shouldCountHitsForRepeatedLookups() {
+    PojoCache.setPersistent(true);
+    Assert.assertTrue(PojoCache.isPersistent());
+
+    PojoClass pojoClass = PojoClassFactory.getPojoClass(AClassWithFields.class);
+    Assert.assertEquals(1, PojoCache.getStatistics().getMissCount());
+    Assert.assertEquals(0, PojoCache.getStatistics().getHitCount());
+
+    Assert.assertSame(pojoClass, PojoClassFactory.getPojoClass(AClassWithFields.class));
+    Assert.assertEquals(1, PojoCache.getStatistics().getHitCount());
+  }
+
+  @Test
+  public void shouldStoreByClass() {
+    PojoCache.setPersistent(false);
+    Assert.assertFalse(PojoCache.isPersistent());
+
+    PojoClass pojoClass = PojoClassFactory.getPojoClass(AClassWithFields.class);
+    Assert.assertSame(pojoClass, PojoCache.getPojoClass(AClassWithFields.class));
+
+    PojoCache.clear();
+    Assert.assertNull(PojoCache.getPojoClass(AClassWithFields.class));
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void shouldStillLookupByName() {
+    PojoCache.clear();
+    Assert.assertNull(PojoCache.getPojoClass(AClassWithFields.class.getName()));
+    Assert.assertNull(PojoCache.getPojoClass(AClassWithFields.class.getName() + "DoesNotExist"));
+
+    PojoClass pojoClass = PojoClassFactory.getPojoClass(AClassWithFields.class);
+    Assert.assertSame(pojoClass, PojoCache.getPojoClass(AClassWithFields.class.getName()));
+
+    PojoCache.clear();
+    PojoCache.addPojoClass(AClassWithFields.class.getName(), pojoClass);
+    Assert.assertSame(pojoClass, PojoCache.getPojoClass(AClassWithFields.class));
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.construct;
+
+import com.openpojo.reflection.PojoMethod;
+import com.openpojo.reflection.construct.sampleclasses.ClassWithLessThanGreaterThanConstructors;
+import com.openpojo.reflection.construct.sampleclasses.ClassWithNativeTypesConstructor;
+import com.openpojo.reflection.construct.sampleclasses.ClassWithVariousDeclaredContructorsAndMethods;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static com.openpojo.reflection.impl.PojoClassFactory.getPojoClass;
+
+/**
+ * @author oshoukry
+ */
+public class ConstructorTableTest {
+
+  @Test
+  public void shouldPickMostAndLeastCompleteConstructors() {
+    ConstructorTable constructorTable = new ConstructorTable(getPojoClass(ClassWithLessThanGreaterThanConstructors.class));
+    Assert.assertEquals(3, constructorTable.getMostComplete().getParameterTypes().length);
+    Assert.assertEquals(1, constructorTable.getLeastComplete().getParameterTypes().length);
+  }
+
+  @Test
+  public void shouldMatchOnArityAndType() {
+    ConstructorTable constructorTable = new ConstructorTable(getPojoClass(ClassWithVariousDeclaredContructorsAndMethods.class));
+
+    PojoMethod stringConstructor = constructorTable.getMatching(new Class<?>[] { String.class });
+    Assert.assertArrayEquals(new Class<?>[] { String.class }, stringConstructor.getParameterTypes());
+
+    PojoMethod integerConstructor = constructorTable.getMatching(new Class<?>[] { Integer.class });
+    Assert.assertArrayEquals(new Class<?>[] { Integer.class }, integerConstructor.getParameterTypes());
+
+    PojoMethod doubleConstructor = constructorTable.getMatching(new Class<?>[] { String.class, null });
+    Assert.assertArrayEquals(new Class<?>[] { String.class, Integer.class }, doubleConstructor.getParameterTypes());
+  }
+
+  @Test
+  public void shouldMatchPrimitiveParametersWithWrapperTypes() {
+    ConstructorTable constructorTable = new ConstructorTable(getPojoClass(ClassWithNativeTypesConstructor.class));
+    PojoMethod constructor = constructorTable.getMatching(new Class<?>[] { Boolean.class, Boolean.class, Integer.class,
+        Float.class, Double.class, Long.class, Short.class, Byte.class, Character.class });
+    Assert.assertNotNull(constructor);
+  }
+
+  @Test
+  public void shouldReturnNullWhenNothingMatches() {
+    ConstructorTable constructorTable = new ConstructorTable(getPojoClass(ClassWithVariousDeclaredContructorsAndMethods.class));
+    Assert.assertNull(constructorTable.getMatching(new Class<?>[] { Long.class }));
+    Assert.assertNull(constructorTable.getMatching(new Class<?>[] { Long.class }));
+    Assert.assertNull(constructorTable.getMatching(null));
+  }
+
+  @Test
+  public void shouldRememberMatchPerSignature() {
+    ConstructorTable constructorTable = new ConstructorTable(getPojoClass(ClassWithVariousDeclaredContructorsAndMethods.class));
+    PojoMethod first = constructorTable.getMatching(new Class<?>[] { String.class, Integer.class });
+    PojoMethod second = constructorTable.getMatching(new Class<?>[] { String.class, Integer.class });
+    Assert.assertNotNull(first);
+    Assert.assertSame(first, second);
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.construct;
+
+import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.construct.sampleclasses.ClassWithVariousDeclaredContructorsAndMethods;
+import com.openpojo.reflection.impl.PojoClassFactory;
+import com.openpojo.validation.affirm.Affirm;
+import org.junit.Test;
+
+/**
+ * Benchmark for InstanceFactory.getInstance on a class with several constructors of the same arity.
+ *
+ * @author oshoukry
+ */
+public class InstanceFactoryBenchmark {
+  private static final int WARM_UP = 200000;
+  private static final int ITERATIONS = 1000000;
+
+  @Test
+  public void repeatedInstantiationShouldReuseConstructorTable() {
+    PojoClass pojoClass = PojoClassFactory.getPojoClass(ClassWithVariousDeclaredContructorsAndMethods.class);
+    Integer integer = 5;
+
+    for (int i = 0; i < WARM_UP; i++)
+      InstanceFactory.getInstance(pojoClass, integer);
+
+    ClassWithVariousDeclaredContructorsAndMethods instance = null;
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      instance = (ClassWithVariousDeclaredContructorsAndMethods) InstanceFactory.getInstance(pojoClass, integer);
+    long cost = (System.nanoTime() - start) / ITERATIONS;
+
+    Affirm.affirmEquals("Wrong constructor used", integer, instance.singleIntegerConstructor);
+    LoggerFactory.getLogger(InstanceFactoryBenchmark.class).info("InstanceFactory.getInstance for [{0}] per "
+        + "instance [{1}ns]", pojoClass.getName(), cost);
+  }
+}
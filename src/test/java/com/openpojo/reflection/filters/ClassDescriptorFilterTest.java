@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.filters;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.openpojo.reflection.ClassDescriptor;
+import com.openpojo.reflection.ClassDescriptorFilter;
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.filters.sampleclasses.SampleAbstract;
+import com.openpojo.reflection.filters.sampleclasses.SampleAnnotation;
+import com.openpojo.reflection.filters.sampleclasses.SampleClass;
+import com.openpojo.reflection.filters.sampleclasses.SampleEnum;
+import com.openpojo.reflection.filters.sampleclasses.SampleInterface;
+import com.openpojo.reflection.impl.PojoClassFactory;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Every ClassDescriptorFilter must reach the same decision from the class file as it does from the loaded class.
+ *
+ * @author oshoukry
+ */
+public class ClassDescriptorFilterTest {
+  private static final Object ANONYMOUS = new Serializable() {
+  };
+
+  @Test
+  public void descriptorShouldMatchPojoClassDecision() {
+    List<PojoClassFilter> filters = new ArrayList<PojoClassFilter>();
+    filters.add(new FilterClassName("Sample[A-Z].*"));
+    filters.add(new FilterCloverClasses());
+    filters.add(new FilterEnum());
+    filters.add(new FilterNestedClasses());
+    filters.add(new FilterNonConcrete());
+    filters.add(new FilterPackageInfo());
+    filters.add(new FilterSyntheticClasses());
+    filters.add(new FilterBasedOnInheritance(SampleInterface.class));
+    filters.add(new FilterBasedOnInheritance(SampleAbstract.class));
+    filters.add(new FilterBasedOnInheritance(Serializable.class));
+    filters.add(new FilterBasedOnInheritance(Comparable.class));
+    filters.add(new FilterChain(new FilterEnum(), new FilterNestedClasses()));
+
+    List<Class<?>> classes = new ArrayList<Class<?>>();
+    classes.add(SampleAbstract.class);
+    classes.add(SampleAnnotation.class);
+    classes.add(SampleClass.class);
+    classes.add(SampleEnum.class);
+    classes.add(SampleInterface.class);
+    classes.add(ExtendsSampleAbstract.class);
+    classes.add(ImplementsSampleInterface.class);
+    classes.add(ANONYMOUS.getClass());
+    classes.add(String.class);
+    classes.add(getClass());
+
+    for (PojoClassFilter filter : filters) {
+      for (Class<?> clazz : classes) {
+        PojoClass pojoClass = PojoClassFactory.getPojoClass(clazz);
+        ClassDescriptor classDescriptor = ByteCodeFactory.getClassDescriptor(clazz.getName());
+        Assert.assertEquals("Filter " + filter.getClass().getSimpleName() + " disagrees on " + clazz,
+            filter.include(pojoClass), ((ClassDescriptorFilter) filter).include(classDescriptor));
+      }
+    }
+  }
+
+  @Test
+  public void filterChainShouldIncludeWhenMembersCantFilterDescriptors() {
+    PojoClassFilter excludeAll = new PojoClassFilter() {
+      public boolean include(PojoClass pojoClass) {
+        return false;
+      }
+    };
+    FilterChain filterChain = new FilterChain(excludeAll);
+
+    ClassDescriptor classDescriptor = ByteCodeFactory.getClassDescriptor(SampleClass.class.getName());
+    Assert.assertTrue(filterChain.include(classDescriptor));
+    Assert.assertFalse(new FilterChain(excludeAll, new FilterNonConcrete()).include(
+        ByteCodeFactory.getClassDescriptor(SampleInterface.class.getName())));
+  }
+
+  @Test
+  public void inheritanceShouldIncludeWhenHierarchyCantBeRead() {
+    ClassDescriptor classDescriptor = new ClassDescriptorStub(UnreadableParent.class.getName() + "$Missing");
+    Assert.assertTrue(new FilterBasedOnInheritance(SampleInterface.class).include(classDescriptor));
+  }
+
+  private static class ExtendsSampleAbstract extends SampleAbstract {
+  }
+
+  private static class ImplementsSampleInterface implements SampleInterface {
+  }
+
+  private static class UnreadableParent {
+  }
+
+  private static class ClassDescriptorStub implements ClassDescriptor {
+    private final String superClassName;
+
+    private ClassDescriptorStub(String superClassName) {
+      this.superClassName = superClassName;
+    }
+
+    public String getName() {
+      return "com.openpojo.Stub";
+    }
+
+    public int getModifiers() {
+      return 0;
+    }
+
+    public String getSuperClassName() {
+      return superClassName;
+    }
+
+    public List<String> getInterfaceNames() {
+      return new ArrayList<String>();
+    }
+
+    public List<String> getAnnotationNames() {
+      return new ArrayList<String>();
+    }
+
+    public List<String> getFieldSignatures() {
+      return new ArrayList<String>();
+    }
+
+    public List<String> getMethodSignatures() {
+      return new ArrayList<String>();
+    }
+
+    public boolean isInterface() {
+      return false;
+    }
+
+    public boolean isAbstract() {
+      return false;
+    }
+
+    public boolean isEnum() {
+      return false;
+    }
+
+    public boolean isSynthetic() {
+      return false;
+    }
+
+    public boolean isNestedClass() {
+      return false;
+    }
+  }
+}
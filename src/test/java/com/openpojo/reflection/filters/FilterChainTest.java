@@ -48,6 +48,17 @@ public class FilterChainTest extends IdentitiesAreEqual {
     Assert.assertTrue(filter.getPojoClassFilters().contains(dummyFilter));
   }
 
+  @Test
+  public void hasClassDescriptorFilters_onlyWhenAChainedFilterCanReadDescriptors() {
+    Assert.assertFalse(new FilterChain().hasClassDescriptorFilters());
+    Assert.assertFalse(new FilterChain(new DummyPojoClassFilter()).hasClassDescriptorFilters());
+    Assert.assertFalse(new FilterChain(new FilterChain(new DummyPojoClassFilter())).hasClassDescriptorFilters());
+
+    Assert.assertTrue(new FilterChain(new FilterEnum()).hasClassDescriptorFilters());
+    Assert.assertTrue(new FilterChain(new DummyPojoClassFilter(), new FilterChain(new FilterNestedClasses()))
+        .hasClassDescriptorFilters());
+  }
+
   @Test
   public void addingArrayWithNullFilters_ignored() {
     PojoClassFilter dummyFilter = new DummyPojoClassFilter();
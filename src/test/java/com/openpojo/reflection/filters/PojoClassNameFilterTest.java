@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.filters;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.PojoClassNameFilter;
+import com.openpojo.reflection.coverage.service.impl.PojoClassCoverageFilter;
+import com.openpojo.reflection.filters.sampleclasses.SampleClass;
+import com.openpojo.reflection.filters.sampleclasses.SampleEnum;
+import com.openpojo.reflection.impl.PojoClassFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Every PojoClassNameFilter must reach the same decision from the class name as it does from the loaded class.
+ *
+ * @author oshoukry
+ */
+public class PojoClassNameFilterTest {
+
+  @Test
+  public void nameShouldMatchPojoClassDecision() {
+    List<PojoClassFilter> filters = new ArrayList<PojoClassFilter>();
+    filters.add(new FilterClassName("Sample[A-Z].*"));
+    filters.add(new FilterClassName("\\.SampleClass$"));
+    filters.add(new FilterCloverClasses());
+    filters.add(new FilterPackageInfo());
+    filters.add(new FilterChain(new FilterPackageInfo(), new FilterClassName("Enum")));
+
+    List<Class<?>> classes = new ArrayList<Class<?>>();
+    classes.add(SampleClass.class);
+    classes.add(SampleEnum.class);
+    classes.add(String.class);
+    classes.add(getClass());
+
+    for (PojoClassFilter filter : filters) {
+      for (Class<?> clazz : classes) {
+        PojoClass pojoClass = PojoClassFactory.getPojoClass(clazz);
+        Assert.assertEquals("Filter " + filter.getClass().getSimpleName() + " disagrees on " + clazz,
+            filter.include(pojoClass), ((PojoClassNameFilter) filter).include(clazz.getName()));
+      }
+    }
+  }
+
+  @Test
+  public void shouldExcludePackageInfoAndCloverClassesByName() {
+    Assert.assertFalse(new FilterPackageInfo().include("com.openpojo.package-info"));
+    Assert.assertFalse(new FilterCloverClasses().include("com.openpojo.SomeClass$__CLR4_0_1"));
+    Assert.assertTrue(new FilterCloverClasses().include("com.openpojo.SomeClass"));
+  }
+
+  @Test
+  public void filterChainShouldIncludeWhenMembersCantFilterNames() {
+    PojoClassFilter excludeAll = new PojoClassFilter() {
+      public boolean include(PojoClass pojoClass) {
+        return false;
+      }
+    };
+
+    Assert.assertTrue(new FilterChain(excludeAll).include(SampleClass.class.getName()));
+    Assert.assertFalse(new FilterChain(excludeAll, new FilterClassName("Enum")).include(SampleClass.class.getName()));
+  }
+
+  @Test
+  public void coverageFilterShouldOnlyUseNameFilters() {
+    PojoClassCoverageFilter pojoClassCoverageFilter = new PojoClassCoverageFilter();
+    pojoClassCoverageFilter.add(new FilterNonConcrete());
+    pojoClassCoverageFilter.add(new FilterCloverClasses());
+
+    Assert.assertTrue(pojoClassCoverageFilter.include("com.openpojo.SomeInterface"));
+    Assert.assertFalse(pojoClassCoverageFilter.include("com.openpojo.SomeClass$__CLR4_0_1"));
+  }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.openpojo.random.RandomFactory;
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.filters.FilterClassName;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * @author oshoukry
+ */
+public class PojoClassChangeTrackerTest {
+  private static final String PACKAGE_NAME = "com.openpojo.reflection.impl.changetracker";
+  private static final String FIRST = PACKAGE_NAME + ".First";
+  private static final String SECOND = PACKAGE_NAME + ".subpackage.Second";
+
+  private File root;
+  private File firstClassFile;
+  private PojoClassChangeTracker pojoClassChangeTracker;
+
+  @Before
+  public void setUp() throws IOException {
+    root = new File(System.getProperty("user.dir")
+        + File.separator + ".tmp.testing.folder." + RandomFactory.getRandomValue(String.class));
+    firstClassFile = writeClass(FIRST, "name");
+    writeClass(SECOND);
+    pojoClassChangeTracker = new PojoClassChangeTracker(PACKAGE_NAME, null, new TemporaryClassLoaderSupplier());
+  }
+
+  @After
+  public void tearDown() {
+    delete(root);
+  }
+
+  @Test
+  public void firstScanShouldReturnEveryClass() {
+    assertNames(pojoClassChangeTracker.getChangedPojoClasses(), FIRST, SECOND);
+    Assert.assertTrue(pojoClassChangeTracker.getRemovedClassNames().isEmpty());
+  }
+
+  @Test
+  public void shouldOnlyReturnChangedClasses() {
+    pojoClassChangeTracker.getChangedPojoClasses();
+    assertNames(pojoClassChangeTracker.getChangedPojoClasses());
+
+    Assert.assertTrue(firstClassFile.setLastModified(firstClassFile.lastModified() - 10000));
+    assertNames(pojoClassChangeTracker.getChangedPojoClasses(), FIRST);
+    assertNames(pojoClassChangeTracker.getChangedPojoClasses());
+  }
+
+  @Test
+  public void shouldIntrospectChangedClassesAgain() throws IOException {
+    Assert.assertEquals(1, getPojoClass(pojoClassChangeTracker.getChangedPojoClasses(), FIRST).getPojoFields().size());
+
+    writeClass(FIRST, "name", "address");
+    Assert.assertTrue(firstClassFile.setLastModified(firstClassFile.lastModified() - 10000));
+
+    List<PojoClass> changed = pojoClassChangeTracker.getChangedPojoClasses();
+    assertNames(changed, FIRST);
+    Assert.assertEquals(2, getPojoClass(changed, FIRST).getPojoFields().size());
+  }
+
+  @Test
+  public void shouldReportRemovedClasses() {
+    pojoClassChangeTracker.getChangedPojoClasses();
+
+    File directory = firstClassFile.getParentFile();
+    Assert.assertTrue(firstClassFile.delete());
+    Assert.assertTrue(directory.setLastModified(directory.lastModified() - 10000));
+
+    assertNames(pojoClassChangeTracker.getChangedPojoClasses());
+    Assert.assertTrue(pojoClassChangeTracker.getRemovedClassNames().contains(FIRST));
+  }
+
+  @Test
+  public void shouldNotLoadUnchangedClassesAgain() {
+    final List<String> included = new ArrayList<String>();
+    PojoClassChangeTracker tracker = new PojoClassChangeTracker(PACKAGE_NAME, new PojoClassFilter() {
+      public boolean include(PojoClass pojoClass) {
+        included.add(pojoClass.getName());
+        return true;
+      }
+    }, new TemporaryClassLoaderSupplier());
+
+    tracker.getChangedPojoClasses();
+    Assert.assertEquals(2, included.size());
+    tracker.getChangedPojoClasses();
+    Assert.assertEquals(2, included.size());
+  }
+
+  @Test
+  public void shouldNotReturnClassesTheFilterRejects() {
+    PojoClassChangeTracker tracker = new PojoClassChangeTracker(PACKAGE_NAME, new FilterClassName("Second"),
+        new TemporaryClassLoaderSupplier());
+    assertNames(tracker.getChangedPojoClasses(), SECOND);
+
+    Assert.assertTrue(firstClassFile.setLastModified(firstClassFile.lastModified() - 10000));
+    assertNames(tracker.getChangedPojoClasses());
+    Assert.assertTrue(tracker.getRemovedClassNames().isEmpty());
+  }
+
+  @Test
+  public void shouldScanThroughContextClassLoaderByDefault() {
+    Thread thread = Thread.currentThread();
+    ClassLoader original = thread.getContextClassLoader();
+    thread.setContextClassLoader(new TemporaryClassLoaderSupplier().get());
+    try {
+      assertNames(new PojoClassChangeTracker(PACKAGE_NAME, null).getChangedPojoClasses(), FIRST, SECOND);
+    } finally {
+      thread.setContextClassLoader(original);
+    }
+  }
+
+  private File writeClass(String className, String... fieldNames) throws IOException {
+    File classFile = new File(root, className.replace('.', File.separatorChar) + ".class");
+    Assert.assertTrue(classFile.getParentFile().isDirectory() || classFile.getParentFile().mkdirs());
+
+    ClassWriter cw = new ClassWriter(0);
+    cw.visit(Opcodes.V1_5, Opcodes.ACC_PUBLIC + Opcodes.ACC_SUPER, className.replace('.', '/'), null,
+        "java/lang/Object", null);
+    for (String fieldName : fieldNames)
+      cw.visitField(Opcodes.ACC_PRIVATE, fieldName, "Ljava/lang/String;", null, null).visitEnd();
+
+    MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+    mv.visitCode();
+    mv.visitVarInsn(Opcodes.ALOAD, 0);
+    mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+    mv.visitInsn(Opcodes.RETURN);
+    mv.visitMaxs(1, 1);
+    mv.visitEnd();
+    cw.visitEnd();
+
+    FileOutputStream out = new FileOutputStream(classFile);
+    try {
+      out.write(cw.toByteArray());
+    } finally {
+      out.close();
+    }
+    return classFile;
+  }
+
+  private static PojoClass getPojoClass(List<PojoClass> pojoClasses, String name) {
+    for (PojoClass pojoClass : pojoClasses)
+      if (pojoClass.getName().equals(name))
+        return pojoClass;
+    throw new AssertionError("PojoClass not found [" + name + "]");
+  }
+
+  private static void assertNames(List<PojoClass> pojoClasses, String... expected) {
+    List<String> names = new ArrayList<String>();
+    for (PojoClass pojoClass : pojoClasses)
+      names.add(pojoClass.getName());
+
+    List<String> expectedNames = new ArrayList<String>();
+    for (String name : expected)
+      expectedNames.add(name);
+    Assert.assertEquals(expectedNames, names);
+  }
+
+  private static void delete(File file) {
+    File[] entries = file.listFiles();
+    if (entries != null)
+      for (File entry : entries)
+        delete(entry);
+    file.delete();
+  }
+
+  /**
+   * Only sees the temporary directory, so every scan loads the generated classes anew.
+   */
+  private class TemporaryClassLoaderSupplier implements PojoClassChangeTracker.ClassLoaderSupplier {
+    public ClassLoader get() {
+      try {
+        return new URLClassLoader(new URL[] { root.toURI().toURL() }, null);
+      } catch (MalformedURLException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
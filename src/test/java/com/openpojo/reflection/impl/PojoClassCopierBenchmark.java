@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
+import com.openpojo.reflection.java.bytecode.asm.sample.AClassWithAccessors;
+import com.openpojo.validation.affirm.Affirm;
+import org.junit.Test;
+
+/**
+ * Benchmark for PojoClass.copy, comparing reflective copies with generated copiers.
+ *
+ * @author oshoukry
+ */
+public class PojoClassCopierBenchmark {
+  private static final int WARM_UP = 20000;
+  private static final int ITERATIONS = 200000;
+
+  @Test
+  public void compiledCopyShouldCopyLikeReflection() {
+    PojoClass pojoClass = PojoClassFactory.getPojoClass(AClassWithAccessors.class);
+    PojoClassCopier reflected = new PojoClassCopier(pojoClass.getClazz(), pojoClass.getPojoFields());
+    PojoClassCopier compiled;
+    ByteCodeFactory.setCopierEnabled(true);
+    try {
+      compiled = new PojoClassCopier(pojoClass.getClazz(), pojoClass.getPojoFields());
+    } finally {
+      ByteCodeFactory.setCopierEnabled(false);
+    }
+    Affirm.affirmFalse("Reflected copier should not be compiled", reflected.isCompiled());
+    Affirm.affirmTrue("Compiled copier should be compiled", compiled.isCompiled());
+
+    AClassWithAccessors from = new AClassWithAccessors();
+    from.setName("name");
+    from.setCount(3);
+    from.setTotal(5L);
+    from.setActive(true);
+    AClassWithAccessors to = new AClassWithAccessors();
+
+    for (int i = 0; i < WARM_UP; i++) {
+      reflected.copy(from, to);
+      compiled.copy(from, to);
+    }
+    Affirm.affirmEquals("Copy mismatch", from.getName(), to.getName());
+
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      reflected.copy(from, to);
+    long reflectedCost = (System.nanoTime() - start) / ITERATIONS;
+
+    start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      compiled.copy(from, to);
+    long compiledCost = (System.nanoTime() - start) / ITERATIONS;
+
+    LoggerFactory.getLogger(PojoClassCopierBenchmark.class).info("Copy of [{0}] per instance: "
+        + "reflection [{1}ns], generated copier [{2}ns]", pojoClass.getName(), reflectedCost, compiledCost);
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.util.Arrays;
+
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.cache.PojoCache;
+import com.openpojo.reflection.exception.ReflectionException;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
+import com.openpojo.reflection.java.bytecode.asm.sample.AClassRecordingSetterOrder;
+import com.openpojo.reflection.java.bytecode.asm.sample.AClassWithThrowingSetter;
+import com.openpojo.reflection.java.bytecode.asm.sample.AClassWithAccessors;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class PojoClassCopierTest {
+
+  @Before
+  public void setUp() {
+    PojoCache.clear();
+    ByteCodeFactory.setCopierEnabled(true);
+  }
+
+  @After
+  public void tearDown() {
+    ByteCodeFactory.setCopierEnabled(false);
+    PojoCache.clear();
+  }
+
+  @Test
+  public void shouldCompileWhenEnabled() {
+    PojoClass pojoClass = PojoClassFactory.getPojoClass(AClassWithAccessors.class);
+    Assert.assertTrue(new PojoClassCopier(pojoClass.getClazz(), pojoClass.getPojoFields()).isCompiled());
+
+    ByteCodeFactory.setCopierEnabled(false);
+    Assert.assertFalse(new PojoClassCopier(pojoClass.getClazz(), pojoClass.getPojoFields()).isCompiled());
+  }
+
+  @Test
+  public void shouldCopyCompiledAndReflectedProperties() {
+    PojoClass pojoClass = PojoClassFactory.getPojoClass(AClassWithAccessors.class);
+    AClassWithAccessors from = new AClassWithAccessors();
+    from.setName("name");
+    from.setCount(7);
+    from.setTotal(11L);
+    from.setActive(true);
+    pojoClass.getAllPojoFieldsByName("secret").get(0).invokeSetter(from, "secret");
+
+    AClassWithAccessors to = new AClassWithAccessors();
+    pojoClass.copy(from, to);
+
+    Assert.assertEquals("name", to.getName());
+    Assert.assertEquals(7, to.getCount());
+    Assert.assertEquals(11L, to.getTotal());
+    Assert.assertTrue(to.isActive());
+    Assert.assertEquals("secret", pojoClass.getAllPojoFieldsByName("secret").get(0).invokeGetter(to));
+  }
+
+  @Test
+  public void shouldCopyInFieldDeclarationOrder() {
+    PojoClass pojoClass = PojoClassFactory.getPojoClass(AClassRecordingSetterOrder.class);
+    Assert.assertTrue(new PojoClassCopier(pojoClass.getClazz(), pojoClass.getPojoFields()).isCompiled());
+
+    AClassRecordingSetterOrder to = new AClassRecordingSetterOrder();
+    pojoClass.copy(new AClassRecordingSetterOrder(), to);
+
+    Assert.assertEquals(Arrays.asList("first", "second", "third"), to.getSetterCalls());
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void copyingFromAnotherTypeShouldThrowReflectionException() {
+    PojoClassFactory.getPojoClass(AClassWithAccessors.class).copy(new Object(), new AClassWithAccessors());
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void copyingFromNullShouldThrowReflectionException() {
+    PojoClassFactory.getPojoClass(AClassWithAccessors.class).copy(null, new AClassWithAccessors());
+  }
+
+  @Test
+  public void compiledCopyShouldReportAccessorExceptionsLikeReflection() {
+    PojoClass pojoClass = PojoClassFactory.getPojoClass(AClassWithThrowingSetter.class);
+    PojoClassCopier compiled = new PojoClassCopier(pojoClass.getClazz(), pojoClass.getPojoFields());
+    Assert.assertTrue(compiled.isCompiled());
+
+    ByteCodeFactory.setCopierEnabled(false);
+    PojoClassCopier reflected = new PojoClassCopier(pojoClass.getClazz(), pojoClass.getPojoFields());
+    Assert.assertFalse(reflected.isCompiled());
+
+    Throwable compiledFailure = getCopyFailure(compiled);
+    Throwable reflectedFailure = getCopyFailure(reflected);
+    Assert.assertEquals(reflectedFailure.getClass(), compiledFailure.getClass());
+    Assert.assertEquals(reflectedFailure.getCause().getClass(), compiledFailure.getCause().getClass());
+    Assert.assertEquals(reflectedFailure.getCause().getCause().getClass(),
+        compiledFailure.getCause().getCause().getClass());
+  }
+
+  private static Throwable getCopyFailure(PojoClassCopier pojoClassCopier) {
+    try {
+      pojoClassCopier.copy(new AClassWithThrowingSetter(), new AClassWithThrowingSetter());
+    } catch (ReflectionException e) {
+      return e;
+    }
+    throw new AssertionError("Expected ReflectionException");
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.util.LinkedList;
+import java.util.List;
+
+import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.PojoMethod;
+import com.openpojo.reflection.filters.FilterNonConcrete;
+import com.openpojo.validation.affirm.Affirm;
+import org.junit.Test;
+
+/**
+ * Benchmark for scan-then-filter workloads, comparing PojoClassImpl's built with all their members up front against
+ * ones that introspect their members on first access.
+ *
+ * @author oshoukry
+ */
+public class PojoClassImplBenchmark {
+  private static final String SCANNED_PACKAGE = "com.openpojo.reflection";
+  private static final int WARM_UP = 5;
+  private static final int ITERATIONS = 20;
+  private static final PojoClassFilter FILTER = new FilterNonConcrete();
+
+  @Test
+  public void lazyMembersShouldFilterTheSameClasses() {
+    final List<Class<?>> classes = new LinkedList<Class<?>>();
+    for (PojoClass pojoClass : PojoClassFactory.getPojoClassesRecursively(SCANNED_PACKAGE, null))
+      classes.add(pojoClass.getClazz());
+
+    int eager = 0;
+    int lazy = 0;
+    for (int i = 0; i < WARM_UP; i++) {
+      eager += scanEager(classes);
+      lazy += scanLazy(classes);
+    }
+    Affirm.affirmEquals("Lazy scan filtered a different number of classes", eager, lazy);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      scanEager(classes);
+    long eagerCost = (System.nanoTime() - start) / ITERATIONS / 1000;
+
+    start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      scanLazy(classes);
+    long lazyCost = (System.nanoTime() - start) / ITERATIONS / 1000;
+
+    LoggerFactory.getLogger(PojoClassImplBenchmark.class).info("Scan then filter of [{0}] classes: "
+        + "eager members [{1}us], lazy members [{2}us]", classes.size(), eagerCost, lazyCost);
+  }
+
+  private static int scanEager(List<Class<?>> classes) {
+    int included = 0;
+    for (Class<?> clazz : classes) {
+      final List<PojoMethod> pojoMethods = PojoMethodFactory.getPojoMethods(clazz);
+      if (FILTER.include(new PojoClassImpl(clazz, PojoFieldFactory.getPojoFields(clazz, pojoMethods), pojoMethods)))
+        included++;
+    }
+    return included;
+  }
+
+  private static int scanLazy(List<Class<?>> classes) {
+    int included = 0;
+    for (Class<?> clazz : classes) {
+      // the lookup service still links the declared members up front.
+      clazz.getDeclaredFields();
+      clazz.getDeclaredMethods();
+      clazz.getDeclaredConstructors();
+      if (FILTER.include(new PojoClassImpl(clazz)))
+        included++;
+    }
+    return included;
+  }
+}
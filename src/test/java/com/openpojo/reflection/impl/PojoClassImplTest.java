@@ -22,6 +22,11 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Modifier;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.openpojo.business.BusinessIdentity;
 import com.openpojo.random.RandomFactory;
@@ -29,6 +34,7 @@ import com.openpojo.reflection.PojoClass;
 import com.openpojo.reflection.PojoField;
 import com.openpojo.reflection.PojoMethod;
 import com.openpojo.reflection.PojoPackage;
+import com.openpojo.reflection.adapt.PojoClassAdapter;
 import com.openpojo.reflection.construct.InstanceFactory;
 import com.openpojo.reflection.exception.ReflectionException;
 import com.openpojo.reflection.impl.sample.annotation.AnotherAnnotation;
@@ -145,6 +151,63 @@ public class PojoClassImplTest {
 
   }
 
+  @Test
+  public void annotatedPojoFieldsShouldBeIndexedOnce() {
+    PojoClass pojoClass = getPojoClassImplForClass(AClassWithAnnotatedFields.class);
+    List<PojoField> annotatedPojoFields = pojoClass.getAnnotatedPojoFields(SomeAnnotation.class);
+
+    Affirm.affirmEquals("Expected 2 annotated fields", 2, annotatedPojoFields.size());
+    Affirm.affirmTrue("Lookup should not copy", annotatedPojoFields == pojoClass.getAnnotatedPojoFields(SomeAnnotation.class));
+    Affirm.affirmEquals("Copying lookup mismatch", annotatedPojoFields,
+        pojoClass.getPojoFieldsAnnotatedWith(SomeAnnotation.class));
+    Affirm.affirmEquals("Expected no fields for absent annotation", 0,
+        pojoClass.getAnnotatedPojoFields(Deprecated.class).size());
+  }
+
+  @Test
+  public void annotatedPojoMethodsShouldBeIndexedOnce() {
+    PojoClass pojoClass = getPojoClassImplForClass(AClassWithAnnotatedMethods.class);
+    List<PojoMethod> annotatedPojoMethods = pojoClass.getAnnotatedPojoMethods(SomeAnnotation.class);
+
+    Affirm.affirmEquals("Expected 2 annotated methods", 2, annotatedPojoMethods.size());
+    Affirm.affirmTrue("Lookup should not copy", annotatedPojoMethods == pojoClass.getAnnotatedPojoMethods(SomeAnnotation.class));
+    Affirm.affirmEquals("Copying lookup mismatch", annotatedPojoMethods,
+        pojoClass.getPojoMethodsAnnotatedWith(SomeAnnotation.class));
+  }
+
+  @Test
+  public void allPojoFieldsShouldIncludeInheritedFieldsNearestFirst() {
+    PojoClass pojoClass = getPojoClassImplForClass(AChildClassShadowingAField.class);
+    List<String> names = new LinkedList<String>();
+    for (PojoField pojoField : pojoClass.getAllPojoFields())
+      names.add(pojoField.getDeclaringPojoClass().getClazz().getSimpleName() + "." + pojoField.getName());
+
+    Affirm.affirmEquals("Unexpected hierarchy fields", "[AChildClassShadowingAField.shadowedField, "
+        + "AChildClassShadowingAField.childField, AParentClassWithFields.shadowedField, AParentClassWithFields.parentField]",
+        names.toString());
+    Affirm.affirmTrue("Hierarchy should be cached", pojoClass.getAllPojoFields() == pojoClass.getAllPojoFields());
+  }
+
+  @Test
+  public void allPojoFieldsShouldTrackShadowing() {
+    PojoClass pojoClass = getPojoClassImplForClass(AChildClassShadowingAField.class);
+    List<PojoField> shadowedFields = pojoClass.getAllPojoFieldsByName("shadowedField");
+    Affirm.affirmEquals("Expected both declarations", 2, shadowedFields.size());
+
+    Affirm.affirmFalse("Nearest field is not shadowed", pojoClass.isShadowed(shadowedFields.get(0)));
+    Affirm.affirmTrue("Parent field should be shadowed", pojoClass.isShadowed(shadowedFields.get(1)));
+    Affirm.affirmEquals("Expected a single parentField", 1, pojoClass.getAllPojoFieldsByName("parentField").size());
+    Affirm.affirmEquals("Expected no such field", 0, pojoClass.getAllPojoFieldsByName("noSuchField").size());
+
+    PojoClass parentPojoClass = pojoClass.getSuperClass();
+    Affirm.affirmFalse("Parent field is not shadowed in parent", parentPojoClass.isShadowed(shadowedFields.get(1)));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void annotatedPojoFieldsShouldNotBeModifiable() {
+    getPojoClassImplForClass(AClassWithAnnotatedFields.class).getAnnotatedPojoFields(SomeAnnotation.class).clear();
+  }
+
   @Test
   public void testExtendz() {
     final Class<?> aClassExtendingAnInterfaceAndAbstract = AClassExtendingAnInterface.class;
@@ -468,6 +531,69 @@ public class PojoClassImplTest {
     Affirm.affirmTrue("Invalid enclosing class", enclosingClass.getClazz().equals(aClassWithNested.getClazz()));
   }
 
+  @Test
+  public void lazyPojoClassShouldMatchEagerPojoClass() {
+    final List<PojoMethod> pojoMethods = PojoMethodFactory.getPojoMethods(AClassWithFields.class);
+    final PojoClass eager = new PojoClassImpl(AClassWithFields.class,
+        PojoFieldFactory.getPojoFields(AClassWithFields.class, pojoMethods), pojoMethods);
+    final PojoClass lazy = new PojoClassImpl(AClassWithFields.class);
+
+    Affirm.affirmEquals("Fields mismatch", eager.getPojoFields().toString(), lazy.getPojoFields().toString());
+    Affirm.affirmEquals("Methods mismatch", eager.getPojoMethods().toString(), lazy.getPojoMethods().toString());
+    Affirm.affirmEquals("Constructors mismatch", eager.getPojoConstructors().toString(),
+        lazy.getPojoConstructors().toString());
+  }
+
+  @Test
+  public void lazyPojoClassShouldAdaptOnFirstAccessOnly() {
+    final AtomicInteger adaptCount = new AtomicInteger();
+    final PojoClassAdapter noFieldsAdapter = new PojoClassAdapter() {
+      public PojoClass adapt(PojoClass pojoClass) {
+        adaptCount.incrementAndGet();
+        return new PojoClassImpl(pojoClass.getClazz(), new LinkedList<PojoField>(), pojoClass.getPojoMethods());
+      }
+    };
+
+    final PojoClass pojoClass = new PojoClassImpl(AClassWithFields.class, noFieldsAdapter);
+    Affirm.affirmEquals("Class name should not need members", AClassWithFields.class.getName(), pojoClass.getName());
+    Affirm.affirmFalse("Modifiers should not need members", pojoClass.isInterface());
+    Affirm.affirmEquals("Adapter called before members were accessed", 0, adaptCount.get());
+
+    Affirm.affirmEquals("Adapted fields not used", 0, pojoClass.getPojoFields().size());
+    Affirm.affirmTrue("Methods not loaded", pojoClass.getPojoMethods().size() > 0);
+    pojoClass.getPojoConstructors();
+    Affirm.affirmEquals("Members should only be built once", 1, adaptCount.get());
+  }
+
+  @Test
+  public void lazyPojoClassShouldBuildMembersOnceAcrossThreads() throws Exception {
+    final int threads = 8;
+    final PojoClass pojoClass = new PojoClassImpl(AClassWithFields.class);
+    final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+    try {
+      final List<Future<List<PojoField>>> results = new LinkedList<Future<List<PojoField>>>();
+      for (int i = 0; i < threads; i++) {
+        results.add(executorService.submit(new Callable<List<PojoField>>() {
+          public List<PojoField> call() throws Exception {
+            return pojoClass.getPojoFields();
+          }
+        }));
+      }
+      for (Future<List<PojoField>> result : results)
+        Affirm.affirmTrue("Every thread should see the same fields", result.get() == pojoClass.getPojoFields());
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void getPojoConstructorsShouldReturnAFreshCopy() {
+    PojoClass pojoClass = new PojoClassImpl(AClassWithSythetics.class);
+    List<PojoMethod> constructors = pojoClass.getPojoConstructors();
+    constructors.clear();
+    Affirm.affirmEquals("Expected 2 constructors", 2, pojoClass.getPojoConstructors().size());
+  }
+
   private static PojoClass getPojoClassImplForClass(final Class<?> clazz) {
     return PojoClassFactory.getPojoClass(clazz);
   }
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.io.File;
+import java.io.IOException;
+
+import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.impl.sample.classes.PojoFieldImplClass;
+import com.openpojo.validation.affirm.Affirm;
+import org.junit.Test;
+
+/**
+ * Benchmark for PojoFieldFactory.getPojoFields, comparing getter / setter discovery with rehydration from a snapshot.
+ *
+ * @author oshoukry
+ */
+public class PojoClassSnapshotBenchmark {
+  private static final int WARM_UP = 2000;
+  private static final int ITERATIONS = 20000;
+  private static final Class<?> CLAZZ = PojoFieldImplClass.class;
+
+  @Test
+  public void rehydrationShouldResolveSameFields() throws IOException {
+    File snapshotFile = File.createTempFile(PojoClassSnapshotBenchmark.class.getSimpleName(), ".bin");
+    try {
+      for (int i = 0; i < WARM_UP; i++)
+        PojoFieldFactory.getPojoFields(CLAZZ);
+
+      long start = System.nanoTime();
+      for (int i = 0; i < ITERATIONS; i++)
+        PojoFieldFactory.getPojoFields(CLAZZ);
+      long discoveryCost = (System.nanoTime() - start) / ITERATIONS;
+
+      PojoClassSnapshot.open(snapshotFile);
+      PojoFieldFactory.getPojoFields(CLAZZ);
+      Affirm.affirmNotNull("Shape should have been recorded", PojoClassSnapshot.getShape(CLAZZ, CLAZZ.getDeclaredFields(),
+          PojoMethodFactory.getPojoMethods(CLAZZ), PojoMethodFactory.getPojoMethodIndex(CLAZZ)));
+
+      for (int i = 0; i < WARM_UP; i++)
+        PojoFieldFactory.getPojoFields(CLAZZ);
+
+      start = System.nanoTime();
+      for (int i = 0; i < ITERATIONS; i++)
+        PojoFieldFactory.getPojoFields(CLAZZ);
+      long rehydrationCost = (System.nanoTime() - start) / ITERATIONS;
+
+      LoggerFactory.getLogger(PojoClassSnapshotBenchmark.class).info("getPojoFields for [{0}] per class: "
+          + "discovery [{1}ns], snapshot rehydration [{2}ns]", CLAZZ.getName(), discoveryCost, rehydrationCost);
+    } finally {
+      PojoClassSnapshot.close();
+      snapshotFile.delete();
+    }
+  }
+}
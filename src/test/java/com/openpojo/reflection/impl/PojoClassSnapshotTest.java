@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.List;
+
+import com.openpojo.reflection.PojoField;
+import com.openpojo.reflection.PojoMethod;
+import com.openpojo.reflection.impl.sample.classes.PojoFieldImplClass;
+import com.openpojo.reflection.utils.AttributeHelper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class PojoClassSnapshotTest {
+  private static final Class<?> CLAZZ = PojoFieldImplClass.class;
+  private File snapshotFile;
+
+  @Before
+  public void setUp() throws IOException {
+    snapshotFile = File.createTempFile(PojoClassSnapshotTest.class.getSimpleName(), ".bin");
+    Assert.assertTrue(snapshotFile.delete());
+  }
+
+  @After
+  public void tearDown() {
+    PojoClassSnapshot.close();
+    AttributeHelper.clearRegistry();
+    snapshotFile.delete();
+  }
+
+  @Test
+  public void shouldNotRecordWhenClosed() {
+    PojoFieldFactory.getPojoFields(CLAZZ);
+    Assert.assertFalse(PojoClassSnapshot.isOpen());
+    Assert.assertNull(getShape());
+  }
+
+  @Test
+  public void shouldRecordIntrospectedClasses() {
+    PojoClassSnapshot.open(snapshotFile);
+    Assert.assertNull(getShape());
+
+    PojoFieldFactory.getPojoFields(CLAZZ);
+    Assert.assertNotNull(getShape());
+  }
+
+  @Test
+  public void shouldRehydrateSameFieldsFromSavedSnapshot() {
+    List<PojoField> introspected = PojoFieldFactory.getPojoFields(CLAZZ);
+
+    PojoClassSnapshot.open(snapshotFile);
+    PojoFieldFactory.getPojoFields(CLAZZ);
+    PojoClassSnapshot.save();
+    Assert.assertTrue(snapshotFile.isFile());
+
+    PojoClassSnapshot.close();
+    PojoClassSnapshot.open(snapshotFile);
+    Assert.assertNotNull(getShape());
+
+    List<PojoField> rehydrated = PojoFieldFactory.getPojoFields(CLAZZ);
+    Assert.assertEquals(introspected.size(), rehydrated.size());
+    for (int index = 0; index < introspected.size(); index++) {
+      Assert.assertEquals(introspected.get(index).getName(), rehydrated.get(index).getName());
+      Assert.assertEquals(String.valueOf(introspected.get(index).getGetter()),
+          String.valueOf(rehydrated.get(index).getGetter()));
+      Assert.assertEquals(String.valueOf(introspected.get(index).getSetter()),
+          String.valueOf(rehydrated.get(index).getSetter()));
+    }
+  }
+
+  @Test
+  public void shouldIgnoreShapesRecordedUnderOtherFieldPrefixes() {
+    PojoClassSnapshot.open(snapshotFile);
+    PojoFieldFactory.getPojoFields(CLAZZ);
+    Assert.assertNotNull(getShape());
+
+    AttributeHelper.registerFieldPrefix("m");
+    Assert.assertNull(getShape());
+  }
+
+  @Test
+  public void shouldIgnoreShapesThatNoLongerDescribeTheClass() {
+    PojoClassSnapshot.open(snapshotFile);
+    PojoFieldFactory.getPojoFields(CLAZZ);
+
+    List<PojoMethod> noMethods = PojoMethodFactory.getPojoMethods(Object.class);
+    Assert.assertNull(PojoClassSnapshot.getShape(CLAZZ, CLAZZ.getDeclaredFields(), noMethods,
+        new PojoMethodIndex(noMethods)));
+    Assert.assertNull(PojoClassSnapshot.getShape(CLAZZ, new Field[0], getPojoMethods(), getPojoMethodIndex()));
+  }
+
+  @Test
+  public void shouldTreatUnreadableSnapshotAsEmpty() throws IOException {
+    FileOutputStream out = new FileOutputStream(snapshotFile);
+    out.write("not a snapshot".getBytes());
+    out.close();
+
+    PojoClassSnapshot.open(snapshotFile);
+    Assert.assertTrue(PojoClassSnapshot.isOpen());
+    Assert.assertNull(getShape());
+  }
+
+  @Test
+  public void memberHashShouldBeStable() {
+    long hash = PojoClassSnapshot.getMemberHash(CLAZZ.getDeclaredFields(), getPojoMethods());
+    Assert.assertEquals(hash, PojoClassSnapshot.getMemberHash(CLAZZ.getDeclaredFields(), getPojoMethods()));
+    Assert.assertFalse(hash == PojoClassSnapshot.getMemberHash(CLAZZ.getDeclaredFields(),
+        PojoMethodFactory.getPojoMethods(Object.class)));
+  }
+
+  private static PojoClassShape getShape() {
+    return PojoClassSnapshot.getShape(CLAZZ, CLAZZ.getDeclaredFields(), getPojoMethods(), getPojoMethodIndex());
+  }
+
+  private static List<PojoMethod> getPojoMethods() {
+    return PojoMethodFactory.getPojoMethods(CLAZZ);
+  }
+
+  private static PojoMethodIndex getPojoMethodIndex() {
+    return PojoMethodFactory.getPojoMethodIndex(CLAZZ);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
+import com.openpojo.reflection.java.bytecode.asm.sample.AClassWithPublicFields;
+import com.openpojo.reflection.utils.ToStringHelper;
+import com.openpojo.validation.affirm.Affirm;
+import org.junit.Test;
+
+/**
+ * Benchmark for PojoClass.toString(instance), comparing the formatting helper with the prebuilt renderer, with and
+ * without generated field appenders.
+ *
+ * @author oshoukry
+ */
+public class PojoClassToStringBenchmark {
+  private static final int WARM_UP = 20000;
+  private static final int ITERATIONS = 200000;
+
+  @Test
+  public void prebuiltToStringShouldRenderLikeHelper() {
+    PojoClass pojoClass = PojoClassFactory.getPojoClass(AClassWithPublicFields.class);
+    PojoClassToString reflected = new PojoClassToString(pojoClass.getClazz(), pojoClass.getName(),
+        pojoClass.getPojoFields());
+    PojoClassToString compiled;
+    ByteCodeFactory.setFieldAppenderEnabled(true);
+    try {
+      compiled = new PojoClassToString(pojoClass.getClazz(), pojoClass.getName(), pojoClass.getPojoFields());
+    } finally {
+      ByteCodeFactory.setFieldAppenderEnabled(false);
+    }
+
+    AClassWithPublicFields instance = new AClassWithPublicFields();
+    instance.intField = 42;
+    instance.longField = 1234567890123L;
+    instance.doubleField = 3.25d;
+    instance.stringField = "some value";
+
+    String expected = ToStringHelper.pojoClassToString(pojoClass, instance);
+    Affirm.affirmEquals("Reflected rendering mismatch", expected, reflected.toString(instance));
+    Affirm.affirmEquals("Compiled rendering mismatch", expected, compiled.toString(instance));
+
+    for (int i = 0; i < WARM_UP; i++) {
+      ToStringHelper.pojoClassToString(pojoClass, instance);
+      reflected.toString(instance);
+      compiled.toString(instance);
+    }
+
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      ToStringHelper.pojoClassToString(pojoClass, instance);
+    long helperCost = (System.nanoTime() - start) / ITERATIONS;
+
+    start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      reflected.toString(instance);
+    long reflectedCost = (System.nanoTime() - start) / ITERATIONS;
+
+    start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      compiled.toString(instance);
+    long compiledCost = (System.nanoTime() - start) / ITERATIONS;
+
+    LoggerFactory.getLogger(PojoClassToStringBenchmark.class).info("toString of [{0}] per instance: helper "
+        + "[{1}ns], prebuilt [{2}ns], generated appender [{3}ns]", pojoClass.getName(), helperCost, reflectedCost,
+        compiledCost);
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.cache.PojoCache;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
+import com.openpojo.reflection.java.bytecode.asm.sample.AClassWithAccessors;
+import com.openpojo.reflection.java.bytecode.asm.sample.AClassWithPublicFields;
+import com.openpojo.reflection.utils.ToStringHelper;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class PojoClassToStringTest {
+
+  @Before
+  public void setUp() {
+    PojoCache.clear();
+    ByteCodeFactory.setFieldAppenderEnabled(true);
+  }
+
+  @After
+  public void tearDown() {
+    ByteCodeFactory.setFieldAppenderEnabled(false);
+    PojoCache.clear();
+  }
+
+  @Test
+  public void shouldCompileWhenEnabled() {
+    PojoClass pojoClass = PojoClassFactory.getPojoClass(AClassWithPublicFields.class);
+    Assert.assertTrue(newPojoClassToString(pojoClass).isCompiled());
+
+    ByteCodeFactory.setFieldAppenderEnabled(false);
+    Assert.assertFalse(newPojoClassToString(pojoClass).isCompiled());
+  }
+
+  @Test
+  public void compiledShouldRenderLikeToStringHelper() {
+    PojoClass pojoClass = PojoClassFactory.getPojoClass(AClassWithPublicFields.class);
+    AClassWithPublicFields instance = new AClassWithPublicFields();
+    instance.intField = 7;
+    instance.longField = 11L;
+    instance.charField = 'x';
+    instance.stringField = "some string";
+    instance.intArrayField = new int[] { 3, 5 };
+
+    PojoClassToString pojoClassToString = newPojoClassToString(pojoClass);
+    Assert.assertTrue(pojoClassToString.isCompiled());
+    Assert.assertEquals(ToStringHelper.pojoClassToString(pojoClass, instance), pojoClassToString.toString(instance));
+  }
+
+  @Test
+  public void reflectedShouldRenderLikeToStringHelper() {
+    ByteCodeFactory.setFieldAppenderEnabled(false);
+    PojoClass pojoClass = PojoClassFactory.getPojoClass(AClassWithAccessors.class);
+    AClassWithAccessors instance = new AClassWithAccessors();
+    instance.setName("name");
+    instance.setCount(3);
+
+    PojoClassToString pojoClassToString = newPojoClassToString(pojoClass);
+    Assert.assertFalse(pojoClassToString.isCompiled());
+    Assert.assertEquals(ToStringHelper.pojoClassToString(pojoClass, instance), pojoClassToString.toString(instance));
+    Assert.assertEquals(ToStringHelper.pojoClassToString(pojoClass, instance), pojoClass.toString(instance));
+  }
+
+  @Test
+  public void shouldRenderClassWithoutFields() {
+    PojoClass pojoClass = PojoClassFactory.getPojoClass(Object.class);
+    Object instance = new Object();
+    Assert.assertEquals(ToStringHelper.pojoClassToString(pojoClass, instance), pojoClass.toString(instance));
+  }
+
+  private static PojoClassToString newPojoClassToString(PojoClass pojoClass) {
+    return new PojoClassToString(pojoClass.getClazz(), pojoClass.getName(), pojoClass.getPojoFields());
+  }
+}
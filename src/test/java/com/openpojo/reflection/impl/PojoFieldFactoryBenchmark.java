@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.lang.reflect.Field;
+
+import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.impl.sample.classes.PojoFieldImplClass;
+import com.openpojo.validation.affirm.Affirm;
+import org.junit.Test;
+
+import static com.openpojo.reflection.utils.AttributeHelper.getFieldNameVariations;
+
+/**
+ * Benchmark for getter / setter resolution per class, comparing the linear per candidate lookup with the per class
+ * method index.
+ *
+ * @author oshoukry
+ */
+public class PojoFieldFactoryBenchmark {
+  private static final int WARM_UP = 2000;
+  private static final int ITERATIONS = 20000;
+  private static final Class<?> CLAZZ = PojoFieldImplClass.class;
+
+  @Test
+  public void indexedLookupShouldResolveAllAccessors() {
+    long linear = 0;
+    long indexed = 0;
+
+    for (int i = 0; i < WARM_UP; i++) {
+      linear += resolveLinear(CLAZZ);
+      indexed += resolveIndexed(CLAZZ);
+    }
+    Affirm.affirmEquals("Index resolved a different number of accessors", linear, indexed);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      resolveLinear(CLAZZ);
+    long linearCost = (System.nanoTime() - start) / ITERATIONS;
+
+    start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      resolveIndexed(CLAZZ);
+    long indexedCost = (System.nanoTime() - start) / ITERATIONS;
+
+    LoggerFactory.getLogger(PojoFieldFactoryBenchmark.class).info("Accessor resolution for [{0}] per class: "
+        + "linear lookup [{1}ns], indexed lookup [{2}ns]", CLAZZ.getName(), linearCost, indexedCost);
+  }
+
+  /**
+   * Mimics the lookup prior to the method index, where every candidate name rebuilt all the methods of the class.
+   */
+  private static int resolveLinear(Class<?> clazz) {
+    int found = 0;
+    for (Field field : clazz.getDeclaredFields()) {
+      for (String variation : getFieldNameVariations(field)) {
+        if (PojoMethodFactory.getMethod(clazz, "get" + variation) != null)
+          found++;
+        if (PojoMethodFactory.getMethod(clazz, "set" + variation, field.getType()) != null)
+          found++;
+      }
+    }
+    return found;
+  }
+
+  private static int resolveIndexed(Class<?> clazz) {
+    int found = 0;
+    PojoMethodIndex index = PojoMethodFactory.getPojoMethodIndex(clazz);
+    for (Field field : clazz.getDeclaredFields()) {
+      for (String variation : getFieldNameVariations(field)) {
+        if (index.getMethod("get" + variation) != null)
+          found++;
+        if (index.getMethod("set" + variation, field.getType()) != null)
+          found++;
+      }
+    }
+    return found;
+  }
+}
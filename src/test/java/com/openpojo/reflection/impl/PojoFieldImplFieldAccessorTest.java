@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.PojoField;
+import com.openpojo.reflection.cache.PojoCache;
+import com.openpojo.reflection.exception.ReflectionException;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
+import com.openpojo.reflection.java.bytecode.asm.sample.AClassWithPublicFields;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class PojoFieldImplFieldAccessorTest {
+  private PojoClass pojoClass;
+
+  @Before
+  public void setUp() {
+    PojoCache.clear();
+    ByteCodeFactory.setFieldAccessorEnabled(true);
+    pojoClass = PojoClassFactory.getPojoClass(AClassWithPublicFields.class);
+  }
+
+  @After
+  public void tearDown() {
+    ByteCodeFactory.setFieldAccessorEnabled(false);
+    PojoCache.clear();
+  }
+
+  @Test
+  public void shouldGetAndSetThroughAccessor() {
+    AClassWithPublicFields instance = new AClassWithPublicFields();
+    getPojoField("stringField").set(instance, "value");
+    getPojoField("intField").set(instance, 10);
+    Assert.assertEquals("value", instance.stringField);
+    Assert.assertEquals(10, instance.intField);
+    Assert.assertEquals("value", getPojoField("stringField").get(instance));
+    Assert.assertEquals(10, getPojoField("intField").get(instance));
+  }
+
+  @Test
+  public void shouldFallBackToReflectionForNonPublicFields() {
+    AClassWithPublicFields instance = new AClassWithPublicFields();
+    PojoField privateField = getPojoField("privateField");
+    privateField.set(instance, "private");
+    Assert.assertEquals("private", privateField.get(instance));
+  }
+
+  @Test
+  public void shouldWidenPrimitivesLikeReflection() {
+    AClassWithPublicFields instance = new AClassWithPublicFields();
+    getPojoField("longField").set(instance, 5);
+    Assert.assertEquals(5L, instance.longField);
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void setWithInvalidValueShouldThrowReflectionException() {
+    getPojoField("intField").set(new AClassWithPublicFields(), "not an int");
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void setPrimitiveToNullShouldThrowReflectionException() {
+    getPojoField("intField").set(new AClassWithPublicFields(), null);
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void getOnNullInstanceShouldThrowReflectionException() {
+    getPojoField("stringField").get(null);
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void getOnWrongInstanceShouldThrowReflectionException() {
+    getPojoField("stringField").get(new Object());
+  }
+
+  private PojoField getPojoField(String name) {
+    for (PojoField pojoField : pojoClass.getPojoFields())
+      if (pojoField.getName().equals(name))
+        return pojoField;
+    throw new IllegalArgumentException("No field named " + name);
+  }
+}
@@ -30,11 +30,14 @@ import com.openpojo.reflection.PojoMethod;
 import com.openpojo.reflection.construct.InstanceFactory;
 import com.openpojo.reflection.exception.ReflectionException;
 import com.openpojo.reflection.impl.sample.classes.AClassWithFields;
+import com.openpojo.reflection.impl.sample.classes.AClassWithMissingGenericTypeDump;
 import com.openpojo.reflection.impl.sample.annotation.SomeAnnotation;
 import com.openpojo.reflection.impl.sample.classes.AClassWithSyntheticField;
 import com.openpojo.reflection.impl.sample.classes.AClassWithVariousAnnotatedFields;
 import com.openpojo.reflection.impl.sample.classes.ClassWithGenericTypes;
 import com.openpojo.reflection.impl.sample.classes.PojoFieldImplClass;
+import com.openpojo.reflection.java.Java;
+import com.openpojo.reflection.java.bytecode.asm.SimpleClassLoader;
 import com.openpojo.validation.affirm.Affirm;
 import org.junit.Before;
 import org.junit.Test;
@@ -325,4 +328,26 @@ public class PojoFieldImplTest {
       Affirm.affirmEquals("Failed to get PojoClass from field ["+ field + "]", pojoClassWithFields, field.getDeclaringPojoClass());
     }
   }
+
+  @Test
+  public void shouldOnlyResolveGenericTypeWhenAskedIfParameterized() throws Exception {
+    final String className = this.getClass().getPackage().getName() + ".AClassWithMissingGenericType";
+    final String classNameAsPath = className.replace(Java.PACKAGE_DELIMITER, Java.PATH_DELIMITER);
+    final Class<?> clazz = new SimpleClassLoader().loadThisClass(AClassWithMissingGenericTypeDump.dump(classNameAsPath),
+        className);
+
+    PojoClass pojoClassWithMissingType = PojoClassFactory.getPojoClass(clazz);
+    Affirm.affirmEquals("Failed to find field in class[" + pojoClassWithMissingType + "]", 1, pojoClassWithMissingType
+        .getPojoFields().size());
+
+    PojoField pojoField = pojoClassWithMissingType.getPojoFields().get(0);
+    Affirm.affirmEquals("Invalid field type", List.class, pojoField.getType());
+    try {
+      pojoField.isParameterized();
+      Affirm.fail("Should have failed to resolve missing generic type for field [" + pojoField + "]");
+    } catch (TypeNotPresentException expected) {
+      Affirm.affirmTrue("Unexpected missing type [" + expected.typeName() + "]",
+          expected.typeName().endsWith("AMissingType"));
+    }
+  }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.LinkedList;
+import java.util.List;
+
+import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.filters.FilterNonConcrete;
+import com.openpojo.validation.affirm.Affirm;
+import com.openpojo.validation.rule.Rule;
+import com.openpojo.validation.rule.impl.NoPrimitivesRule;
+import com.openpojo.validation.rule.impl.NoPublicFieldsRule;
+import org.junit.Test;
+
+/**
+ * Benchmark for the filter and rule hot loops that only look at modifiers and types, comparing the snapshot flags on
+ * PojoClass / PojoField with asking the JVM on every check.
+ *
+ * @author oshoukry
+ */
+public class PojoFlagsBenchmark {
+  private static final String SCANNED_PACKAGE = "com.openpojo.reflection";
+  private static final int WARM_UP = 200;
+  private static final int ITERATIONS = 2000;
+  private static final PojoClassFilter FILTER = new FilterNonConcrete();
+  private static final Rule[] RULES = new Rule[] { new NoPublicFieldsRule(), new NoPrimitivesRule() };
+
+  @Test
+  public void snapshotFlagsShouldMatchTheJVM() {
+    final List<PojoClass> pojoClasses = PojoClassFactory.getPojoClassesRecursively(SCANNED_PACKAGE, null);
+    final List<PojoClass> passingRules = new LinkedList<PojoClass>();
+    final List<Field[]> passingRulesFields = new LinkedList<Field[]>();
+    for (PojoClass pojoClass : pojoClasses) {
+      if (passesRules(pojoClass)) {
+        passingRules.add(pojoClass);
+        passingRulesFields.add(pojoClass.getClazz().getDeclaredFields());
+      }
+    }
+
+    int snapshot = 0;
+    int jvm = 0;
+    for (int i = 0; i < WARM_UP; i++) {
+      snapshot += runSnapshot(pojoClasses, passingRules);
+      jvm += runJVM(pojoClasses, passingRulesFields);
+    }
+    Affirm.affirmEquals("Snapshot flags disagree with the JVM", jvm, snapshot);
+
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      runJVM(pojoClasses, passingRulesFields);
+    long jvmCost = (System.nanoTime() - start) / ITERATIONS / 1000;
+
+    start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++)
+      runSnapshot(pojoClasses, passingRules);
+    long snapshotCost = (System.nanoTime() - start) / ITERATIONS / 1000;
+
+    LoggerFactory.getLogger(PojoFlagsBenchmark.class).info("Filter over [{0}] classes and rules over [{1}] "
+        + "classes: JVM lookups [{2}us], snapshot flags [{3}us]", pojoClasses.size(), passingRules.size(), jvmCost,
+        snapshotCost);
+  }
+
+  private static boolean passesRules(PojoClass pojoClass) {
+    try {
+      for (Rule rule : RULES)
+        rule.evaluate(pojoClass);
+      return true;
+    } catch (AssertionError ignored) {
+      return false;
+    }
+  }
+
+  private static int runSnapshot(List<PojoClass> pojoClasses, List<PojoClass> passingRules) {
+    int concrete = 0;
+    for (PojoClass pojoClass : pojoClasses)
+      if (FILTER.include(pojoClass))
+        concrete++;
+
+    for (PojoClass pojoClass : passingRules)
+      for (Rule rule : RULES)
+        rule.evaluate(pojoClass);
+    return concrete;
+  }
+
+  /**
+   * Mimics the checks prior to the snapshot flags, where every check went back to the class or field.
+   */
+  private static int runJVM(List<PojoClass> pojoClasses, List<Field[]> passingRulesFields) {
+    int concrete = 0;
+    for (PojoClass pojoClass : pojoClasses) {
+      Class<?> clazz = pojoClass.getClazz();
+      boolean isAbstract = Modifier.isAbstract(clazz.getModifiers()) && !clazz.isInterface();
+      if (!(isAbstract || clazz.isInterface() || clazz.isEnum()))
+        concrete++;
+    }
+
+    for (Field[] fields : passingRulesFields) {
+      for (Field field : fields) {
+        if (Modifier.isPublic(field.getModifiers()))
+          Affirm.fail("public");
+        if (field.getType().isPrimitive()
+            && !(Modifier.isStatic(field.getModifiers()) && Modifier.isFinal(field.getModifiers())))
+          Affirm.fail("primitive");
+      }
+    }
+    return concrete;
+  }
+}
@@ -264,4 +264,23 @@ public class PojoMethodImplTest {
     Assert.assertEquals(1, pojoClass.getPojoFields().size());
     Assert.assertFalse(pojoField.hasGetter());
   }
+
+  @Test
+  public void shouldReturnParameterCountMatchingPojoParameters() {
+    for (PojoMethod pojoMethod : pojoClass.getPojoMethods())
+      Assert.assertEquals(pojoMethod.getPojoParameters().size(), pojoMethod.getParameterCount());
+    for (PojoMethod pojoMethod : pojoClass.getPojoConstructors())
+      Assert.assertEquals(pojoMethod.getParameterTypes().length, pojoMethod.getParameterCount());
+  }
+
+  @Test
+  public void shouldBuildPojoParametersOnce() {
+    for (PojoMethod pojoMethod : pojoClass.getPojoMethods())
+      Assert.assertSame(pojoMethod.getPojoParameters(), pojoMethod.getPojoParameters());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void pojoParametersShouldNotBeModifiable() {
+    pojoClass.getPojoConstructors().get(0).getPojoParameters().clear();
+  }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.impl;
+
+import java.lang.reflect.Field;
+
+import com.openpojo.reflection.PojoMethod;
+import com.openpojo.reflection.impl.sample.classes.AClassWithSixMethods;
+import com.openpojo.reflection.impl.sample.classes.PojoFieldImplClass;
+import com.openpojo.validation.affirm.Affirm;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class PojoMethodIndexTest {
+  private PojoMethodIndex pojoMethodIndex;
+
+  @Before
+  public void setUp() {
+    pojoMethodIndex = PojoMethodFactory.getPojoMethodIndex(PojoFieldImplClass.class);
+  }
+
+  @Test
+  public void shouldFindMethodByNameAndNoParameters() {
+    PojoMethod getter = pojoMethodIndex.getMethod("getNonStaticNonFinal");
+    Affirm.affirmNotNull("Getter not indexed", getter);
+    Affirm.affirmEquals("Wrong method returned", "getNonStaticNonFinal", getter.getName());
+    Affirm.affirmEquals("Wrong method returned", 0, getter.getParameterTypes().length);
+  }
+
+  @Test
+  public void shouldFindMethodByNameAndParameters() {
+    PojoMethod setter = pojoMethodIndex.getMethod("setNonStaticNonFinal", String.class);
+    Affirm.affirmNotNull("Setter not indexed", setter);
+    Affirm.affirmEquals("Wrong method returned", "setNonStaticNonFinal", setter.getName());
+  }
+
+  @Test
+  public void shouldReturnNullOnParameterMismatch() {
+    Affirm.affirmNull("Should not match on wrong parameter type", pojoMethodIndex.getMethod("setNonStaticNonFinal",
+        Integer.class));
+    Affirm.affirmNull("Should not match on missing parameter", pojoMethodIndex.getMethod("setNonStaticNonFinal"));
+  }
+
+  @Test
+  public void shouldReturnNullOnUnknownName() {
+    Affirm.affirmNull("Should not find non existing method", pojoMethodIndex.getMethod("someNonExistingMethod"));
+  }
+
+  @Test
+  public void shouldIndexConstructors() {
+    PojoMethod constructor = pojoMethodIndex.getMethod(PojoFieldImplClass.class.getName());
+    Affirm.affirmNotNull("Default constructor not indexed", constructor);
+    Affirm.affirmTrue("Constructor expected", constructor.isConstructor());
+  }
+
+  @Test
+  public void shouldResolveSameAccessorsAsLinearLookup() throws NoSuchFieldException {
+    for (Class<?> clazz : new Class<?>[] { PojoFieldImplClass.class, AClassWithSixMethods.class }) {
+      PojoMethodIndex index = PojoMethodFactory.getPojoMethodIndex(clazz);
+      for (Field field : clazz.getDeclaredFields()) {
+        assertSameMethod(PojoMethodFactory.getFieldGetter(field), PojoMethodFactory.getFieldGetter(field, index));
+        assertSameMethod(PojoMethodFactory.getFieldSetter(field), PojoMethodFactory.getFieldSetter(field, index));
+      }
+    }
+  }
+
+  private static void assertSameMethod(PojoMethod expected, PojoMethod actual) {
+    if (expected == null) {
+      Affirm.affirmNull("Expected no method but found [" + actual + "]", actual);
+      return;
+    }
+    Affirm.affirmNotNull("Expected [" + expected + "] but found none", actual);
+    Affirm.affirmEquals("Method name mismatch", expected.getName(), actual.getName());
+    Affirm.affirmEquals("Method signature mismatch", expected.toString(), actual.toString());
+  }
+}
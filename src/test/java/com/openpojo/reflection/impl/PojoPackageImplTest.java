@@ -39,7 +39,7 @@ import org.junit.Test;
  */
 public class PojoPackageImplTest {
 
-  private static final int EXPECTED_CLASSES = 61;
+  private static final int EXPECTED_CLASSES = 64;
 
   private String packageName;
   private String expectedToString;
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm;
+
+import java.io.ByteArrayInputStream;
+import java.io.Serializable;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.openpojo.reflection.ClassDescriptor;
+import com.openpojo.reflection.filters.sampleclasses.SampleAbstract;
+import com.openpojo.reflection.filters.sampleclasses.SampleAnnotation;
+import com.openpojo.reflection.filters.sampleclasses.SampleClass;
+import com.openpojo.reflection.filters.sampleclasses.SampleEnum;
+import com.openpojo.reflection.filters.sampleclasses.SampleInterface;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
+import org.junit.Assert;
+import org.junit.Test;
+import org.objectweb.asm.ClassWriter;
+
+import static org.objectweb.asm.Opcodes.*;
+
+/**
+ * @author oshoukry
+ */
+public class ClassDescriptorReaderTest {
+  private static final Object ANONYMOUS = new Serializable() {
+  };
+
+  @Test
+  public void shouldDescribeClassesSameAsReflection() {
+    class LocalClass {
+    }
+
+    List<Class<?>> classes = new ArrayList<Class<?>>();
+    classes.add(SampleAbstract.class);
+    classes.add(SampleAnnotation.class);
+    classes.add(SampleClass.class);
+    classes.add(SampleEnum.class);
+    classes.add(SampleInterface.class);
+    classes.add(StaticNestedClass.class);
+    classes.add(InnerClass.class);
+    classes.add(PrivateNestedClass.class);
+    classes.add(AnnotatedClass.class);
+    classes.add(LocalClass.class);
+    classes.add(ANONYMOUS.getClass());
+    classes.add(ClassDescriptorReaderTest.class);
+    classes.add(String.class);
+
+    for (Class<?> clazz : classes) {
+      ClassDescriptor classDescriptor = ByteCodeFactory.getClassDescriptor(clazz.getName());
+      Assert.assertNotNull("No descriptor for " + clazz, classDescriptor);
+
+      Assert.assertEquals(clazz.getName(), classDescriptor.getName());
+      Assert.assertEquals("Modifiers mismatch for " + clazz, clazz.getModifiers(), classDescriptor.getModifiers());
+      Assert.assertEquals(clazz.getSuperclass() == null ? null : clazz.getSuperclass().getName(),
+          classDescriptor.getSuperClassName());
+      Assert.assertEquals(getNames(clazz.getInterfaces()), classDescriptor.getInterfaceNames());
+      Assert.assertEquals(clazz.isInterface(), classDescriptor.isInterface());
+      Assert.assertEquals(clazz.isEnum(), classDescriptor.isEnum());
+      Assert.assertEquals(clazz.isSynthetic(), classDescriptor.isSynthetic());
+      Assert.assertEquals("Nested mismatch for " + clazz, clazz.getEnclosingClass() != null,
+          classDescriptor.isNestedClass());
+      Assert.assertEquals(clazz.getDeclaredFields().length, classDescriptor.getFieldSignatures().size());
+    }
+  }
+
+  @Test
+  public void shouldDescribeMembersAndAnnotations() {
+    ClassDescriptor classDescriptor = ByteCodeFactory.getClassDescriptor(AnnotatedClass.class.getName());
+
+    Assert.assertEquals(2, classDescriptor.getAnnotationNames().size());
+    Assert.assertTrue(classDescriptor.getAnnotationNames().contains(Deprecated.class.getName()));
+    Assert.assertTrue(classDescriptor.getAnnotationNames().contains(SampleAnnotation.class.getName()));
+    Assert.assertEquals(1, classDescriptor.getFieldSignatures().size());
+    Assert.assertEquals("count:I", classDescriptor.getFieldSignatures().get(0));
+    Assert.assertTrue(classDescriptor.getMethodSignatures().contains("<init>()V"));
+    Assert.assertTrue(classDescriptor.getMethodSignatures().contains("setCount(I)V"));
+    Assert.assertTrue(classDescriptor.getMethodSignatures().contains("getCount()I"));
+  }
+
+  @Test
+  public void shouldReturnNullWhenClassFileIsMissingOrInvalid() {
+    Assert.assertNull(ByteCodeFactory.getClassDescriptor("com.openpojo.DoesNotExist" + System.nanoTime()));
+    Assert.assertNull(ByteCodeFactory.getClassDescriptor((String) null));
+    Assert.assertNull(ByteCodeFactory.getClassDescriptor(new java.io.ByteArrayInputStream(new byte[] { 1, 2, 3 })));
+  }
+
+  @Test
+  public void shouldDescribeJava11NestMates() {
+    ClassDescriptor nestHost = ByteCodeFactory.getClassDescriptor(new ByteArrayInputStream(
+        getNestMateByteCode("com/openpojo/generated/NestHost", null, "com/openpojo/generated/NestHost$Member")));
+    Assert.assertNotNull(nestHost);
+    Assert.assertEquals("com.openpojo.generated.NestHost", nestHost.getName());
+    Assert.assertFalse(nestHost.isNestedClass());
+
+    ClassDescriptor nestMember = ByteCodeFactory.getClassDescriptor(new ByteArrayInputStream(
+        getNestMateByteCode("com/openpojo/generated/NestHost$Member", "com/openpojo/generated/NestHost", null)));
+    Assert.assertNotNull(nestMember);
+    Assert.assertEquals("com.openpojo.generated.NestHost$Member", nestMember.getName());
+    Assert.assertEquals(Modifier.PUBLIC | Modifier.STATIC, nestMember.getModifiers());
+    Assert.assertTrue(nestMember.isNestedClass());
+  }
+
+  private static byte[] getNestMateByteCode(String name, String nestHost, String nestMember) {
+    ClassWriter cw = new ClassWriter(0);
+    cw.visit(V11, ACC_PUBLIC | ACC_SUPER, name, null, "java/lang/Object", null);
+    if (nestHost != null) {
+      cw.visitNestHost(nestHost);
+      cw.visitInnerClass(name, nestHost, "Member", ACC_PUBLIC | ACC_STATIC);
+    }
+    if (nestMember != null) {
+      cw.visitNestMember(nestMember);
+      cw.visitInnerClass(nestMember, name, "Member", ACC_PUBLIC | ACC_STATIC);
+    }
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+  private static List<String> getNames(Class<?>[] classes) {
+    List<String> names = new ArrayList<String>();
+    for (Class<?> clazz : classes)
+      names.add(clazz.getName());
+    return names;
+  }
+
+  public static class StaticNestedClass {
+  }
+
+  @SuppressWarnings("unused")
+  private static abstract class PrivateNestedClass implements Comparable<String>, Serializable {
+  }
+
+  public class InnerClass {
+  }
+
+  @Deprecated
+  @SampleAnnotation
+  public static class AnnotatedClass {
+    private int count;
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+  }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import com.openpojo.reflection.exception.ReflectionException;
+import com.openpojo.reflection.java.bytecode.Copier;
+import com.openpojo.reflection.java.bytecode.asm.sample.AClassWithAccessors;
+import com.openpojo.reflection.java.bytecode.asm.sample.AClassWithThrowingSetter;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class CopierTest {
+  private static final Class<?> CLAZZ = AClassWithAccessors.class;
+  private Copier copier;
+
+  @Before
+  public void setUp() throws Exception {
+    Method[] getters = new Method[] {
+        CLAZZ.getDeclaredMethod("getName"),
+        CLAZZ.getDeclaredMethod("getCount"),
+        CLAZZ.getDeclaredMethod("getTotal"),
+        CLAZZ.getDeclaredMethod("isActive"),
+        CLAZZ.getDeclaredMethod("getSecret") };
+    Method[] setters = new Method[] {
+        CLAZZ.getDeclaredMethod("setName", String.class),
+        CLAZZ.getDeclaredMethod("setCount", int.class),
+        CLAZZ.getDeclaredMethod("setTotal", long.class),
+        CLAZZ.getDeclaredMethod("setActive", boolean.class),
+        CLAZZ.getDeclaredMethod("setSecret", String.class) };
+    copier = ASMService.getInstance().createCopierFor(CLAZZ, getters, setters);
+  }
+
+  @Test
+  public void shouldGenerateCopier() {
+    Assert.assertNotNull(copier);
+    Assert.assertTrue(copier.getClass().getName().endsWith(ASMService.COPIER_POSTFIX));
+  }
+
+  @Test
+  public void shouldOnlyCopyThroughPublicAccessors() {
+    for (int index = 0; index < 4; index++)
+      Assert.assertTrue(copier.canCopy(index));
+    Assert.assertFalse(copier.canCopy(4));
+    Assert.assertFalse(copier.canCopy(-1));
+    Assert.assertFalse(copier.canCopy(5));
+  }
+
+  @Test
+  public void shouldCopyPublicProperties() {
+    AClassWithAccessors from = new AClassWithAccessors();
+    from.setName("name");
+    from.setCount(3);
+    from.setTotal(Long.MAX_VALUE);
+    from.setActive(true);
+
+    AClassWithAccessors to = new AClassWithAccessors();
+    copier.copy(from, to);
+
+    Assert.assertEquals("name", to.getName());
+    Assert.assertEquals(3, to.getCount());
+    Assert.assertEquals(Long.MAX_VALUE, to.getTotal());
+    Assert.assertTrue(to.isActive());
+  }
+
+  @Test
+  public void shouldCopySinglePropertyByIndex() {
+    AClassWithAccessors from = new AClassWithAccessors();
+    from.setName("name");
+    from.setTotal(5L);
+
+    AClassWithAccessors to = new AClassWithAccessors();
+    copier.copy(from, to, 2);
+
+    Assert.assertNull(to.getName());
+    Assert.assertEquals(5L, to.getTotal());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void copyingPropertyNotCopiedShouldThrowIllegalArgumentException() {
+    copier.copy(new AClassWithAccessors(), new AClassWithAccessors(), 4);
+  }
+
+  @Test(expected = ClassCastException.class)
+  public void shouldRejectInstancesOfOtherClasses() {
+    copier.copy(new Object(), new AClassWithAccessors());
+  }
+
+  @Test
+  public void exceptionsThrownByAccessorsShouldBeReportedLikeReflection() throws Exception {
+    Class<?> clazz = AClassWithThrowingSetter.class;
+    Copier throwingCopier = ASMService.getInstance().createCopierFor(clazz,
+        new Method[] { clazz.getDeclaredMethod("getName") },
+        new Method[] { clazz.getDeclaredMethod("setName", String.class) });
+
+    try {
+      throwingCopier.copy(new AClassWithThrowingSetter(), new AClassWithThrowingSetter());
+      Assert.fail("Expected ReflectionException");
+    } catch (ReflectionException e) {
+      assertInvocationFailed(e);
+    }
+
+    try {
+      throwingCopier.copy(new AClassWithThrowingSetter(), new AClassWithThrowingSetter(), 0);
+      Assert.fail("Expected ReflectionException");
+    } catch (ReflectionException e) {
+      assertInvocationFailed(e);
+    }
+  }
+
+  private static void assertInvocationFailed(ReflectionException e) {
+    Assert.assertTrue(e.getCause() instanceof InvocationTargetException);
+    Assert.assertTrue(e.getCause().getCause() instanceof IllegalStateException);
+  }
+
+  @Test
+  public void shouldNotGenerateCopierWithoutCallablePairs() throws Exception {
+    Assert.assertNull(ASMService.getInstance().createCopierFor(CLAZZ,
+        new Method[] { CLAZZ.getDeclaredMethod("getSecret") },
+        new Method[] { CLAZZ.getDeclaredMethod("setSecret", String.class) }));
+  }
+
+  @Test
+  public void shouldNotCopyMismatchedPairs() throws Exception {
+    Assert.assertFalse(CopierCreator.canCopy(CLAZZ, CLAZZ.getDeclaredMethod("getCount"),
+        CLAZZ.getDeclaredMethod("setTotal", long.class)));
+    Assert.assertFalse(CopierCreator.canCopy(CLAZZ, CLAZZ.getDeclaredMethod("getName"), null));
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm;
+
+import java.lang.reflect.Field;
+
+import com.openpojo.reflection.java.bytecode.FieldAccessor;
+import com.openpojo.reflection.java.bytecode.asm.sample.AClassWithPublicFields;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class FieldAccessorTest {
+  private Field[] fields;
+  private FieldAccessor fieldAccessor;
+
+  @Before
+  public void setUp() {
+    fields = AClassWithPublicFields.class.getDeclaredFields();
+    fieldAccessor = ASMService.getInstance().createFieldAccessorFor(AClassWithPublicFields.class, fields);
+  }
+
+  @Test
+  public void shouldGenerateAccessor() {
+    Assert.assertNotNull(fieldAccessor);
+    Assert.assertTrue(fieldAccessor.getClass().getName().endsWith(ASMService.FIELD_ACCESSOR_POSTFIX));
+  }
+
+  @Test
+  public void shouldOnlyAccessPublicFields() {
+    Assert.assertTrue(fieldAccessor.canGet(indexOf("stringField")));
+    Assert.assertTrue(fieldAccessor.canSet(indexOf("stringField")));
+
+    Assert.assertFalse(fieldAccessor.canGet(indexOf("privateField")));
+    Assert.assertFalse(fieldAccessor.canSet(indexOf("privateField")));
+    Assert.assertFalse(fieldAccessor.canGet(indexOf("protectedField")));
+    Assert.assertFalse(fieldAccessor.canGet(indexOf("packagePrivateField")));
+  }
+
+  @Test
+  public void shouldNotSetFinalOrNonPublicTypedFields() {
+    Assert.assertTrue(fieldAccessor.canGet(indexOf("finalString")));
+    Assert.assertFalse(fieldAccessor.canSet(indexOf("finalString")));
+    Assert.assertTrue(fieldAccessor.canGet(indexOf("nonPublicTypeField")));
+    Assert.assertFalse(fieldAccessor.canSet(indexOf("nonPublicTypeField")));
+  }
+
+  @Test
+  public void outOfRangeIndexShouldNotBeAccessible() {
+    Assert.assertFalse(fieldAccessor.canGet(-1));
+    Assert.assertFalse(fieldAccessor.canSet(fields.length));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getOnInaccessibleFieldShouldThrowIllegalArgumentException() {
+    fieldAccessor.get(new AClassWithPublicFields(), indexOf("privateField"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setOnInaccessibleFieldShouldThrowIllegalArgumentException() {
+    fieldAccessor.set(new AClassWithPublicFields(), indexOf("finalString"), "value");
+  }
+
+  @Test
+  public void shouldGetAndSetObjectAndPrimitiveFields() {
+    AClassWithPublicFields instance = new AClassWithPublicFields();
+    int[] intArray = new int[] { 1, 2 };
+
+    fieldAccessor.set(instance, indexOf("stringField"), "a string");
+    fieldAccessor.set(instance, indexOf("intField"), 5);
+    fieldAccessor.set(instance, indexOf("longField"), 6L);
+    fieldAccessor.set(instance, indexOf("booleanField"), true);
+    fieldAccessor.set(instance, indexOf("doubleField"), 7.5D);
+    fieldAccessor.set(instance, indexOf("charField"), 'c');
+    fieldAccessor.set(instance, indexOf("intArrayField"), intArray);
+
+    Assert.assertEquals("a string", instance.stringField);
+    Assert.assertEquals(5, instance.intField);
+    Assert.assertEquals(6L, instance.longField);
+    Assert.assertTrue(instance.booleanField);
+    Assert.assertEquals(7.5D, instance.doubleField, 0);
+    Assert.assertEquals('c', instance.charField);
+    Assert.assertSame(intArray, instance.intArrayField);
+
+    Assert.assertEquals("a string", fieldAccessor.get(instance, indexOf("stringField")));
+    Assert.assertEquals(5, fieldAccessor.get(instance, indexOf("intField")));
+    Assert.assertEquals(6L, fieldAccessor.get(instance, indexOf("longField")));
+    Assert.assertEquals(Boolean.TRUE, fieldAccessor.get(instance, indexOf("booleanField")));
+    Assert.assertEquals(7.5D, fieldAccessor.get(instance, indexOf("doubleField")));
+    Assert.assertEquals('c', fieldAccessor.get(instance, indexOf("charField")));
+    Assert.assertSame(intArray, fieldAccessor.get(instance, indexOf("intArrayField")));
+    Assert.assertEquals("final", fieldAccessor.get(instance, indexOf("finalString")));
+  }
+
+  @Test
+  public void shouldGetAndSetStaticFields() {
+    fieldAccessor.set(null, indexOf("staticString"), "static");
+    Assert.assertEquals("static", AClassWithPublicFields.staticString);
+    Assert.assertEquals("static", fieldAccessor.get(null, indexOf("staticString")));
+    AClassWithPublicFields.staticString = null;
+  }
+
+  @Test(expected = ClassCastException.class)
+  public void setWithWrongValueTypeShouldThrowClassCastException() {
+    fieldAccessor.set(new AClassWithPublicFields(), indexOf("intField"), "not an int");
+  }
+
+  @Test
+  public void givenNoAccessibleFieldsShouldReturnNull() {
+    Field[] privateOnly = new Field[] { fields[indexOf("privateField")] };
+    Assert.assertNull(ASMService.getInstance().createFieldAccessorFor(AClassWithPublicFields.class, privateOnly));
+  }
+
+  private int indexOf(String name) {
+    for (int index = 0; index < fields.length; index++)
+      if (fields[index].getName().equals(name))
+        return index;
+    throw new IllegalArgumentException("No field named " + name);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm;
+
+import java.lang.reflect.Field;
+
+import com.openpojo.reflection.java.bytecode.FieldAppender;
+import com.openpojo.reflection.java.bytecode.asm.sample.AClassWithPublicFields;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class FieldAppenderTest {
+  private Field[] fields;
+  private FieldAppender fieldAppender;
+
+  @Before
+  public void setUp() {
+    fields = AClassWithPublicFields.class.getDeclaredFields();
+    fieldAppender = ASMService.getInstance().createFieldAppenderFor(AClassWithPublicFields.class, fields);
+  }
+
+  @Test
+  public void shouldGenerateAppender() {
+    Assert.assertNotNull(fieldAppender);
+    Assert.assertTrue(fieldAppender.getClass().getName().endsWith(ASMService.FIELD_APPENDER_POSTFIX));
+  }
+
+  @Test
+  public void shouldOnlyAppendPublicFields() {
+    Assert.assertTrue(fieldAppender.canAppend(indexOf("stringField")));
+    Assert.assertTrue(fieldAppender.canAppend(indexOf("finalString")));
+    Assert.assertTrue(fieldAppender.canAppend(indexOf("nonPublicTypeField")));
+
+    Assert.assertFalse(fieldAppender.canAppend(indexOf("privateField")));
+    Assert.assertFalse(fieldAppender.canAppend(indexOf("protectedField")));
+    Assert.assertFalse(fieldAppender.canAppend(indexOf("packagePrivateField")));
+    Assert.assertFalse(fieldAppender.canAppend(-1));
+    Assert.assertFalse(fieldAppender.canAppend(fields.length));
+  }
+
+  @Test
+  public void shouldRenderLikeStringValueOf() {
+    AClassWithPublicFields instance = new AClassWithPublicFields();
+    instance.intField = 42;
+    instance.longField = Long.MAX_VALUE;
+    instance.booleanField = true;
+    instance.doubleField = 1.5d;
+    instance.charField = 'c';
+    instance.intArrayField = new int[] { 1, 2 };
+    AClassWithPublicFields.staticString = "static";
+
+    assertAppends("42", instance, "intField");
+    assertAppends(String.valueOf(Long.MAX_VALUE), instance, "longField");
+    assertAppends("true", instance, "booleanField");
+    assertAppends("1.5", instance, "doubleField");
+    assertAppends("c", instance, "charField");
+    assertAppends("null", instance, "stringField");
+    assertAppends("[1, 2]", instance, "intArrayField");
+    assertAppends("final", instance, "finalString");
+    assertAppends("static", null, "staticString");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void appendOnInaccessibleFieldShouldThrowIllegalArgumentException() {
+    fieldAppender.append(new AClassWithPublicFields(), indexOf("privateField"), new StringBuilder());
+  }
+
+  @Test
+  public void shouldSkipNullFields() throws NoSuchFieldException {
+    Field[] someFields = new Field[] { null, AClassWithPublicFields.class.getDeclaredField("stringField") };
+    FieldAppender appender = ASMService.getInstance().createFieldAppenderFor(AClassWithPublicFields.class, someFields);
+    Assert.assertFalse(appender.canAppend(0));
+    Assert.assertTrue(appender.canAppend(1));
+  }
+
+  @Test
+  public void shouldNotGenerateWhenNoFieldIsAppendable() throws NoSuchFieldException {
+    Field[] privateOnly = new Field[] { AClassWithPublicFields.class.getDeclaredField("privateField") };
+    Assert.assertNull(ASMService.getInstance().createFieldAppenderFor(AClassWithPublicFields.class, privateOnly));
+  }
+
+  private void assertAppends(String expected, AClassWithPublicFields instance, String fieldName) {
+    StringBuilder builder = new StringBuilder();
+    fieldAppender.append(instance, indexOf(fieldName), builder);
+    Assert.assertEquals(expected, builder.toString());
+  }
+
+  private int indexOf(String name) {
+    for (int index = 0; index < fields.length; index++)
+      if (fields[index].getName().equals(name))
+        return index;
+    throw new IllegalArgumentException("No such field " + name);
+  }
+}
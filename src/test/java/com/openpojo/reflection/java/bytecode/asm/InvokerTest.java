@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm;
+
+import java.lang.reflect.AccessibleObject;
+
+import com.openpojo.reflection.java.invoke.Invoker;
+import com.openpojo.reflection.java.invoke.impl.InvokerContractTest;
+import com.openpojo.reflection.java.invoke.impl.ReflectionInvoker;
+import com.openpojo.reflection.java.invoke.sample.InvokeTarget;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class InvokerTest extends InvokerContractTest {
+
+  @Override
+  protected Invoker getInvoker(AccessibleObject accessibleObject) {
+    Invoker invoker = ASMService.getInstance().createInvokerFor(accessibleObject);
+    if (invoker == null)
+      return new ReflectionInvoker(accessibleObject);
+    return invoker;
+  }
+
+  @Test
+  public void shouldGenerateInvokersForPublicMembersUpToTwoParameters() throws Exception {
+    assertGenerated(InvokeTarget.class.getDeclaredConstructor());
+    assertGenerated(InvokeTarget.class.getDeclaredConstructor(String.class));
+    assertGenerated(InvokeTarget.class.getDeclaredMethod("getCount"));
+    assertGenerated(InvokeTarget.class.getDeclaredMethod("setCount", long.class));
+    assertGenerated(InvokeTarget.class.getDeclaredMethod("concat", String.class, String.class));
+    assertGenerated(Greeter.class.getDeclaredMethod("greet", String.class));
+  }
+
+  @Test
+  public void shouldNotGenerateInvokersForOtherMembers() throws Exception {
+    Assert.assertNull(ASMService.getInstance().createInvokerFor(InvokeTarget.class.getDeclaredMethod("getName")));
+    Assert.assertNull(ASMService.getInstance().createInvokerFor(InvokeTarget.class.getDeclaredConstructor(String.class,
+        long.class)));
+    Assert.assertNull(ASMService.getInstance().createInvokerFor(InvokeTarget.class.getDeclaredMethod("join", String
+        .class, String.class, String.class)));
+  }
+
+  @Test
+  public void shouldInvokeInterfaceMethods() throws Exception {
+    Greeter greeter = new Greeter() {
+      public String greet(String name) {
+        return "Hello " + name;
+      }
+    };
+    Assert.assertEquals("Hello you", getInvoker(Greeter.class.getDeclaredMethod("greet", String.class)).invoke(greeter,
+        "you"));
+  }
+
+  private void assertGenerated(AccessibleObject accessibleObject) {
+    Invoker invoker = ASMService.getInstance().createInvokerFor(accessibleObject);
+    Assert.assertNotNull("No invoker generated for [" + accessibleObject + "]", invoker);
+    Assert.assertTrue(invoker.getClass().getName().endsWith(ASMService.INVOKER_POSTFIX));
+  }
+
+  public interface Greeter {
+    String greet(String name);
+  }
+}
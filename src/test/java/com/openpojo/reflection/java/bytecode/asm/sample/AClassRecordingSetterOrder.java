@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm.sample;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the order its setters are called in, the middle property can only be copied through reflection.
+ *
+ * @author oshoukry
+ */
+public class AClassRecordingSetterOrder {
+  private final transient List<String> setterCalls = new ArrayList<String>();
+  private String first;
+  private String second;
+  private String third;
+
+  public List<String> getSetterCalls() {
+    return setterCalls;
+  }
+
+  public String getFirst() {
+    return first;
+  }
+
+  public void setFirst(String first) {
+    setterCalls.add("first");
+    this.first = first;
+  }
+
+  String getSecond() {
+    return second;
+  }
+
+  void setSecond(String second) {
+    setterCalls.add("second");
+    this.second = second;
+  }
+
+  public String getThird() {
+    return third;
+  }
+
+  public void setThird(String third) {
+    setterCalls.add("third");
+    this.third = third;
+  }
+}
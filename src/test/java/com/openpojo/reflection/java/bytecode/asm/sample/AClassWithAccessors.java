@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.bytecode.asm.sample;
+
+/**
+ * @author oshoukry
+ */
+public class AClassWithAccessors {
+  private String name;
+  private int count;
+  private long total;
+  private boolean active;
+  private String secret;
+  private String readOnly;
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public int getCount() {
+    return count;
+  }
+
+  public void setCount(int count) {
+    this.count = count;
+  }
+
+  public long getTotal() {
+    return total;
+  }
+
+  public AClassWithAccessors setTotal(long total) {
+    this.total = total;
+    return this;
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  public void setActive(boolean active) {
+    this.active = active;
+  }
+
+  String getSecret() {
+    return secret;
+  }
+
+  void setSecret(String secret) {
+    this.secret = secret;
+  }
+
+  public String getReadOnly() {
+    return readOnly;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.invoke;
+
+import java.lang.reflect.Method;
+
+import com.openpojo.log.LoggerFactory;
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
+import com.openpojo.reflection.java.invoke.sample.InvokeTarget;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Benchmark for getter / setter invocation through the reflection and generated Invokers.
+ *
+ * @author oshoukry
+ */
+public class InvokerBenchmark {
+  private static final int WARM_UP = 20000;
+  private static final int ITERATIONS = 1000000;
+
+  @After
+  public void tearDown() {
+    ByteCodeFactory.setInvokerEnabled(false);
+  }
+
+  @Test
+  public void compareGetterSetterInvocation() throws NoSuchMethodException {
+    Method getter = InvokeTarget.class.getDeclaredMethod("getCount");
+    Method setter = InvokeTarget.class.getDeclaredMethod("setCount", long.class);
+
+    ByteCodeFactory.setInvokerEnabled(false);
+    long reflectionCost = measure(InvokerFactory.getInvoker(getter), InvokerFactory.getInvoker(setter));
+
+    ByteCodeFactory.setInvokerEnabled(true);
+    long generatedCost = measure(InvokerFactory.getInvoker(getter), InvokerFactory.getInvoker(setter));
+
+    LoggerFactory.getLogger(InvokerBenchmark.class).info("Getter + setter invocation: reflection [{0}ns], "
+        + "generated [{1}ns]", reflectionCost, generatedCost);
+  }
+
+  private long measure(Invoker getter, Invoker setter) {
+    InvokeTarget instance = new InvokeTarget();
+    for (long i = 0; i < WARM_UP; i++) {
+      setter.invoke(instance, i);
+      Assert.assertEquals(i, getter.invoke(instance));
+    }
+
+    long start = System.nanoTime();
+    for (long i = 0; i < ITERATIONS; i++) {
+      setter.invoke(instance, i);
+      getter.invoke(instance);
+    }
+    return (System.nanoTime() - start) / ITERATIONS;
+  }
+}
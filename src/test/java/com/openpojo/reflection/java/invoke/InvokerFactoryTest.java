@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.invoke;
+
+import com.openpojo.reflection.java.bytecode.ByteCodeFactory;
+import com.openpojo.reflection.java.bytecode.asm.ASMService;
+import com.openpojo.reflection.java.invoke.impl.ReflectionInvoker;
+import com.openpojo.reflection.java.invoke.sample.InvokeTarget;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class InvokerFactoryTest {
+
+  @After
+  public void tearDown() {
+    ByteCodeFactory.setInvokerEnabled(false);
+  }
+
+  @Test
+  public void shouldDefaultToReflection() throws NoSuchMethodException {
+    Assert.assertFalse(ByteCodeFactory.isInvokerEnabled());
+    Invoker invoker = InvokerFactory.getInvoker(InvokeTarget.class.getDeclaredMethod("getCount"));
+    Assert.assertEquals(ReflectionInvoker.class, invoker.getClass());
+  }
+
+  @Test
+  public void shouldUseGeneratedInvokersWhenEnabled() throws NoSuchMethodException {
+    ByteCodeFactory.setInvokerEnabled(true);
+    Invoker invoker = InvokerFactory.getInvoker(InvokeTarget.class.getDeclaredMethod("getCount"));
+    Assert.assertTrue(invoker.getClass().getName().endsWith(ASMService.INVOKER_POSTFIX));
+  }
+
+  @Test
+  public void shouldFallBackToReflectionWhenInvokerCantBeGenerated() throws NoSuchMethodException {
+    ByteCodeFactory.setInvokerEnabled(true);
+    Invoker invoker = InvokerFactory.getInvoker(AbstractTarget.class.getDeclaredConstructor());
+    Assert.assertEquals(ReflectionInvoker.class, invoker.getClass());
+
+    invoker = InvokerFactory.getInvoker(InvokeTarget.class.getDeclaredMethod("getName"));
+    Assert.assertEquals(ReflectionInvoker.class, invoker.getClass());
+  }
+
+  private static abstract class AbstractTarget {
+  }
+}
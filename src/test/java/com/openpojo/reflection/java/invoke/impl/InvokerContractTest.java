@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.invoke.impl;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.InvocationTargetException;
+
+import com.openpojo.reflection.exception.ReflectionException;
+import com.openpojo.reflection.java.invoke.Invoker;
+import com.openpojo.reflection.java.invoke.sample.InvokeTarget;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Contract every Invoker implementation must honor, matching the behaviour of java.lang.reflect.
+ *
+ * @author oshoukry
+ */
+public abstract class InvokerContractTest {
+
+  protected abstract Invoker getInvoker(AccessibleObject accessibleObject) throws Exception;
+
+  private Invoker getMethodInvoker(String name, Class<?>... parameterTypes) throws Exception {
+    return getInvoker(InvokeTarget.class.getDeclaredMethod(name, parameterTypes));
+  }
+
+  @Test
+  public void shouldInvokePrivateGetterAndSetter() throws Exception {
+    InvokeTarget instance = new InvokeTarget();
+    getMethodInvoker("setName", String.class).invoke(instance, "some name");
+    Assert.assertEquals("some name", getMethodInvoker("getName").invoke(instance));
+    Assert.assertEquals("some name", getMethodInvoker("getName").invoke(instance, (Object[]) null));
+  }
+
+  @Test
+  public void shouldInvokeWithPrimitiveParameter() throws Exception {
+    InvokeTarget instance = new InvokeTarget();
+    getMethodInvoker("setCount", long.class).invoke(instance, 5L);
+    Assert.assertEquals(5L, getMethodInvoker("getCount").invoke(instance));
+  }
+
+  @Test
+  public void shouldWidenPrimitiveParameter() throws Exception {
+    InvokeTarget instance = new InvokeTarget();
+    getMethodInvoker("setCount", long.class).invoke(instance, 5);
+    Assert.assertEquals(5L, instance.getCount());
+  }
+
+  @Test
+  public void shouldInvokeWithTwoParameters() throws Exception {
+    Invoker invoker = getMethodInvoker("concat", String.class, String.class);
+    InvokeTarget instance = new InvokeTarget();
+    Assert.assertEquals("ab", invoker.invoke(instance, "a", "b"));
+    Assert.assertEquals("cd", invoker.invoke(instance, new Object[] { "c", "d" }));
+  }
+
+  @Test
+  public void shouldInvokeStaticMethodIgnoringInstance() throws Exception {
+    Invoker invoker = getMethodInvoker("join", String.class, String.class, String.class);
+    Assert.assertEquals("abc", invoker.invoke(null, new Object[] { "a", "b", "c" }));
+    Assert.assertEquals("abc", invoker.invoke(new Object(), new Object[] { "a", "b", "c" }));
+  }
+
+  @Test
+  public void shouldInvokeConstructors() throws Exception {
+    Invoker invoker = getInvoker(InvokeTarget.class.getDeclaredConstructor(String.class, long.class));
+    InvokeTarget instance = (InvokeTarget) invoker.invoke(null, "name", 10L);
+    Assert.assertEquals(10L, instance.getCount());
+
+    Object defaultInstance = getInvoker(InvokeTarget.class.getDeclaredConstructor()).invoke(null);
+    Assert.assertEquals(InvokeTarget.class, defaultInstance.getClass());
+
+    InvokeTarget namedInstance = (InvokeTarget) getInvoker(InvokeTarget.class.getDeclaredConstructor(String.class))
+        .invoke(null, "name");
+    Assert.assertEquals("name", getMethodInvoker("getName").invoke(namedInstance));
+  }
+
+  @Test
+  public void exceptionInTargetShouldBeWrappedInInvocationTargetException() throws Exception {
+    try {
+      getMethodInvoker("fail").invoke(new InvokeTarget());
+      Assert.fail("Expected exception");
+    } catch (ReflectionException re) {
+      Assert.assertEquals(InvocationTargetException.class, re.getCause().getClass());
+      Assert.assertEquals(IllegalStateException.class, re.getCause().getCause().getClass());
+    }
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void wrongParameterTypeShouldThrowReflectionException() throws Exception {
+    getMethodInvoker("setName", String.class).invoke(new InvokeTarget(), 5);
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void wrongParameterTypeOnPublicMethodShouldThrowReflectionException() throws Exception {
+    getMethodInvoker("concat", String.class, String.class).invoke(new InvokeTarget(), "a", 5);
+  }
+
+  @Test
+  public void nullIntoObjectParameterShouldBePassed() throws Exception {
+    Assert.assertEquals("anull", getMethodInvoker("concat", String.class, String.class).invoke(new InvokeTarget(), "a",
+        null));
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void nullIntoPrimitiveShouldThrowReflectionException() throws Exception {
+    getMethodInvoker("setCount", long.class).invoke(new InvokeTarget(), (Object) null);
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void wrongParameterCountShouldThrowReflectionException() throws Exception {
+    getMethodInvoker("setName", String.class).invoke(new InvokeTarget());
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void wrongInstanceShouldThrowReflectionException() throws Exception {
+    getMethodInvoker("getName").invoke(new Object());
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void wrongInstanceOnPublicMethodShouldThrowReflectionException() throws Exception {
+    getMethodInvoker("getCount").invoke(new Object());
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullInstanceShouldThrowNullPointerException() throws Exception {
+    getMethodInvoker("getName").invoke(null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void nullInstanceOnPublicMethodShouldThrowNullPointerException() throws Exception {
+    getMethodInvoker("getCount").invoke(null);
+  }
+}
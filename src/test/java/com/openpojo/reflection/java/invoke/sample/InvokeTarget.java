@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.invoke.sample;
+
+/**
+ * @author oshoukry
+ */
+@SuppressWarnings("unused")
+public class InvokeTarget {
+  private String name;
+  private long count;
+
+  public InvokeTarget() {
+  }
+
+  public InvokeTarget(String name) {
+    this.name = name;
+  }
+
+  private InvokeTarget(String name, long count) {
+    this.name = name;
+    this.count = count;
+  }
+
+  private String getName() {
+    return name;
+  }
+
+  private void setName(String name) {
+    this.name = name;
+  }
+
+  public long getCount() {
+    return count;
+  }
+
+  public void setCount(long count) {
+    this.count = count;
+  }
+
+  public String concat(String first, String second) {
+    return first + second;
+  }
+
+  public static String join(String first, String second, String third) {
+    return first + second + third;
+  }
+
+  public void fail() {
+    throw new IllegalStateException("failed on purpose");
+  }
+}
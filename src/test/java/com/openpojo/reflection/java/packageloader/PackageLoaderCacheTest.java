@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.packageloader;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Set;
+
+import com.openpojo.reflection.filters.sampleclasses.SampleClass;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class PackageLoaderCacheTest {
+  private static final String PACKAGE_NAME = SampleClass.class.getPackage().getName();
+
+  @After
+  public void tearDown() {
+    PackageLoaderCache.clear();
+  }
+
+  @Test
+  public void shouldResolvePackageLoadersOnce() {
+    Set<PackageLoader> packageLoaders = PackageLoaderCache.getPackageLoaders(PACKAGE_NAME);
+
+    Assert.assertFalse(packageLoaders.isEmpty());
+    Assert.assertSame(packageLoaders, PackageLoaderCache.getPackageLoaders(PACKAGE_NAME));
+    for (PackageLoader packageLoader : packageLoaders) {
+      Assert.assertSame(packageLoader.getTypes(), packageLoader.getTypes());
+      Assert.assertSame(packageLoader.getSubPackages(), packageLoader.getSubPackages());
+    }
+  }
+
+  @Test
+  public void shouldResolveAgainAfterClear() {
+    Set<PackageLoader> packageLoaders = PackageLoaderCache.getPackageLoaders(PACKAGE_NAME);
+
+    PackageLoaderCache.clear(Thread.currentThread().getContextClassLoader());
+    Set<PackageLoader> clearedForClassLoader = PackageLoaderCache.getPackageLoaders(PACKAGE_NAME);
+    Assert.assertNotSame(packageLoaders, clearedForClassLoader);
+    Assert.assertEquals(packageLoaders.size(), clearedForClassLoader.size());
+
+    PackageLoaderCache.clear();
+    Assert.assertNotSame(clearedForClassLoader, PackageLoaderCache.getPackageLoaders(PACKAGE_NAME));
+  }
+
+  @Test
+  public void shouldKeepEntriesPerClassLoader() {
+    Set<PackageLoader> packageLoaders = PackageLoaderCache.getPackageLoaders(PACKAGE_NAME);
+
+    ClassLoader original = Thread.currentThread().getContextClassLoader();
+    Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[0], original));
+    try {
+      Set<PackageLoader> otherPackageLoaders = PackageLoaderCache.getPackageLoaders(PACKAGE_NAME);
+      Assert.assertNotSame(packageLoaders, otherPackageLoaders);
+      Assert.assertSame(otherPackageLoaders, PackageLoaderCache.getPackageLoaders(PACKAGE_NAME));
+    } finally {
+      Thread.currentThread().setContextClassLoader(original);
+    }
+    Assert.assertSame(packageLoaders, PackageLoaderCache.getPackageLoaders(PACKAGE_NAME));
+  }
+}
@@ -18,13 +18,26 @@
 
 package com.openpojo.reflection.java.packageloader;
 
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.Set;
+
 import com.openpojo.random.RandomFactory;
+import com.openpojo.reflection.ClassDescriptor;
+import com.openpojo.reflection.ClassDescriptorFilter;
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.filters.FilterChain;
+import com.openpojo.reflection.filters.FilterClassName;
+import com.openpojo.reflection.filters.FilterNonConcrete;
+import com.openpojo.reflection.filters.sampleclasses.SampleClass;
 import com.openpojo.reflection.impl.PojoClassFactory;
 import com.openpojo.validation.Validator;
 import com.openpojo.validation.ValidatorBuilder;
 import com.openpojo.validation.affirm.Affirm;
 import com.openpojo.validation.rule.impl.BusinessKeyMustExistRule;
 import com.openpojo.validation.test.impl.BusinessIdentityTester;
+import org.junit.Assert;
 import org.junit.Test;
 
 /**
@@ -51,4 +64,74 @@ public class PackageTest {
     pojoValidator.validate(PojoClassFactory.getPojoClass(Package.class));
   }
 
+  @Test
+  public void shouldNotLoadClassesExcludedByClassDescriptorFilter() {
+    String packageName = SampleClass.class.getPackage().getName();
+    RecordingClassLoader recordingClassLoader = new RecordingClassLoader(Thread.currentThread().getContextClassLoader());
+    ClassLoader original = Thread.currentThread().getContextClassLoader();
+    Thread.currentThread().setContextClassLoader(recordingClassLoader);
+    Set<Type> types;
+    try {
+      types = new Package(packageName).getTypes(new FilterNonConcrete());
+    } finally {
+      Thread.currentThread().setContextClassLoader(original);
+    }
+
+    Assert.assertTrue(types.contains(SampleClass.class));
+    Assert.assertEquals(1, types.size());
+    for (String loaded : recordingClassLoader.loaded)
+      if (loaded.startsWith(packageName))
+        Assert.assertEquals(SampleClass.class.getName(), loaded);
+  }
+
+  @Test
+  public void shouldNotReadOrLoadClassesExcludedByName() {
+    String packageName = SampleClass.class.getPackage().getName();
+    RecordingDescriptorFilter recordingDescriptorFilter = new RecordingDescriptorFilter();
+    RecordingClassLoader recordingClassLoader = new RecordingClassLoader(Thread.currentThread().getContextClassLoader());
+    ClassLoader original = Thread.currentThread().getContextClassLoader();
+    Thread.currentThread().setContextClassLoader(recordingClassLoader);
+    Set<Type> types;
+    try {
+      types = new Package(packageName).getTypes(new FilterChain(new FilterClassName("\\.SampleClass$"),
+          recordingDescriptorFilter));
+    } finally {
+      Thread.currentThread().setContextClassLoader(original);
+    }
+
+    Assert.assertTrue(types.contains(SampleClass.class));
+    Assert.assertEquals(1, types.size());
+    for (String read : recordingDescriptorFilter.read)
+      Assert.assertEquals(SampleClass.class.getName(), read);
+    for (String loaded : recordingClassLoader.loaded)
+      if (loaded.startsWith(packageName))
+        Assert.assertEquals(SampleClass.class.getName(), loaded);
+  }
+
+  private static class RecordingDescriptorFilter implements PojoClassFilter, ClassDescriptorFilter {
+    private final Set<String> read = new HashSet<String>();
+
+    public boolean include(PojoClass pojoClass) {
+      return true;
+    }
+
+    public boolean include(ClassDescriptor classDescriptor) {
+      read.add(classDescriptor.getName());
+      return true;
+    }
+  }
+
+  private static class RecordingClassLoader extends ClassLoader {
+    private final Set<String> loaded = new HashSet<String>();
+
+    private RecordingClassLoader(ClassLoader parent) {
+      super(parent);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      loaded.add(name);
+      return super.loadClass(name, resolve);
+    }
+  }
 }
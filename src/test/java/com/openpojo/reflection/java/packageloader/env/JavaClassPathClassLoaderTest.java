@@ -102,6 +102,16 @@ public class JavaClassPathClassLoaderTest {
     Assert.assertThat(classPathKeys, containsInAnyOrder(expectedClassPathKeys));
   }
 
+  @Test
+  public void shouldIndexOnFirstLookupOnly() {
+    JavaClassPathClassLoader instance = JavaClassPathClassLoader.getInstance("java.class.path");
+    Assert.assertThat(instance.isIndexed(), is(false));
+
+    Assert.assertThat(instance.hasPackage(Test.class.getPackage().getName()), is(true));
+    Assert.assertThat(instance.isIndexed(), is(true));
+    Assert.assertThat(instance.getClassNames().contains(Test.class.getName()), is(true));
+  }
+
   @Test
   public void canGetAllClassNamesInBootClassPath() {
     Set<String> classNames = javaClassPathClassLoader.getClassNames();
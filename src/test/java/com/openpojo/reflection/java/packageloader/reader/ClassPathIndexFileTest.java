@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.packageloader.reader;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.openpojo.utils.samplejar.SampleJar;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class ClassPathIndexFileTest {
+  private File indexFile;
+  private File jarFile;
+  private String jarPath;
+
+  @Before
+  public void setUp() throws IOException {
+    indexFile = File.createTempFile(ClassPathIndexFileTest.class.getSimpleName(), ".bin");
+    Assert.assertTrue(indexFile.delete());
+    jarFile = new File(SampleJar.getJarFilePath());
+    jarPath = jarFile.getCanonicalPath();
+    JarFileReaderPool.clear();
+  }
+
+  @After
+  public void tearDown() {
+    ClassPathIndexFile.close();
+    JarFileReaderPool.clear();
+    indexFile.delete();
+  }
+
+  @Test
+  public void shouldNotRecordWhenClosed() {
+    JarFileReaderPool.release(JarFileReaderPool.acquire(jarFile));
+    Assert.assertFalse(ClassPathIndexFile.isOpen());
+    Assert.assertNull(getRecordedClassNames());
+  }
+
+  @Test
+  public void shouldRecordIndexedJars() {
+    ClassPathIndexFile.open(indexFile);
+    Assert.assertNull(getRecordedClassNames());
+
+    JarFileReader jarFileReader = JarFileReaderPool.acquire(jarFile);
+    try {
+      Assert.assertEquals(jarFileReader.getClassNames(), new HashSet<String>(getRecordedClassNames()));
+    } finally {
+      JarFileReaderPool.release(jarFileReader);
+    }
+  }
+
+  @Test
+  public void shouldServeJarsFromSavedIndex() {
+    ClassPathIndexFile.open(indexFile);
+    JarFileReader indexed = JarFileReaderPool.acquire(jarFile);
+    Set<String> classNames = new HashSet<String>(indexed.getClassNames());
+    Set<String> subPackages = indexed.getSubPackagesOfPackage("");
+    Map<String, String> manifestEntries = indexed.getManifestEntries();
+    JarFileReaderPool.release(indexed);
+    ClassPathIndexFile.save();
+    Assert.assertTrue(indexFile.isFile());
+
+    ClassPathIndexFile.open(indexFile);
+    JarFileReaderPool.clear();
+    JarFileReader recorded = JarFileReaderPool.acquire(jarFile);
+    try {
+      Assert.assertNotSame(indexed, recorded);
+      Assert.assertTrue(recorded.isValid());
+      Assert.assertEquals(classNames, recorded.getClassNames());
+      Assert.assertEquals(subPackages, recorded.getSubPackagesOfPackage(""));
+      Assert.assertEquals(manifestEntries, recorded.getManifestEntries());
+    } finally {
+      JarFileReaderPool.release(recorded);
+    }
+  }
+
+  @Test
+  public void shouldIgnoreChangedJars() {
+    ClassPathIndexFile.open(indexFile);
+    ClassPathIndexFile.record(jarPath, jarFile.lastModified() - 1, jarFile.length(), Arrays.asList("com.Stale"));
+    Assert.assertNull(getRecordedClassNames());
+
+    JarFileReader jarFileReader = JarFileReaderPool.acquire(jarFile);
+    try {
+      Assert.assertFalse(jarFileReader.getClassNames().contains("com.Stale"));
+      Assert.assertNotNull("Changed jar should be recorded again", getRecordedClassNames());
+    } finally {
+      JarFileReaderPool.release(jarFileReader);
+    }
+  }
+
+  @Test
+  public void shouldDropMissingJarsOnSave() throws IOException {
+    File missingJar = File.createTempFile(ClassPathIndexFileTest.class.getSimpleName(), ".jar");
+    String missingPath = missingJar.getCanonicalPath();
+    long lastModified = missingJar.lastModified();
+    long length = missingJar.length();
+
+    ClassPathIndexFile.open(indexFile);
+    ClassPathIndexFile.record(missingPath, lastModified, length, Arrays.asList("com.Missing"));
+    ClassPathIndexFile.record(jarPath, jarFile.lastModified(), jarFile.length(), Arrays.asList("com.Present"));
+    ClassPathIndexFile.save();
+
+    ClassPathIndexFile.open(indexFile);
+    Assert.assertNotNull(ClassPathIndexFile.getClassNames(missingPath, lastModified, length));
+    Assert.assertTrue(missingJar.delete());
+    ClassPathIndexFile.save();
+
+    ClassPathIndexFile.open(indexFile);
+    Assert.assertNull(ClassPathIndexFile.getClassNames(missingPath, lastModified, length));
+    Assert.assertEquals(Arrays.asList("com.Present"), getRecordedClassNames());
+  }
+
+  @Test
+  public void shouldIgnoreUnreadableIndex() throws IOException {
+    FileOutputStream out = new FileOutputStream(indexFile);
+    out.write("not an index".getBytes());
+    out.close();
+
+    ClassPathIndexFile.open(indexFile);
+    Assert.assertTrue(ClassPathIndexFile.isOpen());
+    Assert.assertNull(getRecordedClassNames());
+  }
+
+  private Collection<String> getRecordedClassNames() {
+    return ClassPathIndexFile.getClassNames(jarPath, jarFile.lastModified(), jarFile.length());
+  }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.packageloader.reader;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import com.openpojo.utils.samplejar.SampleJar;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class JarFileReaderPoolTest {
+
+  @Before
+  public void setUp() {
+    JarFileReaderPool.clear();
+  }
+
+  @After
+  public void tearDown() {
+    JarFileReaderPool.setMaxSize(JarFileReaderPool.DEFAULT_MAX_SIZE);
+    JarFileReaderPool.clear();
+  }
+
+  @Test
+  public void shouldShareOneReaderPerJar() {
+    long hits = JarFileReaderPool.getStatistics().getHitCount();
+    long misses = JarFileReaderPool.getStatistics().getMissCount();
+
+    JarFileReader byFile = JarFileReaderPool.acquire(new File(SampleJar.getJarFilePath()));
+    JarFileReader byURL = JarFileReaderPool.acquire(SampleJar.getJarURL());
+    try {
+      Assert.assertTrue(byFile.isValid());
+      Assert.assertSame(byFile, byURL);
+      Assert.assertEquals(1, JarFileReaderPool.size());
+      Assert.assertEquals(hits + 1, JarFileReaderPool.getStatistics().getHitCount());
+      Assert.assertEquals(misses + 1, JarFileReaderPool.getStatistics().getMissCount());
+    } finally {
+      JarFileReaderPool.release(byFile);
+      JarFileReaderPool.release(byURL);
+    }
+  }
+
+  @Test
+  public void shouldIndexAJarOnceWhenAcquiredConcurrently() throws Exception {
+    final int threads = 8;
+    long misses = JarFileReaderPool.getStatistics().getMissCount();
+
+    List<JarFileReader> jarFileReaders = acquireConcurrently(threads, new File(SampleJar.getJarFilePath()));
+    try {
+      Assert.assertEquals(misses + 1, JarFileReaderPool.getStatistics().getMissCount());
+      for (JarFileReader jarFileReader : jarFileReaders)
+        Assert.assertSame(jarFileReaders.get(0), jarFileReader);
+      Assert.assertTrue(jarFileReaders.get(0).isValid());
+    } finally {
+      for (JarFileReader jarFileReader : jarFileReaders)
+        JarFileReaderPool.release(jarFileReader);
+    }
+
+    JarFileReaderPool.setMaxSize(0);
+    Assert.assertEquals("Every reference should have been released", 0, JarFileReaderPool.size());
+  }
+
+  @Test
+  public void shouldIndexDifferentJarsInParallel() throws Exception {
+    final int threads = 4;
+    File[] jarFiles = new File[threads];
+    for (int jar = 0; jar < threads; jar++)
+      jarFiles[jar] = createJar(jar, 5000);
+
+    List<JarFileReader> jarFileReaders = acquireConcurrently(threads, jarFiles);
+    try {
+      for (JarFileReader jarFileReader : jarFileReaders)
+        Assert.assertEquals(5000, jarFileReader.getClassNames().size());
+      Assert.assertEquals(threads, JarFileReaderPool.size());
+      Assert.assertTrue("Jars were indexed one at a time", JarFileReaderPool.getPeakIndexConcurrency() > 1);
+    } finally {
+      for (JarFileReader jarFileReader : jarFileReaders)
+        JarFileReaderPool.release(jarFileReader);
+      JarFileReaderPool.clear();
+      for (File jarFile : jarFiles)
+        Assert.assertTrue(jarFile.delete());
+    }
+  }
+
+  @Test
+  public void shouldOnlyCloseEvictedJarsOnceReleased() {
+    JarFileReader jarFileReader = JarFileReaderPool.acquire(new File(SampleJar.getJarFilePath()));
+
+    JarFileReaderPool.setMaxSize(0);
+    Assert.assertEquals("In use jars should not be evicted", 1, JarFileReaderPool.size());
+
+    JarFileReaderPool.clear();
+    Assert.assertEquals(0, JarFileReaderPool.size());
+    Assert.assertNotNull("Evicted jar in use should still be open", jarFileReader.getManifestEntries());
+
+    JarFileReaderPool.release(jarFileReader);
+    Assert.assertEquals(0, JarFileReaderPool.size());
+    Assert.assertFalse("Class names should outlive the jar", jarFileReader.getClassNames().isEmpty());
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedIdleJars() {
+    JarFileReaderPool.release(JarFileReaderPool.acquire(new File(SampleJar.getJarFilePath())));
+    Assert.assertEquals(1, JarFileReaderPool.size());
+
+    long evictions = JarFileReaderPool.getStatistics().getEvictionCount();
+    JarFileReaderPool.setMaxSize(0);
+    Assert.assertEquals(0, JarFileReaderPool.size());
+    Assert.assertEquals(evictions + 1, JarFileReaderPool.getStatistics().getEvictionCount());
+  }
+
+  @Test
+  public void shouldOnlyPoolJarsOnTheFileSystem() throws Exception {
+    Assert.assertTrue(JarFileReaderPool.isPoolable(SampleJar.getJarURL()));
+    Assert.assertFalse(JarFileReaderPool.isPoolable(new URL("jar:" + new File(SampleJar.getJarFilePath()).toURI()
+        + "!/nested.jar!/")));
+    Assert.assertFalse(JarFileReaderPool.isPoolable(new URL("jar:http://localhost/some.jar!/")));
+    Assert.assertFalse(JarFileReaderPool.isPoolable(new File(".").toURI().toURL()));
+  }
+
+  @Test
+  public void shouldNotPoolInvalidJars() {
+    JarFileReader jarFileReader = JarFileReaderPool.acquire(new File("does-not-exist.jar"));
+    Assert.assertFalse(jarFileReader.isValid());
+    Assert.assertEquals(0, JarFileReaderPool.size());
+    JarFileReaderPool.release(jarFileReader);
+    JarFileReaderPool.release(null);
+  }
+
+  private static List<JarFileReader> acquireConcurrently(final int threads, final File... jarFiles) throws Exception {
+    final CyclicBarrier start = new CyclicBarrier(threads);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<JarFileReader>> results = new ArrayList<Future<JarFileReader>>();
+      for (int thread = 0; thread < threads; thread++) {
+        final File jarFile = jarFiles[thread % jarFiles.length];
+        results.add(executor.submit(new Callable<JarFileReader>() {
+          public JarFileReader call() throws Exception {
+            start.await();
+            return JarFileReaderPool.acquire(jarFile);
+          }
+        }));
+      }
+
+      List<JarFileReader> jarFileReaders = new ArrayList<JarFileReader>();
+      for (Future<JarFileReader> result : results)
+        jarFileReaders.add(result.get());
+      return jarFileReaders;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static File createJar(final int jar, final int classes) throws IOException {
+    File jarFile = File.createTempFile(JarFileReaderPoolTest.class.getSimpleName(), ".jar");
+    JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(jarFile));
+    try {
+      for (int index = 0; index < classes; index++) {
+        jarOutputStream.putNextEntry(new JarEntry("com/openpojo/generated" + jar + "/Class" + index + ".class"));
+        jarOutputStream.closeEntry();
+      }
+    } finally {
+      jarOutputStream.close();
+    }
+    return jarFile;
+  }
+}
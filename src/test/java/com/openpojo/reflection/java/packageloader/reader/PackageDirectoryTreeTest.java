@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.packageloader.reader;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import com.openpojo.random.RandomFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class PackageDirectoryTreeTest {
+  private File root;
+  private File child;
+
+  @Before
+  public void setup() throws IOException {
+    root = new File(System.getProperty("user.dir")
+        + File.separator + ".tmp.testing.folder." + RandomFactory.getRandomValue(String.class));
+    child = new File(root, "child");
+    Assert.assertTrue(new File(child, "grandchild").mkdirs());
+    Assert.assertTrue(new File(root, "First.class").createNewFile());
+    Assert.assertTrue(new File(root, "resource.properties").createNewFile());
+    Assert.assertTrue(new File(child, "Second.class").createNewFile());
+  }
+
+  @After
+  public void tearDown() {
+    PackageDirectoryTree.clear();
+    delete(root);
+  }
+
+  @Test
+  public void shouldHoldEveryDirectoryUnderTheRoot() {
+    PackageDirectoryTree tree = PackageDirectoryTree.getInstance(root);
+
+    Assert.assertEquals(new HashSet<String>(Arrays.asList("First.class")), tree.getClassFileNames(root));
+    Assert.assertEquals(new HashSet<String>(Arrays.asList("child")), tree.getDirectoryNames(root));
+    Assert.assertEquals(new HashSet<String>(Arrays.asList("Second.class")), tree.getClassFileNames(child));
+    Assert.assertEquals(new HashSet<String>(Arrays.asList("grandchild")), tree.getDirectoryNames(child));
+    Assert.assertTrue(tree.getClassFileNames(new File(child, "grandchild")).isEmpty());
+  }
+
+  @Test
+  public void shouldReuseTreeOfParentDirectory() {
+    PackageDirectoryTree tree = PackageDirectoryTree.getInstance(root);
+    Assert.assertSame(tree, PackageDirectoryTree.getInstance(child));
+    Assert.assertSame(tree, PackageDirectoryTree.getInstance(new File(child, "grandchild")));
+  }
+
+  @Test
+  public void shouldWalkAgainWhenDirectoryChanged() throws IOException {
+    PackageDirectoryTree tree = PackageDirectoryTree.getInstance(root);
+
+    Assert.assertTrue(new File(child, "Third.class").createNewFile());
+    Assert.assertTrue(child.setLastModified(child.lastModified() - 10000));
+
+    PackageDirectoryTree updated = PackageDirectoryTree.getInstance(child);
+    Assert.assertNotSame(tree, updated);
+    Assert.assertEquals(new HashSet<String>(Arrays.asList("Second.class", "Third.class")),
+        updated.getClassFileNames(child));
+  }
+
+  @Test
+  public void shouldReplaceStaleParentTreeWhenWalkedAgain() throws IOException {
+    PackageDirectoryTree tree = PackageDirectoryTree.getInstance(root);
+    PackageDirectoryTree.getInstance(new File(child, "grandchild"));
+
+    Assert.assertTrue(new File(child, "Third.class").createNewFile());
+    Assert.assertTrue(child.setLastModified(child.lastModified() - 10000));
+
+    PackageDirectoryTree updated = PackageDirectoryTree.getInstance(child);
+    Assert.assertNotSame(tree, updated);
+    Assert.assertSame(updated, PackageDirectoryTree.getInstance(root));
+    Assert.assertSame(updated, PackageDirectoryTree.getInstance(new File(child, "grandchild")));
+  }
+
+  @Test
+  public void shouldReplaceTreesOfSubDirectoriesWhenParentIsWalked() {
+    PackageDirectoryTree childTree = PackageDirectoryTree.getInstance(child);
+    PackageDirectoryTree rootTree = PackageDirectoryTree.getInstance(root);
+
+    Assert.assertNotSame(childTree, rootTree);
+    Assert.assertSame(rootTree, PackageDirectoryTree.getInstance(child));
+  }
+
+  @Test
+  public void shouldNotWalkAgainForMissingDirectoryUnderTree() {
+    PackageDirectoryTree tree = PackageDirectoryTree.getInstance(root);
+    Assert.assertSame(tree, PackageDirectoryTree.getInstance(new File(root, "missing")));
+  }
+
+  @Test
+  public void shouldFindDirectoryReachedThroughSymbolicLink() throws Exception {
+    File link = new File(root, "link");
+    Assume.assumeTrue("symbolic links are not supported, skipping test", createSymbolicLink(link, child));
+
+    PackageDirectoryTree tree = PackageDirectoryTree.getInstance(root);
+    Assert.assertEquals(new HashSet<String>(Arrays.asList("Second.class")), tree.getClassFileNames(link));
+    Assert.assertEquals(new HashSet<String>(Arrays.asList("Second.class")), tree.getClassFileNames(child));
+    Assert.assertSame(tree, PackageDirectoryTree.getInstance(link));
+  }
+
+  @Test
+  public void fileSystemReaderShouldSeeChangedDirectory() throws IOException {
+    FileSystemReader reader = FileSystemReader.getInstance(child);
+    Assert.assertEquals(new HashSet<String>(Arrays.asList("child.grandchild")),
+        reader.getSubPackagesOfPackage("child"));
+
+    Assert.assertTrue(new File(child, "other").mkdir());
+    Assert.assertTrue(child.setLastModified(child.lastModified() - 10000));
+
+    Assert.assertEquals(new HashSet<String>(Arrays.asList("child.grandchild", "child.other")),
+        reader.getSubPackagesOfPackage("child"));
+  }
+
+  @Test
+  public void shouldReturnEmptyForMissingDirectory() {
+    File missing = new File(root, "missing");
+    PackageDirectoryTree tree = PackageDirectoryTree.getInstance(missing);
+    Assert.assertTrue(tree.getClassFileNames(missing).isEmpty());
+    Assert.assertTrue(tree.getDirectoryNames(missing).isEmpty());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void lookupsShouldBeUnmodifiable() {
+    PackageDirectoryTree.getInstance(root).getClassFileNames(root).add("Other.class");
+  }
+
+  private static boolean createSymbolicLink(File link, File target) throws InterruptedException {
+    try {
+      Process process = new ProcessBuilder("ln", "-s", target.getAbsolutePath(), link.getAbsolutePath()).start();
+      return process.waitFor() == 0 && link.isDirectory();
+    } catch (IOException e) {
+      return false;
+    }
+  }
+
+  private static void delete(File file) {
+    File[] entries = file.listFiles();
+    if (entries != null)
+      for (File entry : entries)
+        delete(entry);
+    file.delete();
+  }
+}
@@ -19,6 +19,10 @@
 package com.openpojo.reflection.java.packageloader.utils;
 
 import com.openpojo.random.RandomFactory;
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.filters.FilterChain;
+import com.openpojo.reflection.filters.FilterEnum;
 import com.openpojo.reflection.java.Java;
 import org.junit.Assert;
 import org.junit.Test;
@@ -65,6 +69,20 @@ public class HelperTest {
     Assert.assertThat(Helper.getDirectSubPackageName(somePackage, grandChild), is(nullValue()));
   }
 
+  @Test
+  public void classDescriptorsAreOnlyReadForFiltersThatCanUseThem() {
+    PojoClassFilter pojoClassFilter = new PojoClassFilter() {
+      public boolean include(PojoClass pojoClass) {
+        return true;
+      }
+    };
+
+    Assert.assertFalse(Helper.usesClassDescriptor(null));
+    Assert.assertFalse(Helper.usesClassDescriptor(new FilterChain(pojoClassFilter)));
+    Assert.assertTrue(Helper.usesClassDescriptor(new FilterEnum()));
+    Assert.assertTrue(Helper.usesClassDescriptor(new FilterChain(pojoClassFilter, new FilterEnum())));
+  }
+
   @Test
   public void returnsFalseWhenEntryIsNullAndIsClass() {
     Assert.assertFalse("Should return false for isClass and null", Helper.isClass(null));
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.packageloader.utils;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Set;
+
+import com.openpojo.log.LoggerFactory;
+import com.openpojo.validation.affirm.Affirm;
+import org.junit.Test;
+
+/**
+ * Benchmark for walking every package of a large class path, through the index versus scanning all class names.
+ *
+ * @author oshoukry
+ */
+public class PackageIndexBenchmark {
+  private static final int PACKAGES = 10;
+  private static final int CLASSES_PER_PACKAGE = 150;
+
+  @Test
+  public void recursiveWalkShouldNotScanAllClassNames() {
+    Set<String> classNames = new HashSet<String>();
+    for (int first = 0; first < PACKAGES; first++)
+      for (int second = 0; second < PACKAGES; second++)
+        for (int clazz = 0; clazz < CLASSES_PER_PACKAGE; clazz++)
+          classNames.add("com.p" + first + ".q" + second + ".Class" + clazz);
+
+    long start = System.nanoTime();
+    PackageIndex packageIndex = new PackageIndex(classNames);
+    int indexedCount = walk(packageIndex, classNames, true);
+    long indexedCost = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    int scannedCount = walk(packageIndex, classNames, false);
+    long scannedCost = System.nanoTime() - start;
+
+    Affirm.affirmEquals("Walks found different classes", scannedCount, indexedCount);
+    LoggerFactory.getLogger(PackageIndexBenchmark.class).info("Recursive walk over [{0}] classes, indexed "
+        + "[{1}ms] scanned [{2}ms]", classNames.size(), indexedCost / 1000000, scannedCost / 1000000);
+  }
+
+  private static int walk(PackageIndex packageIndex, Set<String> classNames, boolean indexed) {
+    int count = 0;
+    LinkedList<String> pending = new LinkedList<String>();
+    pending.add("com");
+    while (!pending.isEmpty()) {
+      String packageName = pending.removeFirst();
+      if (indexed) {
+        count += packageIndex.getClassNames(packageName).size();
+        pending.addAll(packageIndex.getSubPackages(packageName));
+      } else {
+        for (String className : classNames)
+          if (className.substring(0, className.lastIndexOf('.')).equals(packageName))
+            count++;
+        pending.addAll(Helper.getSubPackagesOfPackage(classNames, packageName));
+      }
+    }
+    return count;
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.java.packageloader.utils;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class PackageIndexTest {
+  private static final Set<String> CLASS_NAMES = new HashSet<String>(Arrays.asList(
+      "DefaultPackageClass",
+      "com.ClassInCom",
+      "com.openpojo.parent.First",
+      "com.openpojo.parent.Second",
+      "com.openpojo.parent.child.Third",
+      "com.openpojo.parent.child.grandchild.Fourth",
+      "com.openpojo.parentalso.Fifth",
+      "org.other.Sixth"));
+
+  private final PackageIndex packageIndex = new PackageIndex(CLASS_NAMES);
+
+  @Test
+  public void shouldReturnClassesDirectlyInPackage() {
+    Assert.assertEquals(new HashSet<String>(Arrays.asList("com.openpojo.parent.First", "com.openpojo.parent.Second")),
+        packageIndex.getClassNames("com.openpojo.parent"));
+    Assert.assertEquals(new HashSet<String>(Arrays.asList("DefaultPackageClass")), packageIndex.getClassNames(""));
+    Assert.assertTrue(packageIndex.getClassNames("com.openpojo").isEmpty());
+    Assert.assertTrue(packageIndex.getClassNames("does.not.exist").isEmpty());
+  }
+
+  @Test
+  public void shouldReturnAllClassNames() {
+    Assert.assertEquals(CLASS_NAMES, packageIndex.getClassNames());
+    Assert.assertTrue(packageIndex.getClassNames().contains("com.openpojo.parent.child.Third"));
+    Assert.assertFalse(packageIndex.getClassNames("com.openpojo.parent").contains("com.openpojo.parent.child.Third"));
+  }
+
+  @Test
+  public void shouldIgnoreDuplicateClassNames() {
+    PackageIndex index = new PackageIndex(Arrays.asList("com.Duplicate", "com.Duplicate", "com.Other"));
+    Assert.assertEquals(2, index.getClassNames("com").size());
+    Assert.assertEquals(2, index.getClassNames().size());
+  }
+
+  @Test
+  public void shouldMatchFullScanForEveryPackage() {
+    String[] packageNames = { "", "com", "com.openpojo", "com.openpojo.parent", "com.openpojo.parent.child",
+        "com.openpojo.parent.child.grandchild", "com.openpojo.parentalso", "org", "org.other", "net" };
+
+    for (String packageName : packageNames) {
+      Assert.assertEquals("Sub-packages mismatch for [" + packageName + "]",
+          Helper.getSubPackagesOfPackage(CLASS_NAMES, packageName), packageIndex.getSubPackages(packageName));
+      Assert.assertEquals("hasPackage mismatch for [" + packageName + "]", hasPackageByScan(packageName),
+          packageIndex.hasPackage(packageName));
+    }
+    Assert.assertEquals(packageIndex.getSubPackages(""), packageIndex.getSubPackages(null));
+  }
+
+  @Test
+  public void shouldReturnDirectSubPackageOfRoot() {
+    Assert.assertEquals("com", Helper.getDirectSubPackageName(null, "com.openpojo"));
+    Assert.assertEquals("com", Helper.getDirectSubPackageName("", "com"));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void lookupsShouldBeUnmodifiable() {
+    packageIndex.getSubPackages("com").add("com.other");
+  }
+
+  private static boolean hasPackageByScan(String packageName) {
+    for (String className : CLASS_NAMES)
+      if (className.startsWith(packageName + "."))
+        return true;
+    return false;
+  }
+}
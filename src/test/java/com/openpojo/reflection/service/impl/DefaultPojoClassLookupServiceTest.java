@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010-2018 Osman Shoukry
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.openpojo.reflection.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.openpojo.reflection.PojoClass;
+import com.openpojo.reflection.PojoClassFilter;
+import com.openpojo.reflection.PojoClassVisitor;
+import com.openpojo.reflection.impl.PojoClassFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author oshoukry
+ */
+public class DefaultPojoClassLookupServiceTest {
+  private static final String SCANNED_PACKAGE = "com.openpojo.reflection";
+
+  @After
+  public void tearDown() {
+    DefaultPojoClassLookupService.setScanExecutor(null);
+    DefaultPojoClassLookupService.setMaxPendingScans(DefaultPojoClassLookupService.DEFAULT_MAX_PENDING_SCANS);
+  }
+
+  @Test
+  public void parallelScanShouldReturnSameClassesInSameOrder() {
+    List<String> serial = getNames(PojoClassFactory.getPojoClassesRecursively(SCANNED_PACKAGE, null));
+
+    DefaultPojoClassLookupService.setScanThreads(4);
+    List<PojoClass> parallelPojoClasses = PojoClassFactory.getPojoClassesRecursively(SCANNED_PACKAGE, null);
+
+    Assert.assertTrue(serial.size() > 100);
+    Assert.assertEquals(serial, getNames(parallelPojoClasses));
+    for (PojoClass pojoClass : parallelPojoClasses)
+      Assert.assertSame(pojoClass, PojoClassFactory.getPojoClass(pojoClass.getClazz()));
+  }
+
+  @Test
+  public void visitorShouldSeeSameClassesInSameOrder() {
+    List<String> expected = getNames(PojoClassFactory.getPojoClassesRecursively(SCANNED_PACKAGE, null));
+    Assert.assertEquals(expected, getVisitedNames());
+
+    DefaultPojoClassLookupService.setScanThreads(4);
+    Assert.assertEquals(expected, getVisitedNames());
+  }
+
+  @Test
+  public void parallelScanShouldBoundPendingPackageScans() {
+    final int maxPendingScans = 2;
+    List<String> expected = getVisitedNames();
+
+    final ThreadPoolExecutor executor = new ThreadPoolExecutor(4, 4, 0, TimeUnit.MILLISECONDS,
+        new LinkedBlockingQueue<Runnable>());
+    DefaultPojoClassLookupService.setScanExecutor(executor);
+    DefaultPojoClassLookupService.setMaxPendingScans(maxPendingScans);
+    try {
+      final List<Long> submittedOnFirstVisit = new ArrayList<Long>();
+      final List<String> visited = new ArrayList<String>();
+      PojoClassFactory.forEachPojoClassRecursively(SCANNED_PACKAGE, null, new PojoClassVisitor() {
+        public void visit(PojoClass pojoClass) {
+          if (visited.isEmpty())
+            submittedOnFirstVisit.add(executor.getTaskCount());
+          visited.add(pojoClass.getName());
+        }
+      });
+
+      Assert.assertEquals(expected, visited);
+      // the root package, visited first, and the scans submitted ahead of it.
+      Assert.assertTrue("Too many pending scans " + submittedOnFirstVisit,
+          submittedOnFirstVisit.get(0) <= 1 + maxPendingScans);
+      Assert.assertTrue(executor.getTaskCount() > 1 + maxPendingScans);
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void maxPendingScansShouldBeAtLeastOne() {
+    DefaultPojoClassLookupService.setMaxPendingScans(0);
+    Assert.assertEquals(1, DefaultPojoClassLookupService.getMaxPendingScans());
+  }
+
+  @Test
+  public void parallelScanShouldRethrowFailures() {
+    final IllegalStateException failure = new IllegalStateException("filter failure");
+    DefaultPojoClassLookupService.setScanThreads(2);
+    try {
+      PojoClassFactory.getPojoClassesRecursively(SCANNED_PACKAGE, new PojoClassFilter() {
+        public boolean include(PojoClass pojoClass) {
+          throw failure;
+        }
+      });
+      Assert.fail("Expected filter failure to be rethrown");
+    } catch (IllegalStateException e) {
+      Assert.assertSame(failure, e);
+    }
+  }
+
+  @Test
+  public void singleThreadShouldScanOnCallingThread() {
+    DefaultPojoClassLookupService.setScanThreads(3);
+    Assert.assertNotNull(DefaultPojoClassLookupService.getScanExecutor());
+
+    DefaultPojoClassLookupService.setScanThreads(1);
+    Assert.assertNull(DefaultPojoClassLookupService.getScanExecutor());
+  }
+
+  private static List<String> getVisitedNames() {
+    final List<String> names = new ArrayList<String>();
+    PojoClassFactory.forEachPojoClassRecursively(SCANNED_PACKAGE, null, new PojoClassVisitor() {
+      public void visit(PojoClass pojoClass) {
+        names.add(pojoClass.getName());
+      }
+    });
+    return names;
+  }
+
+  private static List<String> getNames(List<PojoClass> pojoClasses) {
+    List<String> names = new ArrayList<String>();
+    for (PojoClass pojoClass : pojoClasses)
+      names.add(pojoClass.getName());
+    return names;
+  }
+}
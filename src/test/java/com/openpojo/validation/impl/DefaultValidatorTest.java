@@ -81,6 +81,47 @@ public class DefaultValidatorTest {
     assertInvokedClasses(filterSpy.getInvocations(), DummyClass.class.getName(), AnotherDummyClass.class.getName());
   }
 
+  @Test
+  public void validateEachRecursivelyShouldValidateWithoutCollecting() {
+    TesterSpy testerSpy = new TesterSpy();
+    List<Tester> testers = new ArrayList<Tester>();
+    testers.add(testerSpy);
+
+    RuleSpy ruleSpy = new RuleSpy();
+    List<Rule> rules = new ArrayList<Rule>();
+    rules.add(ruleSpy);
+
+    DefaultValidator defaultValidator = new DefaultValidator(rules, testers);
+    String packageName = this.getClass().getPackage().getName() + ".sample";
+    Assert.assertEquals(2, defaultValidator.validateEachRecursively(packageName, new FilterSpy()));
+
+    assertInvokedClasses(testerSpy.getInvocations(), DummyClass.class.getName(), AnotherDummyClass.class.getName());
+    assertInvokedClasses(ruleSpy.getInvocations(), DummyClass.class.getName(), AnotherDummyClass.class.getName());
+  }
+
+  @Test
+  public void recursiveValidationShouldValidateEachPackageBeforeScanningTheNext() {
+    final List<String> events = new ArrayList<String>();
+    List<Tester> testers = new ArrayList<Tester>();
+    testers.add(new Tester() {
+      public void run(PojoClass pojoClass) {
+        events.add("validated " + pojoClass.getName());
+      }
+    });
+
+    DefaultValidator defaultValidator = new DefaultValidator(new ArrayList<Rule>(), testers);
+    String packageName = this.getClass().getPackage().getName() + ".sample";
+    defaultValidator.validateRecursively(packageName, new PojoClassFilter() {
+      public boolean include(PojoClass pojoClass) {
+        events.add("scanned " + pojoClass.getName());
+        return true;
+      }
+    });
+
+    Assert.assertTrue(events.indexOf("validated " + DummyClass.class.getName())
+        < events.indexOf("scanned " + AnotherDummyClass.class.getName()));
+  }
+
   private void assertInvokedClasses(List<String> invocations, String... classNames) {
     Assert.assertEquals(classNames.length, invocations.size());
 